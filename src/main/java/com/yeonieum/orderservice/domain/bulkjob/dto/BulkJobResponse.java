@@ -0,0 +1,67 @@
+package com.yeonieum.orderservice.domain.bulkjob.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.yeonieum.orderservice.domain.bulkjob.entity.BulkJob;
+import com.yeonieum.orderservice.global.enums.BulkJobStatus;
+import com.yeonieum.orderservice.global.enums.BulkJobType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+public class BulkJobResponse {
+
+    @Getter
+    @Builder
+    public static class OfSubmission {
+        Long bulkJobId;
+        BulkJobStatus status;
+        int totalCount;
+
+        public static OfSubmission convertedBy(BulkJob bulkJob) {
+            return OfSubmission.builder()
+                    .bulkJobId(bulkJob.getBulkJobId())
+                    .status(bulkJob.getStatus())
+                    .totalCount(bulkJob.getTotalCount())
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class OfStatus {
+        Long bulkJobId;
+        BulkJobType jobType;
+        BulkJobStatus status;
+        int totalCount;
+        int processedCount;
+        int succeededCount;
+        int skippedCount;
+        int failedCount;
+        String failureReason;
+        // 완료된 작업의 주문별 처리 결과(succeeded, skipped, failed)
+        @JsonRawValue
+        String result;
+        LocalDateTime submittedDateTime;
+        LocalDateTime startedDateTime;
+        LocalDateTime finishedDateTime;
+
+        public static OfStatus convertedBy(BulkJob bulkJob) {
+            return OfStatus.builder()
+                    .bulkJobId(bulkJob.getBulkJobId())
+                    .jobType(bulkJob.getJobType())
+                    .status(bulkJob.getStatus())
+                    .totalCount(bulkJob.getTotalCount())
+                    .processedCount(bulkJob.getProcessedCount())
+                    .succeededCount(bulkJob.getSucceededCount())
+                    .skippedCount(bulkJob.getSkippedCount())
+                    .failedCount(bulkJob.getFailedCount())
+                    .failureReason(bulkJob.getFailureReason())
+                    .result(bulkJob.getResultPayload())
+                    .submittedDateTime(bulkJob.getSubmittedDateTime())
+                    .startedDateTime(bulkJob.getStartedDateTime())
+                    .finishedDateTime(bulkJob.getFinishedDateTime())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.yeonieum.orderservice.domain.bulkjob.entity;
+
+import com.yeonieum.orderservice.global.enums.BulkJobStatus;
+import com.yeonieum.orderservice.global.enums.BulkJobType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기로 실행되는 일괄 상태 변경 작업
+ * 요청 본문을 그대로 보관하고, 워커가 chunk 단위로 처리하며 진행률과 결과를 갱신한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "bulk_job", indexes = {
+        @Index(name = "idx_bulk_job_status", columnList = "status, bulk_job_id"),
+        @Index(name = "idx_bulk_job_customer", columnList = "customer_id, bulk_job_id")
+})
+public class BulkJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "bulk_job_id")
+    private Long bulkJobId;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "role_type", nullable = false)
+    private String roleType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false)
+    private BulkJobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private BulkJobStatus status;
+
+    @Column(name = "request_payload", columnDefinition = "LONGTEXT", nullable = false)
+    private String requestPayload;
+
+    @Column(name = "result_payload", columnDefinition = "LONGTEXT")
+    private String resultPayload;
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
+    @Column(name = "total_count", nullable = false)
+    private int totalCount;
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    @Column(name = "succeeded_count", nullable = false)
+    private int succeededCount;
+
+    @Column(name = "skipped_count", nullable = false)
+    private int skippedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+
+    @Column(name = "submitted_date_time", nullable = false)
+    private LocalDateTime submittedDateTime;
+
+    @Column(name = "started_date_time")
+    private LocalDateTime startedDateTime;
+
+    // 실행 중인 워커가 진행률과 무관하게 bulk-job.heartbeat-interval-millis 마다 갱신한다.
+    @Column(name = "heartbeat_date_time")
+    private LocalDateTime heartbeatDateTime;
+
+    // 선점할 때마다 새로 발급되며, 진행률/완료 갱신은 이 값이 같을 때만 반영된다.
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "finished_date_time")
+    private LocalDateTime finishedDateTime;
+}
@@ -0,0 +1,11 @@
+package com.yeonieum.orderservice.domain.bulkjob.exception;
+
+import com.yeonieum.orderservice.global.exceptions.exception.CustomException;
+import org.springframework.http.HttpStatus;
+
+public class BulkJobException extends CustomException {
+
+    public BulkJobException(BulkJobExceptionCode bulkJobExceptionCode, HttpStatus status) {
+        super(bulkJobExceptionCode, status);
+    }
+}
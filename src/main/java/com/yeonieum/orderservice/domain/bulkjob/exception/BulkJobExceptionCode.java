@@ -0,0 +1,28 @@
+package com.yeonieum.orderservice.domain.bulkjob.exception;
+
+import com.yeonieum.orderservice.global.exceptions.code.CustomExceptionCode;
+
+public enum BulkJobExceptionCode implements CustomExceptionCode {
+
+    BULK_JOB_NOT_FOUND(13000, "존재하지 않는 일괄 작업 ID 입니다."),
+    EMPTY_BULK_JOB(13001, "일괄 작업에 포함된 주문이 없습니다."),
+    BULK_JOB_CLAIM_LOST(13002, "다른 워커가 다시 선점한 일괄 작업입니다.");
+
+    private final int code;
+    private final String message;
+
+    BulkJobExceptionCode(int code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+
+    @Override
+    public int getCode() {
+        return code;
+    }
+
+    @Override
+    public String getMessage() {
+        return this.message;
+    }
+}
@@ -0,0 +1,90 @@
+package com.yeonieum.orderservice.domain.bulkjob.repository;
+
+import com.yeonieum.orderservice.domain.bulkjob.entity.BulkJob;
+import com.yeonieum.orderservice.global.enums.BulkJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface BulkJobRepository extends JpaRepository<BulkJob, Long> {
+
+    List<BulkJob> findByStatusAndBulkJobIdGreaterThanOrderByBulkJobIdAsc(BulkJobStatus status, Long bulkJobId, Pageable pageable);
+
+    Optional<BulkJob> findByBulkJobIdAndCustomerId(Long bulkJobId, Long customerId);
+
+    /**
+     * 대기 중인 작업을 실행 상태로 선점한다.
+     * 여러 인스턴스가 같은 작업을 가져가더라도 한 곳만 1을 돌려받는다.
+     * 이후 heartbeat/진행률/완료 갱신은 claimToken 이 같을 때만 반영되므로, 다시 대기 상태로 돌아가 재선점된 작업을
+     * 이전 실행이 덮어쓰지 못한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkJob j SET j.status = :running, j.claimToken = :claimToken, " +
+            "j.startedDateTime = :startedDateTime, j.heartbeatDateTime = :startedDateTime " +
+            "WHERE j.bulkJobId = :bulkJobId AND j.status = :queued")
+    int claim(@Param("bulkJobId") Long bulkJobId,
+              @Param("queued") BulkJobStatus queued,
+              @Param("running") BulkJobStatus running,
+              @Param("claimToken") String claimToken,
+              @Param("startedDateTime") LocalDateTime startedDateTime);
+
+    /**
+     * 실행 중인 작업의 heartbeat 를 갱신한다. 선점을 잃었으면 0을 돌려준다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkJob j SET j.heartbeatDateTime = :heartbeatDateTime " +
+            "WHERE j.bulkJobId = :bulkJobId AND j.claimToken = :claimToken AND j.status = :running")
+    int heartbeat(@Param("bulkJobId") Long bulkJobId,
+                  @Param("claimToken") String claimToken,
+                  @Param("running") BulkJobStatus running,
+                  @Param("heartbeatDateTime") LocalDateTime heartbeatDateTime);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkJob j SET j.processedCount = :processedCount, j.succeededCount = :succeededCount, " +
+            "j.skippedCount = :skippedCount, j.failedCount = :failedCount, j.heartbeatDateTime = :heartbeatDateTime " +
+            "WHERE j.bulkJobId = :bulkJobId AND j.claimToken = :claimToken AND j.status = :running")
+    int updateProgress(@Param("bulkJobId") Long bulkJobId,
+                       @Param("claimToken") String claimToken,
+                       @Param("running") BulkJobStatus running,
+                       @Param("processedCount") int processedCount,
+                       @Param("succeededCount") int succeededCount,
+                       @Param("skippedCount") int skippedCount,
+                       @Param("failedCount") int failedCount,
+                       @Param("heartbeatDateTime") LocalDateTime heartbeatDateTime);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkJob j SET j.status = :status, j.resultPayload = :resultPayload, j.failureReason = :failureReason, " +
+            "j.finishedDateTime = :finishedDateTime " +
+            "WHERE j.bulkJobId = :bulkJobId AND j.claimToken = :claimToken AND j.status = :running")
+    int finish(@Param("bulkJobId") Long bulkJobId,
+               @Param("claimToken") String claimToken,
+               @Param("running") BulkJobStatus running,
+               @Param("status") BulkJobStatus status,
+               @Param("resultPayload") String resultPayload,
+               @Param("failureReason") String failureReason,
+               @Param("finishedDateTime") LocalDateTime finishedDateTime);
+
+    /**
+     * 실행 도중 인스턴스가 종료되어 heartbeat 가 끊긴 작업을 다시 대기 상태로 돌린다.
+     * heartbeat 는 slice 진행과 무관하게 갱신되므로, 오래 걸리는 slice 를 실행 중인 작업은 돌려지지 않는다.
+     * 선점 토큰을 비워 이전 실행의 진행률/완료 갱신이 더 이상 반영되지 않게 한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkJob j SET j.status = :queued, j.startedDateTime = NULL, j.claimToken = NULL " +
+            "WHERE j.status = :running AND j.heartbeatDateTime < :staleBefore")
+    int requeueStale(@Param("queued") BulkJobStatus queued,
+                     @Param("running") BulkJobStatus running,
+                     @Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -0,0 +1,144 @@
+package com.yeonieum.orderservice.domain.bulkjob.service;
+
+import com.yeonieum.orderservice.domain.bulkjob.entity.BulkJob;
+import com.yeonieum.orderservice.domain.bulkjob.repository.BulkJobRepository;
+import com.yeonieum.orderservice.global.enums.BulkJobStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일괄 작업 워커 풀
+ * bulk_job 테이블의 대기 작업을 주기적으로 읽어 고객별 가중 공정 큐에 넣고, 고정된 수의 워커가 큐에서 꺼내 실행한다.
+ * 워커 수가 DB 커넥션을 점유하는 일괄 작업의 동시 실행 수 상한이 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkJobDispatcher {
+    private final BulkJobRepository bulkJobRepository;
+    private final BulkJobRunner bulkJobRunner;
+    private final Set<Long> enqueuedJobIds = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Integer> customerWeights = new HashMap<>();
+    private WeightedFairJobQueue jobQueue;
+    private ExecutorService workers;
+    // 스케줄러만 접근하지만 실행마다 스레드가 바뀔 수 있으므로 volatile
+    private volatile long lastPolledJobId = 0L;
+
+    @Value("${bulk-job.worker-count:4}")
+    private int workerCount;
+
+    // 고객이 차례마다 적립하는 처리 한도(주문 수)
+    @Value("${bulk-job.fair-queue.quantum:500}")
+    private long quantum;
+
+    // 고객별 가중치 (예: 1:3,2:2), 지정하지 않은 고객은 1
+    @Value("${bulk-job.fair-queue.customer-weights:}")
+    private String customerWeightsProperty;
+
+    @Value("${bulk-job.poll-batch-size:100}")
+    private int pollBatchSize;
+
+    @Value("${bulk-job.stale-after-minutes:30}")
+    private long staleAfterMinutes;
+
+    @PostConstruct
+    public void start() {
+        for (String entry : customerWeightsProperty.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] customerWeight = entry.trim().split(":");
+            customerWeights.put(Long.valueOf(customerWeight[0].trim()), Integer.valueOf(customerWeight[1].trim()));
+        }
+        jobQueue = new WeightedFairJobQueue(quantum, customerId -> customerWeights.getOrDefault(customerId, 1));
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-job-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int index = 0; index < workerCount; index++) {
+            workers.execute(this::workLoop);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        // 실행 중이던 작업은 heartbeat가 끊긴 뒤 다른 인스턴스가 다시 대기 상태로 돌린다.
+        workers.shutdownNow();
+    }
+
+    /**
+     * 작업을 이 인스턴스의 큐에 넣는다. 이미 큐에 있는 작업은 무시한다.
+     */
+    public void enqueue(BulkJob bulkJob) {
+        if (enqueuedJobIds.add(bulkJob.getBulkJobId())) {
+            jobQueue.offer(new WeightedFairJobQueue.Ticket(bulkJob.getBulkJobId(), bulkJob.getCustomerId(), Math.max(1, bulkJob.getTotalCount())));
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 제출되었거나 다시 대기 상태로 돌아온 작업을 가져온다.
+     * ID 커서로 나누어 읽어 한 고객의 대기 작업이 많아도 다른 고객의 작업이 큐에 들어오도록 하고, 끝까지 읽으면 처음부터 다시 읽는다.
+     * fixedDelay 스케줄은 이전 실행이 끝난 뒤에만 다시 실행되므로 커서에 락을 걸지 않는다. (DB 호출 중 모니터를 잡으면 가상 스레드가 캐리어에 고정됨)
+     */
+    @Scheduled(fixedDelayString = "${bulk-job.poll-interval-millis:2000}")
+    public void pollQueuedJobs() {
+        int requeuedCount = bulkJobRepository.requeueStale(BulkJobStatus.QUEUED, BulkJobStatus.RUNNING,
+                LocalDateTime.now().minusMinutes(staleAfterMinutes));
+        if (requeuedCount > 0) {
+            log.warn("중단된 일괄 작업 {}건을 다시 대기 상태로 변경", requeuedCount);
+        }
+
+        List<BulkJob> queuedJobs = bulkJobRepository.findByStatusAndBulkJobIdGreaterThanOrderByBulkJobIdAsc(
+                BulkJobStatus.QUEUED, lastPolledJobId, PageRequest.of(0, pollBatchSize));
+        queuedJobs.forEach(this::enqueue);
+        lastPolledJobId = queuedJobs.size() < pollBatchSize ? 0L : queuedJobs.get(queuedJobs.size() - 1).getBulkJobId();
+    }
+
+    public int queuedJobCount() {
+        return jobQueue.size();
+    }
+
+    private void workLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            WeightedFairJobQueue.Ticket ticket;
+            try {
+                ticket = jobQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                // 다른 인스턴스가 먼저 선점한 작업은 건너뜀
+                String claimToken = UUID.randomUUID().toString();
+                if (bulkJobRepository.claim(ticket.bulkJobId(), BulkJobStatus.QUEUED, BulkJobStatus.RUNNING, claimToken, LocalDateTime.now()) == 1) {
+                    bulkJobRepository.findById(ticket.bulkJobId()).ifPresent(bulkJob -> bulkJobRunner.run(bulkJob, claimToken));
+                }
+            } catch (RuntimeException e) {
+                log.error("일괄 작업 처리 실패: bulkJobId={}", ticket.bulkJobId(), e);
+            } finally {
+                enqueuedJobIds.remove(ticket.bulkJobId());
+            }
+        }
+    }
+}
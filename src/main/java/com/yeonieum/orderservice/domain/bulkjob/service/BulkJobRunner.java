@@ -0,0 +1,170 @@
+package com.yeonieum.orderservice.domain.bulkjob.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yeonieum.orderservice.domain.bulkjob.entity.BulkJob;
+import com.yeonieum.orderservice.domain.bulkjob.exception.BulkJobException;
+import com.yeonieum.orderservice.domain.bulkjob.repository.BulkJobRepository;
+import com.yeonieum.orderservice.domain.notification.service.OrderNotificationServiceForCustomer;
+import com.yeonieum.orderservice.domain.order.dto.request.OrderRequest;
+import com.yeonieum.orderservice.domain.order.dto.response.OrderResponse;
+import com.yeonieum.orderservice.domain.order.service.OrderProcessService;
+import com.yeonieum.orderservice.domain.release.dto.ReleaseRequest;
+import com.yeonieum.orderservice.domain.release.service.ReleaseService;
+import com.yeonieum.orderservice.global.enums.BulkJobStatus;
+import com.yeonieum.orderservice.global.responses.BulkProcessResult;
+import com.yeonieum.orderservice.global.usercontext.UserContext;
+import com.yeonieum.orderservice.global.usercontext.UserContextHolder;
+import com.yeonieum.orderservice.infrastructure.messaging.service.OrderEventProduceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import static com.yeonieum.orderservice.domain.bulkjob.exception.BulkJobExceptionCode.BULK_JOB_CLAIM_LOST;
+
+/**
+ * 선점한 일괄 작업 한 건을 실행한다.
+ * 주문 ID를 slice 단위로 나누어 부분 성공 방식으로 처리하고, slice가 끝날 때마다 진행률을 기록한다.
+ * heartbeat는 slice와 무관하게 스케줄러에서 주기적으로 갱신하므로, 한 slice가 오래 걸려도 작업이 다시 대기 상태로 돌아가지 않는다.
+ * 진행률/완료 갱신은 선점 토큰이 같을 때만 반영되고, 선점을 잃은 실행은 다음 slice 전에 멈춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkJobRunner {
+    private final BulkJobRepository bulkJobRepository;
+    private final OrderProcessService orderProcessService;
+    private final ReleaseService releaseService;
+    private final OrderEventProduceService orderEventProduceService;
+    private final OrderNotificationServiceForCustomer notificationService;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${bulk-job.progress-slice-size:500}")
+    private int progressSliceSize;
+
+    // bulk-job.stale-after-minutes 보다 충분히 짧아야 한다.
+    @Value("${bulk-job.heartbeat-interval-millis:60000}")
+    private long heartbeatIntervalMillis;
+
+    /**
+     * @param claimToken 작업을 선점할 때 발급한 토큰
+     */
+    public void run(BulkJob bulkJob, String claimToken) {
+        // 외부 서비스 호출 시 요청 헤더로 전달되도록 작업을 제출한 고객의 정보를 바인딩
+        UserContextHolder.Scope scope = UserContextHolder.open(UserContext.builder()
+                .transactionId("bulk-job-" + bulkJob.getBulkJobId())
+                .uniqueId(String.valueOf(bulkJob.getCustomerId()))
+                .roleType(bulkJob.getRoleType())
+                .build());
+        ScheduledFuture<?> heartbeat = taskScheduler.scheduleAtFixedRate(() -> sendHeartbeat(bulkJob, claimToken),
+                Instant.now().plusMillis(heartbeatIntervalMillis), Duration.ofMillis(heartbeatIntervalMillis));
+        int finishedCount;
+        try {
+            BulkProcessResult<String> result = switch (bulkJob.getJobType()) {
+                case ORDER_STATUS -> runOrderStatus(bulkJob, claimToken);
+                case RELEASE_STATUS -> runReleaseStatus(bulkJob, claimToken);
+                case COMBINED_PACKAGING -> runCombinedPackaging(bulkJob, claimToken);
+            };
+            finishedCount = bulkJobRepository.finish(bulkJob.getBulkJobId(), claimToken, BulkJobStatus.RUNNING, BulkJobStatus.COMPLETED,
+                    objectMapper.writeValueAsString(result), null, LocalDateTime.now());
+        } catch (Exception e) {
+            if (e instanceof BulkJobException bulkJobException && bulkJobException.getCustomCode() == BULK_JOB_CLAIM_LOST) {
+                finishedCount = 0;
+            } else {
+                log.error("일괄 작업 실행 실패: bulkJobId={}", bulkJob.getBulkJobId(), e);
+                String reason = e instanceof RuntimeException runtimeException ? BulkProcessResult.reasonOf(runtimeException) : e.getMessage();
+                finishedCount = bulkJobRepository.finish(bulkJob.getBulkJobId(), claimToken, BulkJobStatus.RUNNING, BulkJobStatus.FAILED,
+                        null, reason, LocalDateTime.now());
+            }
+        } finally {
+            heartbeat.cancel(false);
+            scope.close();
+        }
+
+        // 선점을 잃은 실행의 결과는 반영되지 않았으므로, 다시 선점한 실행이 끝날 때 알린다.
+        if (finishedCount == 0) {
+            log.warn("선점을 잃은 일괄 작업의 실행을 중단: bulkJobId={}", bulkJob.getBulkJobId());
+            return;
+        }
+        notificationService.sendBulkJobMessage(bulkJob.getCustomerId(), bulkJob.getBulkJobId());
+    }
+
+    private void sendHeartbeat(BulkJob bulkJob, String claimToken) {
+        try {
+            if (bulkJobRepository.heartbeat(bulkJob.getBulkJobId(), claimToken, BulkJobStatus.RUNNING, LocalDateTime.now()) == 0) {
+                log.warn("일괄 작업의 선점을 잃음: bulkJobId={}", bulkJob.getBulkJobId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("일괄 작업 heartbeat 갱신 실패: bulkJobId={}", bulkJob.getBulkJobId(), e);
+        }
+    }
+
+    private BulkProcessResult<String> runOrderStatus(BulkJob bulkJob, String claimToken) throws JsonProcessingException {
+        OrderRequest.OfBulkUpdateOrderStatus request = objectMapper.readValue(bulkJob.getRequestPayload(), OrderRequest.OfBulkUpdateOrderStatus.class);
+        List<String> orderIds = request.getOrderIds().stream().distinct().toList();
+
+        BulkProcessResult<String> result = new BulkProcessResult<>();
+        for (int from = 0; from < orderIds.size(); from += progressSliceSize) {
+            List<String> slice = orderIds.subList(from, Math.min(from + progressSliceSize, orderIds.size()));
+            BulkProcessResult<OrderResponse.OfResultUpdateStatus> sliceResult = orderProcessService.changeBulkOrderStatusPartially(
+                    bulkJob.getCustomerId(), new OrderRequest.OfBulkUpdateOrderStatus(slice, request.getOrderStatusCode()));
+            // 커밋된 주문에 대해서만 이벤트 발행
+            orderEventProduceService.produceBulkOrderStatusEvents(request.getOrderStatusCode(), sliceResult.getSucceeded());
+            result.merge(sliceResult.mapSucceeded(OrderResponse.OfResultUpdateStatus::getOrderDetailId));
+            reportProgress(bulkJob, claimToken, from + slice.size(), result);
+        }
+        return result;
+    }
+
+    private BulkProcessResult<String> runReleaseStatus(BulkJob bulkJob, String claimToken) throws JsonProcessingException {
+        ReleaseRequest.OfBulkUpdateReleaseStatus request = objectMapper.readValue(bulkJob.getRequestPayload(), ReleaseRequest.OfBulkUpdateReleaseStatus.class);
+        List<String> orderIds = request.getOrderIds().stream().distinct().toList();
+
+        BulkProcessResult<String> result = new BulkProcessResult<>();
+        for (int from = 0; from < orderIds.size(); from += progressSliceSize) {
+            List<String> slice = orderIds.subList(from, Math.min(from + progressSliceSize, orderIds.size()));
+            result.merge(releaseService.changeBulkReleaseStatusPartially(
+                    bulkJob.getCustomerId(), new ReleaseRequest.OfBulkUpdateReleaseStatus(slice, request.getReleaseStatusCode())));
+            reportProgress(bulkJob, claimToken, from + slice.size(), result);
+        }
+        return result;
+    }
+
+    /**
+     * 합포장은 선택한 주문 전체가 하나의 배송으로 묶이므로 나누지 않고 한 번에 처리한다.
+     */
+    private BulkProcessResult<String> runCombinedPackaging(BulkJob bulkJob, String claimToken) throws JsonProcessingException {
+        ReleaseRequest.OfBulkUpdateReleaseStatus request = objectMapper.readValue(bulkJob.getRequestPayload(), ReleaseRequest.OfBulkUpdateReleaseStatus.class);
+
+        BulkProcessResult<String> result = new BulkProcessResult<>();
+        try {
+            releaseService.changeCombinedPackaging(bulkJob.getCustomerId(), request);
+            request.getOrderIds().forEach(result::succeed);
+        } catch (RuntimeException e) {
+            request.getOrderIds().forEach(orderId -> result.fail(orderId, e));
+        }
+        reportProgress(bulkJob, claimToken, request.getOrderIds().size(), result);
+        return result;
+    }
+
+    /**
+     * 진행률을 기록한다. 선점을 잃었으면(다시 대기 상태로 돌아가 다른 실행이 선점) 더 진행하지 않도록 예외를 던진다.
+     */
+    private void reportProgress(BulkJob bulkJob, String claimToken, int processedCount, BulkProcessResult<String> result) {
+        int updatedCount = bulkJobRepository.updateProgress(bulkJob.getBulkJobId(), claimToken, BulkJobStatus.RUNNING, processedCount,
+                result.getSucceeded().size(), result.getSkipped().size(), result.getFailed().size(), LocalDateTime.now());
+        if (updatedCount == 0) {
+            throw new BulkJobException(BULK_JOB_CLAIM_LOST, HttpStatus.CONFLICT);
+        }
+    }
+}
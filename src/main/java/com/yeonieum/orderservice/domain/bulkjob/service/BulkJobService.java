@@ -0,0 +1,70 @@
+package com.yeonieum.orderservice.domain.bulkjob.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yeonieum.orderservice.domain.bulkjob.dto.BulkJobResponse;
+import com.yeonieum.orderservice.domain.bulkjob.entity.BulkJob;
+import com.yeonieum.orderservice.domain.bulkjob.exception.BulkJobException;
+import com.yeonieum.orderservice.domain.bulkjob.repository.BulkJobRepository;
+import com.yeonieum.orderservice.global.enums.BulkJobStatus;
+import com.yeonieum.orderservice.global.enums.BulkJobType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.yeonieum.orderservice.domain.bulkjob.exception.BulkJobExceptionCode.*;
+
+@Service
+@RequiredArgsConstructor
+public class BulkJobService {
+    private final BulkJobRepository bulkJobRepository;
+    private final BulkJobDispatcher bulkJobDispatcher;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 일괄 작업 제출 서비스
+     * 요청 본문을 작업 테이블에 대기 상태로 저장하고 워커 풀의 큐에 넣는다.
+     * @param customerId 고객 ID
+     * @param roleType 제출한 사용자의 권한
+     * @param jobType 작업 유형
+     * @param request 일괄 변경 요청 DTO
+     * @param orderIds 요청에 포함된 주문 ID 목록
+     * @throws BulkJobException 주문 ID가 없는 경우
+     * @return 제출된 작업 ID와 상태
+     */
+    public BulkJobResponse.OfSubmission submitBulkJob(Long customerId, String roleType, BulkJobType jobType,
+                                                      Object request, List<String> orderIds) throws JsonProcessingException {
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new BulkJobException(EMPTY_BULK_JOB, HttpStatus.BAD_REQUEST);
+        }
+
+        BulkJob bulkJob = bulkJobRepository.save(BulkJob.builder()
+                .customerId(customerId)
+                .roleType(roleType)
+                .jobType(jobType)
+                .status(BulkJobStatus.QUEUED)
+                .requestPayload(objectMapper.writeValueAsString(request))
+                .totalCount((int) orderIds.stream().distinct().count())
+                .submittedDateTime(LocalDateTime.now())
+                .build());
+
+        bulkJobDispatcher.enqueue(bulkJob);
+        return BulkJobResponse.OfSubmission.convertedBy(bulkJob);
+    }
+
+    /**
+     * 일괄 작업 진행 상태 조회 서비스
+     * @param customerId 고객 ID
+     * @param bulkJobId 작업 ID
+     * @throws BulkJobException 존재하지 않거나 다른 고객의 작업인 경우
+     * @return 진행률과 완료된 경우 주문별 처리 결과
+     */
+    public BulkJobResponse.OfStatus retrieveBulkJob(Long customerId, Long bulkJobId) {
+        return bulkJobRepository.findByBulkJobIdAndCustomerId(bulkJobId, customerId)
+                .map(BulkJobResponse.OfStatus::convertedBy)
+                .orElseThrow(() -> new BulkJobException(BULK_JOB_NOT_FOUND, HttpStatus.NOT_FOUND));
+    }
+}
@@ -0,0 +1,91 @@
+package com.yeonieum.orderservice.domain.bulkjob.service;
+
+import java.util.*;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * 고객(seller)별 가중 공정 큐 (Deficit Round Robin)
+ * 고객마다 별도의 FIFO 큐를 두고, 차례가 올 때마다 가중치에 비례한 quantum 만큼 처리 한도를 적립한다.
+ * 작업 비용은 포함된 주문 수이므로, 큰 작업을 많이 넣은 고객도 다른 고객의 작은 작업을 오래 막지 못한다.
+ * 워커가 가상 스레드여도 대기 중에 캐리어 스레드를 점유하지 않도록 모니터 대신 ReentrantLock/Condition으로 기다린다.
+ */
+public class WeightedFairJobQueue {
+    private final Map<Long, Deque<Ticket>> queues = new HashMap<>();
+    private final Map<Long, Long> deficits = new HashMap<>();
+    private final Deque<Long> activeCustomers = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final long quantum;
+    private final ToIntFunction<Long> weightResolver;
+
+    public WeightedFairJobQueue(long quantum, ToIntFunction<Long> weightResolver) {
+        this.quantum = quantum;
+        this.weightResolver = weightResolver;
+    }
+
+    public void offer(Ticket ticket) {
+        lock.lock();
+        try {
+            Deque<Ticket> queue = queues.computeIfAbsent(ticket.customerId(), customerId -> new ArrayDeque<>());
+            if (queue.isEmpty()) {
+                activeCustomers.addLast(ticket.customerId());
+                deficits.put(ticket.customerId(), 0L);
+            }
+            queue.addLast(ticket);
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다음에 실행할 작업을 꺼낸다. 대기 중인 작업이 없으면 들어올 때까지 기다린다.
+     */
+    public Ticket take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (activeCustomers.isEmpty()) {
+                notEmpty.await();
+            }
+
+            while (true) {
+                Long customerId = activeCustomers.peekFirst();
+                Deque<Ticket> queue = queues.get(customerId);
+                Ticket head = queue.peekFirst();
+                long deficit = deficits.get(customerId);
+
+                if (deficit >= head.cost()) {
+                    queue.pollFirst();
+                    if (queue.isEmpty()) {
+                        // 대기 작업이 없는 고객은 적립한 한도를 유지하지 않는다.
+                        activeCustomers.pollFirst();
+                        queues.remove(customerId);
+                        deficits.remove(customerId);
+                    } else {
+                        deficits.put(customerId, deficit - head.cost());
+                    }
+                    return head;
+                }
+
+                deficits.put(customerId, deficit + quantum * Math.max(1, weightResolver.applyAsInt(customerId)));
+                activeCustomers.addLast(activeCustomers.pollFirst());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return queues.values().stream().mapToInt(Deque::size).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public record Ticket(Long bulkJobId, Long customerId, int cost) {
+    }
+}
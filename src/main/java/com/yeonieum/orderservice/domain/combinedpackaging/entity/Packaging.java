@@ -4,6 +4,7 @@ import com.yeonieum.orderservice.domain.delivery.entity.Delivery;
 import com.yeonieum.orderservice.domain.order.entity.OrderDetail;
 import com.yeonieum.orderservice.domain.release.entity.Release;
 import com.yeonieum.orderservice.global.auditing.BaseEntity;
+import com.yeonieum.orderservice.global.config.IdGeneratorConfig;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,7 +17,10 @@ import lombok.*;
 public class Packaging extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "packaging_id_generator")
+    @TableGenerator(name = "packaging_id_generator", table = IdGeneratorConfig.TABLE_NAME,
+            pkColumnName = IdGeneratorConfig.SEQUENCE_COLUMN, valueColumnName = IdGeneratorConfig.VALUE_COLUMN,
+            pkColumnValue = "packaging", allocationSize = IdGeneratorConfig.ALLOCATION_SIZE)
     @Column(name = "packaging_id")
     private Long packagingId;
 
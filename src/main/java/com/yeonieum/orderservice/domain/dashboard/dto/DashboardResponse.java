@@ -0,0 +1,33 @@
+package com.yeonieum.orderservice.domain.dashboard.dto;
+
+import com.yeonieum.orderservice.domain.delivery.dto.DeliverySummaryResponse;
+import com.yeonieum.orderservice.domain.order.dto.response.OrderSummaryResponse;
+import com.yeonieum.orderservice.domain.release.dto.ReleaseSummaryResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class DashboardResponse {
+
+    @Getter
+    @Builder
+    public static class OfSnapshot {
+        List<OrderSummaryResponse> orderStatusCounts;
+        List<ReleaseSummaryResponse> releaseStatusCounts;
+        List<DeliverySummaryResponse> deliveryStatusCounts;
+        LocalDateTime snapshotDateTime;
+
+        public static OfSnapshot convertedBy(List<OrderSummaryResponse> orderStatusCounts,
+                                             List<ReleaseSummaryResponse> releaseStatusCounts,
+                                             List<DeliverySummaryResponse> deliveryStatusCounts) {
+            return OfSnapshot.builder()
+                    .orderStatusCounts(orderStatusCounts)
+                    .releaseStatusCounts(releaseStatusCounts)
+                    .deliveryStatusCounts(deliveryStatusCounts)
+                    .snapshotDateTime(LocalDateTime.now())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.yeonieum.orderservice.domain.dashboard.service;
+
+import com.yeonieum.orderservice.domain.dashboard.dto.DashboardResponse;
+import com.yeonieum.orderservice.domain.delivery.repository.DeliveryRepository;
+import com.yeonieum.orderservice.domain.order.repository.OrderDetailRepository;
+import com.yeonieum.orderservice.domain.release.repository.ReleaseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+    private final OrderDetailRepository orderDetailRepository;
+    private final ReleaseRepository releaseRepository;
+    private final DeliveryRepository deliveryRepository;
+    private final Map<Long, CachedSnapshot> snapshotCache = new ConcurrentHashMap<>();
+
+    @Value("${dashboard.snapshot.ttl-millis:3000}")
+    private long snapshotTtlMillis;
+
+    /**
+     * 고객(seller) 대시보드 스냅샷 조회 서비스
+     * 주문/출고/배송 상태별 카운트를 한 번에 반환하며, 고객별로 짧은 TTL 동안 캐싱한다.
+     * 동시에 들어온 요청은 진행 중인 하나의 계산 결과를 함께 기다린다.
+     * @param customerId 고객 ID
+     * @return 상태별 카운트 스냅샷
+     */
+    public DashboardResponse.OfSnapshot retrieveSnapshot(Long customerId) {
+        long now = System.currentTimeMillis();
+        CachedSnapshot created = new CachedSnapshot();
+        CachedSnapshot cached = snapshotCache.compute(customerId,
+                (id, present) -> present != null && !present.isExpired(now) ? present : created);
+
+        if (cached == created) {
+            try {
+                created.complete(loadSnapshot(customerId), snapshotTtlMillis);
+            } catch (RuntimeException e) {
+                snapshotCache.remove(customerId, created);
+                created.future.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return cached.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private DashboardResponse.OfSnapshot loadSnapshot(Long customerId) {
+        return DashboardResponse.OfSnapshot.convertedBy(
+                orderDetailRepository.countByCustomerIdGroupedByOrderStatus(customerId),
+                releaseRepository.countByReleaseStatus(customerId),
+                deliveryRepository.countByDeliveryStatusForCustomer(customerId));
+    }
+
+    /**
+     * 계산 중인 스냅샷은 만료되지 않으며, 계산이 끝난 시점부터 TTL이 적용된다.
+     */
+    private static class CachedSnapshot {
+        private final CompletableFuture<DashboardResponse.OfSnapshot> future = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        void complete(DashboardResponse.OfSnapshot snapshot, long ttlMillis) {
+            expiresAt = System.currentTimeMillis() + ttlMillis;
+            future.complete(snapshot);
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.yeonieum.orderservice.domain.delivery.entity;
 
 import com.yeonieum.orderservice.domain.combinedpackaging.entity.Packaging;
+import com.yeonieum.orderservice.global.config.IdGeneratorConfig;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,7 +17,10 @@ import java.util.List;
 public class Delivery {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "delivery_id_generator")
+    @TableGenerator(name = "delivery_id_generator", table = IdGeneratorConfig.TABLE_NAME,
+            pkColumnName = IdGeneratorConfig.SEQUENCE_COLUMN, valueColumnName = IdGeneratorConfig.VALUE_COLUMN,
+            pkColumnValue = "delivery", allocationSize = IdGeneratorConfig.ALLOCATION_SIZE)
     @Column(name = "delivery_id")
     private Long deliveryId;
 
@@ -0,0 +1,43 @@
+package com.yeonieum.orderservice.domain.notification.dto;
+
+import com.yeonieum.orderservice.domain.notification.entity.NotificationDeadLetter;
+import com.yeonieum.orderservice.global.enums.DeadLetterStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+public class NotificationDeadLetterResponse {
+
+    @Getter
+    @Builder
+    public static class OfRetrieve {
+        Long notificationDeadLetterId;
+        String sourceTopic;
+        String deadLetterTopic;
+        String payload;
+        String firstFailureReason;
+        String exceptionClass;
+        String exceptionMessage;
+        int attempts;
+        DeadLetterStatus status;
+        LocalDateTime createdDateTime;
+        LocalDateTime replayedDateTime;
+
+        public static OfRetrieve convertedBy(NotificationDeadLetter deadLetter) {
+            return OfRetrieve.builder()
+                    .notificationDeadLetterId(deadLetter.getNotificationDeadLetterId())
+                    .sourceTopic(deadLetter.getSourceTopic())
+                    .deadLetterTopic(deadLetter.getDeadLetterTopic())
+                    .payload(deadLetter.getPayload())
+                    .firstFailureReason(deadLetter.getFirstFailureReason())
+                    .exceptionClass(deadLetter.getExceptionClass())
+                    .exceptionMessage(deadLetter.getExceptionMessage())
+                    .attempts(deadLetter.getAttempts())
+                    .status(deadLetter.getStatus())
+                    .createdDateTime(deadLetter.getCreatedDateTime())
+                    .replayedDateTime(deadLetter.getReplayedDateTime())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.yeonieum.orderservice.domain.notification.dto;
+
+import com.yeonieum.orderservice.global.enums.OrderStatusCode;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 직전 전송 이후 바뀐 주문상태별 주문건수
+ * count는 현재 건수(절대값)이므로 클라이언트는 difference를 누적하지 않고 count로 덮어쓰면 된다.
+ */
+@Getter
+@Builder
+public class OrderCountDeltaResponse {
+    private OrderStatusCode statusName;
+    private long count;
+    private long difference;
+}
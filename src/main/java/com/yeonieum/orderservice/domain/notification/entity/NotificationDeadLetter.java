@@ -0,0 +1,63 @@
+package com.yeonieum.orderservice.domain.notification.entity;
+
+import com.yeonieum.orderservice.global.enums.DeadLetterStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재시도 토픽을 모두 거치고도 처리하지 못한 알림 이벤트
+ * 원본 메시지와 실패 정보를 보관하며, 관리자가 확인 후 원래 토픽으로 재발행할 수 있다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "notification_dead_letter", indexes = @Index(name = "idx_notification_dead_letter_status", columnList = "status, notification_dead_letter_id"))
+public class NotificationDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_dead_letter_id")
+    private Long notificationDeadLetterId;
+
+    // 재발행할 원래 토픽
+    @Column(name = "source_topic", nullable = false)
+    private String sourceTopic;
+
+    @Column(name = "dead_letter_topic", nullable = false)
+    private String deadLetterTopic;
+
+    @Column(name = "payload", columnDefinition = "LONGTEXT", nullable = false)
+    private String payload;
+
+    // 메인 토픽에서 처음 실패한 사유
+    @Column(name = "first_failure_reason", length = 1000)
+    private String firstFailureReason;
+
+    @Column(name = "exception_class")
+    private String exceptionClass;
+
+    @Column(name = "exception_message", length = 1000)
+    private String exceptionMessage;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private DeadLetterStatus status;
+
+    @Column(name = "created_date_time", nullable = false)
+    private LocalDateTime createdDateTime;
+
+    @Column(name = "replayed_date_time")
+    private LocalDateTime replayedDateTime;
+
+    public void markReplayed() {
+        this.status = DeadLetterStatus.REPLAYED;
+        this.replayedDateTime = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,12 @@
+package com.yeonieum.orderservice.domain.notification.repository;
+
+import com.yeonieum.orderservice.domain.notification.entity.NotificationDeadLetter;
+import com.yeonieum.orderservice.global.enums.DeadLetterStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationDeadLetterRepository extends JpaRepository<NotificationDeadLetter, Long> {
+
+    Page<NotificationDeadLetter> findByStatusOrderByNotificationDeadLetterIdDesc(DeadLetterStatus status, Pageable pageable);
+}
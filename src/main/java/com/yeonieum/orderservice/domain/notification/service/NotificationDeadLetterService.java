@@ -0,0 +1,52 @@
+package com.yeonieum.orderservice.domain.notification.service;
+
+import com.yeonieum.orderservice.domain.notification.dto.NotificationDeadLetterResponse;
+import com.yeonieum.orderservice.domain.notification.entity.NotificationDeadLetter;
+import com.yeonieum.orderservice.domain.notification.repository.NotificationDeadLetterRepository;
+import com.yeonieum.orderservice.global.enums.DeadLetterStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationDeadLetterService {
+    private final NotificationDeadLetterRepository notificationDeadLetterRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    /**
+     * 알림 dead letter 목록 조회 서비스
+     * @param status 조회할 상태
+     * @param pageable 페이징 정보
+     * @return 최근에 저장된 순서의 dead letter 목록
+     */
+    @Transactional(readOnly = true)
+    public Page<NotificationDeadLetterResponse.OfRetrieve> retrieveDeadLetters(DeadLetterStatus status, Pageable pageable) {
+        return notificationDeadLetterRepository.findByStatusOrderByNotificationDeadLetterIdDesc(status, pageable)
+                .map(NotificationDeadLetterResponse.OfRetrieve::convertedBy);
+    }
+
+    /**
+     * 알림 dead letter 재발행 서비스
+     * 원본 메시지를 원래 토픽으로 다시 발행하고 재발행 상태로 변경한다. 발행이 확인된 뒤에만 상태를 바꾼다.
+     * @param notificationDeadLetterId dead letter ID
+     * @throws IllegalArgumentException 존재하지 않는 dead letter인 경우
+     * @throws IllegalStateException 이미 재발행된 경우
+     * @return 재발행된 dead letter
+     */
+    @Transactional
+    public NotificationDeadLetterResponse.OfRetrieve replayDeadLetter(Long notificationDeadLetterId) {
+        NotificationDeadLetter deadLetter = notificationDeadLetterRepository.findById(notificationDeadLetterId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 dead letter입니다."));
+        if (deadLetter.getStatus() == DeadLetterStatus.REPLAYED) {
+            throw new IllegalStateException("이미 재발행된 dead letter입니다.");
+        }
+
+        kafkaTemplate.send(deadLetter.getSourceTopic(), deadLetter.getPayload()).join();
+        deadLetter.markReplayed();
+        return NotificationDeadLetterResponse.OfRetrieve.convertedBy(deadLetter);
+    }
+}
@@ -1,99 +1,316 @@
 package com.yeonieum.orderservice.domain.notification.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yeonieum.orderservice.domain.bulkjob.dto.BulkJobResponse;
+import com.yeonieum.orderservice.domain.bulkjob.entity.BulkJob;
+import com.yeonieum.orderservice.domain.bulkjob.repository.BulkJobRepository;
+import com.yeonieum.orderservice.domain.notification.dto.OrderCountDeltaResponse;
+import com.yeonieum.orderservice.domain.order.dto.response.OrderSummaryResponse;
 import com.yeonieum.orderservice.domain.order.repository.OrderDetailRepository;
-import com.yeonieum.orderservice.infrastructure.sse.SseEmitterRepository;
+import com.yeonieum.orderservice.global.config.AsyncConfig;
+import com.yeonieum.orderservice.global.enums.OrderStatusCode;
+import com.yeonieum.orderservice.infrastructure.sse.CustomerEventStream;
+import com.yeonieum.orderservice.infrastructure.sse.CustomerEventStream.CustomerEvent;
+import com.yeonieum.orderservice.infrastructure.sse.SseConnection;
+import com.yeonieum.orderservice.infrastructure.sse.SseConnectionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.core.RedisOperations;
-import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
+/**
+ * 고객 SSE 알림 허브
+ * 고객에게 보낼 이벤트는 고객별 Redis Stream에 쌓고 채널로 발행한다. 인스턴스마다 패턴 구독을 한 번만 등록하고,
+ * 받은 이벤트를 채널의 고객 ID로 로컬 연결 저장소에서 찾아 각 연결의 버퍼에 넣는다. 연결이 없으면 아무것도 하지 않는다.
+ * 주문 건수 알림은 고객별로 모았다가 coalesce-window 주기마다 한 번만 조회/발행하고, 연결에는 직전 전송 이후 바뀐 상태만 전송한다.
+ * 연결은 Flux로 반환되어 소켓 쓰기는 MVC 비동기 실행기에서 처리되며, 느린 연결은 버퍼의 오래된 이벤트부터 버린다.
+ * SSE 이벤트 ID는 스트림 엔트리 ID이므로, 다시 연결한 클라이언트는 Last-Event-ID 이후 놓친 이벤트만 받는다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderNotificationServiceForCustomer {
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
+    private static final String ORDER_COUNT_EVENT = "order:count";
+    private static final String BULK_JOB_EVENT = "bulk-job";
+    private static final TypeReference<Map<OrderStatusCode, Long>> ORDER_COUNTS_TYPE = new TypeReference<>() {};
 
-    private final SseEmitterRepository emitterRepository;
-    private final RedisOperations<String, Long> orderEventRedisOperations;
+    private final SseConnectionRepository connectionRepository;
+    private final CustomerEventStream customerEventStream;
     private final RedisMessageListenerContainer redisMessageListenerContainer;
     private final OrderDetailRepository orderDetailRepository;
     private final ObjectMapper objectMapper;
+    private final BulkJobRepository bulkJobRepository;
+    private final MeterRegistry meterRegistry;
+    // 다음 주기에 주문 건수 알림을 발행할 고객
+    private final Set<Long> dirtyCustomers = ConcurrentHashMap.newKeySet();
+    // 이 인스턴스의 연결에 마지막으로 전송한 고객별 주문상태별 건수
+    private final Map<Long, Map<OrderStatusCode, Long>> lastPushedCounts = new ConcurrentHashMap<>();
 
+    // 연결마다 쌓아 둘 수 있는 최대 이벤트 수, 넘으면 오래된 이벤트부터 버림
+    @Value("${sse.connection.buffer-size:64}")
+    private int connectionBufferSize;
 
+    // 고객별 최대 연결 수, 넘으면 가장 오래된 연결을 닫음
+    @Value("${sse.connection.max-per-customer:10}")
+    private int maxConnectionsPerCustomer;
+
+    @PostConstruct
+    public void subscribeChannels() {
+        redisMessageListenerContainer.addMessageListener(this::dispatch, PatternTopic.of(CustomerEventStream.CHANNEL_PREFIX + "*"));
+        Gauge.builder("sse.connections", connectionRepository, SseConnectionRepository::count).register(meterRegistry);
+    }
+
+    /**
+     * 고객의 주문 건수 알림을 예약
+     * 같은 주기 안에 여러 번 호출되어도 다음 flush에서 한 번만 발행된다.
+     * @param customerId 고객 ID
+     */
     public void sendEventMessage(Long customerId) {
-        orderEventRedisOperations.convertAndSend("order:count" + customerId, customerId);
+        if (!dirtyCustomers.add(customerId)) {
+            meterRegistry.counter("sse.order-count.publish", "result", "coalesced").increment();
+        }
+    }
+
+    /**
+     * 예약된 고객별 주문 건수를 조회해 고객 스트림에 추가
+     * 발행 중에 다시 예약된 고객은 집합에 남아 다음 주기에 발행된다.
+     */
+    @Scheduled(fixedDelayString = "${sse.order-count.coalesce-window-millis:250}")
+    public void flushOrderCountMessages() {
+        Iterator<Long> iterator = dirtyCustomers.iterator();
+        while (iterator.hasNext()) {
+            Long customerId = iterator.next();
+            iterator.remove();
+            try {
+                customerEventStream.append(customerId, ORDER_COUNT_EVENT, countOrders(customerId));
+                meterRegistry.counter("sse.order-count.publish", "result", "published").increment();
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.warn("주문 건수 알림 발행 실패: customerId={}", customerId, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushPendingOrderCountMessages() {
+        flushOrderCountMessages();
+    }
+
+    /**
+     * 일괄 작업이 끝났음을 고객의 모든 이미터에 알리도록 발행
+     * 작업을 실행한 인스턴스와 구독 중인 인스턴스가 달라도 전달되도록 Redis 스트림과 채널을 거친다.
+     * @param customerId 고객 ID
+     * @param bulkJobId 완료된 일괄 작업 ID
+     */
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
+    public void sendBulkJobMessage(Long customerId, Long bulkJobId) {
+        Optional<BulkJob> bulkJob = bulkJobRepository.findByBulkJobIdAndCustomerId(bulkJobId, customerId);
+        if (bulkJob.isEmpty()) {
+            return;
+        }
+        try {
+            customerEventStream.append(customerId, BULK_JOB_EVENT, BulkJobResponse.OfStatus.convertedBy(bulkJob.get()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("일괄 작업 알림 발행 실패: customerId={}, bulkJobId={}", customerId, bulkJobId, e);
+        }
     }
 
     /**
      * 구독을 위해 호출하는 메서드.
+     * lastEventId 이후 이벤트가 스트림에 남아 있으면 놓친 이벤트만 다시 보내고, 없으면 전체 주문 건수를 보낸다.
+     * 연결을 먼저 등록한 뒤 이어 보내므로 그 사이 발행된 이벤트는 중복될 수 있지만 빠지지는 않는다.
      *
      * @param customerId
-     * @return SseEmitter
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (선택)
+     * @return 초기 이벤트 뒤에 실시간 이벤트가 이어지는 SSE 스트림
+     */
+    public Flux<ServerSentEvent<Object>> subscribe(Long customerId, String lastEventId) throws IOException {
+        SseConnection connection = createConnection(customerId);
+        List<ServerSentEvent<Object>> initialEvents;
+        Optional<List<CustomerEvent>> missedEvents = customerEventStream.readAfter(customerId, lastEventId);
+        if (missedEvents.isPresent()) {
+            meterRegistry.counter("sse.subscribe", "mode", "replay").increment();
+            initialEvents = replay(missedEvents.get());
+        } else {
+            meterRegistry.counter("sse.subscribe", "mode", "snapshot").increment();
+            // 조회 전에 ID를 정해 두어야 조회 이후 추가된 이벤트가 재연결 시 다시 전달됨
+            String latestEventId = customerEventStream.latestId(customerId);
+            initialEvents = List.of(ServerSentEvent.builder()
+                    .id(latestEventId)
+                    .event("message")
+                    .data(orderDetailRepository.countByCustomerIdGroupedByOrderStatus(customerId))
+                    .build());
+        }
+
+        return Flux.fromIterable(initialEvents)
+                .concatWith(connection.events())
+                .take(Duration.ofMillis(DEFAULT_TIMEOUT))
+                .doFinally(signal -> connectionRepository.deleteById(customerId, connection));
+    }
+
+    /**
+     * 놓친 이벤트를 순서대로 변환
+     * 주문 건수는 마지막 건수만 의미가 있으므로 가장 최근 것 하나를 전체 건수(message)로 보낸다.
      */
-    public SseEmitter subscribe(Long customerId) throws IOException {
-        SseEmitter emitter = createEmitter(customerId);
-        emitter.send(SseEmitter.event()
-                .id(String.valueOf(customerId))
-                .name("message")
-                .data(orderDetailRepository.countByCustomerIdGroupedByOrderStatus(customerId)));
-
-
-        final MessageListener messageListener = (message, pattern) -> {
-            Long destinationId = serialize(message);
-            if(customerId == destinationId) {
-                sendToClient(customerId, emitter);
+    private List<ServerSentEvent<Object>> replay(List<CustomerEvent> missedEvents) throws IOException {
+        CustomerEvent latestOrderCount = null;
+        for (CustomerEvent event : missedEvents) {
+            if (ORDER_COUNT_EVENT.equals(event.event())) {
+                latestOrderCount = event;
             }
-        };
+        }
+        List<ServerSentEvent<Object>> replayedEvents = new ArrayList<>();
+        for (CustomerEvent event : missedEvents) {
+            if (event == latestOrderCount) {
+                List<OrderSummaryResponse> orderCounts = objectMapper.readValue(event.data(), ORDER_COUNTS_TYPE).entrySet().stream()
+                        .map(entry -> new OrderSummaryResponse(entry.getKey(), entry.getValue()))
+                        .collect(Collectors.toList());
+                replayedEvents.add(ServerSentEvent.builder().id(event.id()).event("message").data(orderCounts).build());
+            } else if (!ORDER_COUNT_EVENT.equals(event.event())) {
+                replayedEvents.add(toServerSentEvent(event));
+            }
+        }
+        return replayedEvents;
+    }
 
-        redisMessageListenerContainer.addMessageListener(messageListener, ChannelTopic.of("order:count" + customerId));
-        return emitter;
+    /**
+     * 프록시가 유휴 연결을 끊지 않도록 모든 연결에 주석 이벤트 전송
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval-millis:15000}")
+    public void sendHeartbeats() {
+        ServerSentEvent<Object> heartbeat = ServerSentEvent.builder().comment("heartbeat").build();
+        connectionRepository.forEach((customerId, connection) -> send(customerId, connection, heartbeat));
     }
 
-    private Long serialize(final Message message) {
+    /**
+     * 패턴 구독으로 받은 이벤트를 채널의 고객 ID로 찾은 연결에 전달
+     */
+    private void dispatch(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
         try {
-            final Long customerId = this.objectMapper.readValue(message.getBody(), Long.class);
-            return customerId;
+            Long customerId = Long.valueOf(channel.substring(CustomerEventStream.CHANNEL_PREFIX.length()));
+            List<SseConnection> connections = connectionRepository.get(customerId);
+            if (connections.isEmpty()) {
+                lastPushedCounts.remove(customerId);
+                return;
+            }
+
+            CustomerEvent event = customerEventStream.parse(message.getBody());
+            if (ORDER_COUNT_EVENT.equals(event.event())) {
+                sendOrderCountDelta(customerId, connections, event);
+            } else {
+                ServerSentEvent<Object> serverSentEvent = toServerSentEvent(event);
+                for (SseConnection connection : connections) {
+                    send(customerId, connection, serverSentEvent);
+                }
+            }
+        } catch (NumberFormatException e) {
+            log.debug("고객 ID가 없는 채널 메시지 무시: {}", channel);
         } catch (IOException e) {
-            throw new RuntimeException("Failed to deserialize message.", e);
+            log.warn("고객 이벤트 역직렬화 실패: channel={}", channel, e);
         }
     }
 
-
     /**
-     * 고객에게 주문상태별 주문건수를 전송
+     * 고객의 모든 연결에 직전 전송 이후 바뀐 주문상태별 주문건수를 전송
+     * 연결 직후에는 전체 건수를 보내므로, 이후에는 바뀐 상태만 보내도 클라이언트 화면이 맞춰진다.
      *
      * @param customerId   - 데이터를 받을 사용자의 아이디.
-     * @param - 전송할 데이터.
      */
-    private void sendToClient(Long customerId, SseEmitter emitter) {
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .id(String.valueOf(customerId))
-                        .name("order:count")
-                        .data(orderDetailRepository.countByCustomerIdGroupedByOrderStatus(customerId)));
-            } catch (IOException exception) {
-                emitterRepository.deleteById(customerId, emitter);
-                emitter.completeWithError(exception);
+    private void sendOrderCountDelta(Long customerId, List<SseConnection> connections, CustomerEvent event) throws IOException {
+        Map<OrderStatusCode, Long> currentCounts = objectMapper.readValue(event.data(), ORDER_COUNTS_TYPE);
+        Map<OrderStatusCode, Long> previousCounts = lastPushedCounts.put(customerId, currentCounts);
+        List<OrderCountDeltaResponse> deltas = diffOrderCounts(previousCounts != null ? previousCounts : Map.of(), currentCounts);
+        if (deltas.isEmpty()) {
+            meterRegistry.counter("sse.order-count.unchanged").increment();
+            return;
+        }
+
+        ServerSentEvent<Object> serverSentEvent = ServerSentEvent.builder()
+                .id(event.id())
+                .event("order:count-delta")
+                .data(deltas)
+                .build();
+        for (SseConnection connection : connections) {
+            send(customerId, connection, serverSentEvent);
+        }
+        meterRegistry.counter("sse.order-count.sent").increment(connections.size());
+    }
+
+    private Map<OrderStatusCode, Long> countOrders(Long customerId) {
+        return orderDetailRepository.countByCustomerIdGroupedByOrderStatus(customerId).stream()
+                .collect(Collectors.toMap(OrderSummaryResponse::getStatusName, OrderSummaryResponse::getCount));
+    }
+
+    private List<OrderCountDeltaResponse> diffOrderCounts(Map<OrderStatusCode, Long> previousCounts, Map<OrderStatusCode, Long> currentCounts) {
+        Set<OrderStatusCode> statuses = EnumSet.noneOf(OrderStatusCode.class);
+        statuses.addAll(previousCounts.keySet());
+        statuses.addAll(currentCounts.keySet());
+
+        List<OrderCountDeltaResponse> deltas = new ArrayList<>();
+        for (OrderStatusCode status : statuses) {
+            long previous = previousCounts.getOrDefault(status, 0L);
+            long current = currentCounts.getOrDefault(status, 0L);
+            if (previous != current) {
+                deltas.add(OrderCountDeltaResponse.builder()
+                        .statusName(status)
+                        .count(current)
+                        .difference(current - previous)
+                        .build());
             }
         }
+        return deltas;
+    }
+
+    /**
+     * 스트림 이벤트를 그대로 전달할 SSE 이벤트로 변환 (데이터는 이미 JSON 문자열)
+     */
+    private ServerSentEvent<Object> toServerSentEvent(CustomerEvent event) {
+        return ServerSentEvent.builder()
+                .id(event.id())
+                .event(event.event())
+                .data(event.data())
+                .build();
+    }
+
+    private void send(Long customerId, SseConnection connection, ServerSentEvent<Object> event) {
+        if (!connection.push(event)) {
+            // 이미 끝난 연결은 저장소에서 제거
+            connectionRepository.deleteById(customerId, connection);
+        }
     }
 
     /**
-     * 사용자 아이디를 기반으로 이벤트 Emitter를 생성
+     * 고객의 연결을 생성해 저장
+     * 고객별 연결 수가 상한을 넘으면 가장 오래된 연결이 닫힌다.
      *
      * @param customerId
-     * @return SseEmitter
+     * @return SseConnection
      */
-    private SseEmitter createEmitter(Long customerId) {
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitterRepository.save(customerId, emitter);
-        return emitter;
+    private SseConnection createConnection(Long customerId) {
+        SseConnection connection = new SseConnection(connectionBufferSize,
+                dropped -> meterRegistry.counter("sse.events.dropped").increment());
+        connectionRepository.save(customerId, connection, maxConnectionsPerCustomer);
+        return connection;
     }
 }
@@ -3,53 +3,32 @@ package com.yeonieum.orderservice.domain.notification.service;
 import com.yeonieum.orderservice.domain.notification.util.MessageBuilder;
 import com.yeonieum.orderservice.infrastructure.messaging.dto.OrderNotificationMessage;
 import com.yeonieum.orderservice.infrastructure.messaging.dto.RegularDeliveryNotificationMessage;
-import jakarta.annotation.PostConstruct;
+import com.yeonieum.orderservice.infrastructure.sms.SmsDispatcher;
+import com.yeonieum.orderservice.infrastructure.sms.SmsMessage;
 import lombok.RequiredArgsConstructor;
-import net.nurigo.sdk.NurigoApp;
-import net.nurigo.sdk.message.exception.NurigoEmptyResponseException;
-import net.nurigo.sdk.message.exception.NurigoMessageNotReceivedException;
-import net.nurigo.sdk.message.exception.NurigoUnknownException;
-import net.nurigo.sdk.message.model.Message;
-import net.nurigo.sdk.message.service.DefaultMessageService;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 회원 문자 알림 서비스
+ * 문자 내용을 만들어 발송 디스패처의 대기열에 넣는다. 실제 발송은 디스패처가 묶음 단위로 처리하며, 반환된 future로 결과를 알 수 있다.
+ */
 @Service
 @RequiredArgsConstructor
 public class OrderNotificationServiceForMember {
-    DefaultMessageService defaultMessageService;
-
-    @Value("${sms.apiKey}")
-    private String apiKey;
-    @Value("${sms.secretKey}")
-    private String secretKey;
-    @Value("${sms.apiUrl}")
-    private String apiUrl;
-
-    @PostConstruct
-    public void init() {
-        defaultMessageService = NurigoApp.INSTANCE.initialize(apiKey, secretKey, apiUrl);
-    }
+    private static final String SENDER_PHONE_NUMBER = "01089387607";
 
+    private final SmsDispatcher smsDispatcher;
 
-    public void sendOrderMessage(OrderNotificationMessage orderNotificationMessage) throws NurigoMessageNotReceivedException, NurigoEmptyResponseException, NurigoUnknownException {
-        Message message = new Message();
-        message.setFrom("01089387607");
-        //message.setTo(orderNotificationMessage.getPhoneNumber().replaceAll("-", ""));
-        message.setTo("01089387607");
+    public CompletableFuture<Void> sendOrderMessage(OrderNotificationMessage orderNotificationMessage) {
         String text = MessageBuilder.createOrderMessage(orderNotificationMessage);
-        message.setText("[연이음 주문 안내]\n\n" + text);
-
-        defaultMessageService.send(message);
+        return submit(orderNotificationMessage.getPhoneNumber(), "[연이음 주문 안내]\n\n" + text);
     }
 
 
     // 정기주문 메시지
-    public void sendRegularOrderMessage(RegularDeliveryNotificationMessage regularDeliveryNotificationMessage) throws NurigoMessageNotReceivedException, NurigoEmptyResponseException, NurigoUnknownException {
-        Message message = new Message();
-        message.setFrom("01089387607");
-        message.setTo(regularDeliveryNotificationMessage.getPhoneNumber());
-        //message.setTo("01089387607");
+    public CompletableFuture<Void> sendRegularOrderMessage(RegularDeliveryNotificationMessage regularDeliveryNotificationMessage) {
         String text = "";
         switch (regularDeliveryNotificationMessage.getEventType()) {
             case "APPLY" -> {
@@ -63,8 +42,13 @@ public class OrderNotificationServiceForMember {
             }
             default -> throw new RuntimeException("알 수 없는 이벤트 타입입니다.");
         }
-        message.setText(text);
-        defaultMessageService.send(message);
+        return submit(regularDeliveryNotificationMessage.getPhoneNumber(), text);
+    }
 
+    private CompletableFuture<Void> submit(String phoneNumber, String text) {
+        if (phoneNumber == null || phoneNumber.isBlank()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("수신번호가 없는 알림입니다."));
+        }
+        return smsDispatcher.submit(new SmsMessage(SENDER_PHONE_NUMBER, phoneNumber.replaceAll("-", ""), text));
     }
 }
@@ -31,6 +31,7 @@ public class OrderRequest {
 
     @Getter
     @NoArgsConstructor
+    @AllArgsConstructor
     public static class OfBulkUpdateOrderStatus {
         List<String> orderIds;
         OrderStatusCode orderStatusCode;
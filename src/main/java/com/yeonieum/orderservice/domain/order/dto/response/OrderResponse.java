@@ -56,6 +56,34 @@ public class OrderResponse {
         }
     }
 
+    @Getter
+    @Builder
+    public static class OfExport {
+        private String orderDetailId;
+        private String orderStatusCode;
+        private LocalDateTime orderDateTime;
+        private String memberId;
+        private MemberInfo memberInfo;
+        private Recipient recipient;
+        private ProductOrderList productOrderList;
+
+        public static OfExport convertedBy(OrderDetail orderDetail, MemberInfo memberInfo) {
+            return OfExport.builder()
+                    .orderDetailId(orderDetail.getOrderDetailId())
+                    .orderStatusCode(orderDetail.getOrderStatus().getStatusName().getCode())
+                    .orderDateTime(orderDetail.getOrderDateTime())
+                    .memberId(orderDetail.getMemberId())
+                    .memberInfo(memberInfo)
+                    .recipient(new Recipient(
+                            orderDetail.getRecipient(),
+                            orderDetail.getRecipientPhoneNumber(),
+                            orderDetail.getDeliveryAddress()
+                    ))
+                    .productOrderList(ProductOrderList.convertedBy(orderDetail))
+                    .build();
+        }
+    }
+
     @Getter
     @Builder
     public static class OfRetrievePayment {
@@ -255,6 +283,10 @@ public class OrderResponse {
         int paymentAmount;
         String orderDetailId;
         Long customerId;
+        // 알림 이벤트에 함께 담을 주문 요약
+        String storeName;
+        String mainProductName;
+        int productCount;
     }
 
 
@@ -283,6 +315,10 @@ public class OrderResponse {
         String orderDetailId;
         String orderStatusCode;
         List<ProductOrderEntity> productOrderEntityList;
+        // 알림 이벤트에 함께 담을 주문 요약 (단건 변경에서만 채움)
+        String storeName;
+        String mainProductName;
+        Integer productCount;
 
     }
 }
@@ -0,0 +1,52 @@
+package com.yeonieum.orderservice.domain.order.dto.response;
+
+import com.yeonieum.orderservice.domain.order.entity.OrderStatusHistory;
+import com.yeonieum.orderservice.global.enums.OrderStatusCode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+public class OrderStatusHistoryResponse {
+
+    @Getter
+    @Builder
+    public static class OfTimeline {
+        private Long orderStatusHistoryId;
+        private Long productId;
+        private OrderStatusCode fromStatus;
+        private OrderStatusCode toStatus;
+        private String actorRole;
+        private String actorId;
+        private LocalDateTime changedDateTime;
+        // 같은 대상(주문 전체 또는 같은 상품)의 직전 전이부터 이 전이까지 머문 시간, 첫 전이는 주문 시각부터
+        private long elapsedSeconds;
+
+        public static OfTimeline convertedBy(OrderStatusHistory orderStatusHistory, long elapsedSeconds) {
+            return OfTimeline.builder()
+                    .orderStatusHistoryId(orderStatusHistory.getOrderStatusHistoryId())
+                    .productId(orderStatusHistory.getProductId())
+                    .fromStatus(orderStatusHistory.getFromStatus())
+                    .toStatus(orderStatusHistory.getToStatus())
+                    .actorRole(orderStatusHistory.getActorRole())
+                    .actorId(orderStatusHistory.getActorId())
+                    .changedDateTime(orderStatusHistory.getChangedDateTime())
+                    .elapsedSeconds(elapsedSeconds)
+                    .build();
+        }
+    }
+
+    /**
+     * 주문상태별 체류 시간 분포 (초)
+     */
+    @Getter
+    @Builder
+    public static class OfStatusDuration {
+        private OrderStatusCode status;
+        private long sampleCount;
+        private long p50Seconds;
+        private long p90Seconds;
+        private long p99Seconds;
+        private long maxSeconds;
+    }
+}
@@ -1,10 +1,18 @@
 package com.yeonieum.orderservice.domain.order.entity;
 
+import com.yeonieum.orderservice.domain.order.event.OrderStatusChangedEvent;
 import com.yeonieum.orderservice.global.auditing.BaseEntity;
 import com.yeonieum.orderservice.global.converter.ProductOrderListConverter;
+import com.yeonieum.orderservice.global.enums.OrderStatusCode;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
+
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 @Entity
 @Getter
@@ -53,9 +61,46 @@ public class OrderDetail extends BaseEntity {
     @Convert(converter = ProductOrderListConverter.class)
     private ProductOrderListEntity orderList;
 
+    // 저장 시 발행할 상태 전이 이벤트 (영속화하지 않음)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private List<OrderStatusChangedEvent> statusChangedEvents;
+
     public void changeOrderStatus(OrderStatus orderStatus) {
+        if (this.orderStatus != null && this.orderStatus.getStatusName() != orderStatus.getStatusName()) {
+            registerStatusChangedEvent(null, this.orderStatus.getStatusName(), orderStatus.getStatusName());
+        }
         this.orderStatus = orderStatus;
     }
+
+    /**
+     * 상품 주문 한 건의 상태 변경
+     * 주문 전체가 아닌 상품 단위로 상태가 바뀌는 경우에 사용하며, 상품 단위 전이 이벤트를 남긴다.
+     */
+    public void changeProductOrderStatus(ProductOrderEntity productOrder, OrderStatusCode status) {
+        if (productOrder.getStatus() != status) {
+            registerStatusChangedEvent(productOrder.getProductId(), productOrder.getStatus(), status);
+        }
+        productOrder.changeStatus(status);
+    }
+
+    private void registerStatusChangedEvent(Long productId, OrderStatusCode fromStatus, OrderStatusCode toStatus) {
+        if (statusChangedEvents == null) {
+            statusChangedEvents = new ArrayList<>();
+        }
+        statusChangedEvents.add(new OrderStatusChangedEvent(orderDetailId, customerId, productId, fromStatus, toStatus, LocalDateTime.now()));
+    }
+
+    @DomainEvents
+    List<OrderStatusChangedEvent> domainEvents() {
+        return statusChangedEvents == null ? Collections.emptyList() : Collections.unmodifiableList(statusChangedEvents);
+    }
+
+    @AfterDomainEventPublication
+    void clearDomainEvents() {
+        statusChangedEvents = null;
+    }
+
     public void changeOrderList(ProductOrderListEntity orderList) {
         this.orderList = new ProductOrderListEntity(orderList.getProductOrderEntityList());
     }
@@ -0,0 +1,54 @@
+package com.yeonieum.orderservice.domain.order.entity;
+
+import com.yeonieum.orderservice.global.enums.OrderStatusCode;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문상태 전이 이력 (추가 전용)
+ * 주문 또는 상품 주문의 상태가 바뀔 때마다 한 행씩 쌓이며, 수정하거나 삭제하지 않는다.
+ * 쓰기는 OrderStatusHistoryWriter가 JDBC 배치로 처리하고, 이 엔티티는 조회에만 사용한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "order_status_history", indexes = {
+        @Index(name = "idx_order_status_history_order", columnList = "order_detail_id, changed_date_time"),
+        @Index(name = "idx_order_status_history_customer", columnList = "customer_id, changed_date_time")
+})
+public class OrderStatusHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "order_status_history_id")
+    private Long orderStatusHistoryId;
+
+    @Column(name = "order_detail_id", nullable = false)
+    private String orderDetailId;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    // 상품 주문 단위 전이일 때만 존재
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "from_status", nullable = false)
+    private OrderStatusCode fromStatus;
+
+    @Column(name = "to_status", nullable = false)
+    private OrderStatusCode toStatus;
+
+    @Column(name = "actor_role")
+    private String actorRole;
+
+    @Column(name = "actor_id")
+    private String actorId;
+
+    @Column(name = "changed_date_time", nullable = false)
+    private LocalDateTime changedDateTime;
+}
@@ -2,6 +2,7 @@ package com.yeonieum.orderservice.domain.order.entity;
 
 import com.yeonieum.orderservice.global.converter.ActiveStatusConverter;
 import com.yeonieum.orderservice.global.enums.ActiveStatus;
+import com.yeonieum.orderservice.global.config.IdGeneratorConfig;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,10 @@ import lombok.*;
 public class PaymentInformation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "payment_information_id_generator")
+    @TableGenerator(name = "payment_information_id_generator", table = IdGeneratorConfig.TABLE_NAME,
+            pkColumnName = IdGeneratorConfig.SEQUENCE_COLUMN, valueColumnName = IdGeneratorConfig.VALUE_COLUMN,
+            pkColumnValue = "payment_information", allocationSize = IdGeneratorConfig.ALLOCATION_SIZE)
     @Column(name = "payment_information_id")
     private Long paymentInformationId;
 
@@ -0,0 +1,18 @@
+package com.yeonieum.orderservice.domain.order.event;
+
+import com.yeonieum.orderservice.global.enums.OrderStatusCode;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 또는 상품 주문의 상태 전이 이벤트
+ * 주문이 저장될 때 함께 발행되며, 커밋된 전이만 주문상태 이력에 기록된다.
+ * @param productId 상품 주문 단위 전이일 때의 상품 ID, 주문 전체의 전이이면 null
+ */
+public record OrderStatusChangedEvent(String orderDetailId,
+                                      Long customerId,
+                                      Long productId,
+                                      OrderStatusCode fromStatus,
+                                      OrderStatusCode toStatus,
+                                      LocalDateTime changedDateTime) {
+}
@@ -0,0 +1,162 @@
+package com.yeonieum.orderservice.domain.order.repository;
+
+import com.yeonieum.orderservice.domain.order.entity.OrderDetail;
+import com.yeonieum.orderservice.domain.order.entity.OrderStatus;
+import com.yeonieum.orderservice.global.converter.ProductOrderListConverter;
+import com.yeonieum.orderservice.global.enums.OrderStatusCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * JPA 영속성 컨텍스트를 거치지 않고 주문 테이블을 직접 다루는 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderDetailJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductOrderListConverter productOrderListConverter = new ProductOrderListConverter();
+
+    // MySQL 드라이버는 fetchSize가 Integer.MIN_VALUE일 때 결과를 한 행씩 스트리밍한다.
+    @Value("${order.export.fetch-size:-2147483648}")
+    private int exportFetchSize;
+
+    /**
+     * 고객의 주문을 forward-only 커서로 한 건씩 읽어 consumer에 전달한다.
+     * 결과 전체를 메모리에 올리지 않으므로 주문 수와 무관하게 메모리 사용량이 일정하다.
+     * 전달되는 OrderDetail은 조회 전용 객체로, 영속성 컨텍스트에 속하지 않는다.
+     * @param customerId 고객 ID
+     * @param orderStatusCode 주문 상태 (선택)
+     * @param startDate 시작 날짜 (선택)
+     * @param endDate 종료 날짜 (선택)
+     * @param consumer 주문 한 건씩 처리할 함수
+     */
+    public void streamOrdersForCustomer(Long customerId, OrderStatusCode orderStatusCode, LocalDate startDate, LocalDate endDate, Consumer<OrderDetail> consumer) {
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT od.order_detail_id, od.customer_id, od.member_id, od.recipient, od.recipient_phone_number, ")
+                .append("od.delivery_address, od.store_name, od.order_memo, od.order_date_time, od.main_product_id, ")
+                .append("od.product_order_list, os.order_status_id, os.status_name ")
+                .append("FROM order_detail od JOIN order_status os ON od.order_status_id = os.order_status_id ")
+                .append("WHERE od.customer_id = ?");
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(customerId);
+
+        if (orderStatusCode != null) {
+            sql.append(" AND os.status_name = ?");
+            parameters.add(orderStatusCode.getCode());
+        }
+        if (startDate != null) {
+            sql.append(" AND od.created_date >= ?");
+            parameters.add(Date.valueOf(startDate));
+        }
+        if (endDate != null) {
+            sql.append(" AND od.created_date <= ?");
+            parameters.add(Date.valueOf(endDate));
+        }
+        sql.append(" ORDER BY od.order_date_time");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(exportFetchSize);
+            for (int index = 0; index < parameters.size(); index++) {
+                statement.setObject(index + 1, parameters.get(index));
+            }
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(mapOrderDetail(resultSet)));
+    }
+
+    /**
+     * 고객의 주문 중 요청한 ID에 해당하는 주문을 조회 전용 객체로 읽는다.
+     * 일괄 상태 변경 전 검증에 사용하며, 반환된 객체는 영속성 컨텍스트에 속하지 않는다.
+     * @param orderDetailIds 주문 ID 목록
+     * @param customerId 고객 ID
+     * @return 조회된 주문 목록
+     */
+    public List<OrderDetail> findAllByIdAndCustomerId(List<String> orderDetailIds, Long customerId) {
+        return findAllByIdAndCustomerId(orderDetailIds, customerId, "");
+    }
+
+    /**
+     * 앞서 읽은 주문들의 행을 잠그고(SELECT ... FOR UPDATE) 다시 읽어, 그 사이 상품 주문 목록이 바뀌지 않은 주문만 반환한다.
+     * 반환된 주문을 고쳐 batchUpdateProductOrderList로 저장해야 그 사이 반영된 상품 단위 취소/환불을 덮어쓰지 않는다.
+     * 호출하는 쪽의 트랜잭션에 참여하며, 잠금은 트랜잭션이 끝날 때까지 유지된다.
+     * @param readOrderDetails 앞서 findAllByIdAndCustomerId로 읽은 주문
+     * @param customerId 고객 ID
+     * @return 잠근 뒤 다시 읽은 주문 중 상품 주문 목록이 그대로인 주문
+     */
+    public List<OrderDetail> findUnchangedForUpdate(List<OrderDetail> readOrderDetails, Long customerId) {
+        Map<String, String> readProductOrderLists = new HashMap<>();
+        readOrderDetails.forEach(orderDetail -> readProductOrderLists.put(
+                orderDetail.getOrderDetailId(), productOrderListConverter.convertToDatabaseColumn(orderDetail.getOrderList())));
+        // order_status는 여러 주문이 함께 참조하므로 주문 행만 잠금
+        return findAllByIdAndCustomerId(new ArrayList<>(readProductOrderLists.keySet()), customerId, " FOR UPDATE OF od").stream()
+                .filter(orderDetail -> productOrderListConverter.convertToDatabaseColumn(orderDetail.getOrderList())
+                        .equals(readProductOrderLists.get(orderDetail.getOrderDetailId())))
+                .collect(Collectors.toList());
+    }
+
+    private List<OrderDetail> findAllByIdAndCustomerId(List<String> orderDetailIds, Long customerId, String lockClause) {
+        if (orderDetailIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(orderDetailIds.size(), "?"));
+        String sql = "SELECT od.order_detail_id, od.customer_id, od.member_id, od.recipient, od.recipient_phone_number, " +
+                "od.delivery_address, od.store_name, od.order_memo, od.order_date_time, od.main_product_id, " +
+                "od.product_order_list, os.order_status_id, os.status_name " +
+                "FROM order_detail od JOIN order_status os ON od.order_status_id = os.order_status_id " +
+                "WHERE od.customer_id = ? AND od.order_detail_id IN (" + placeholders + ")" + lockClause;
+        List<Object> parameters = new ArrayList<>(orderDetailIds.size() + 1);
+        parameters.add(customerId);
+        parameters.addAll(orderDetailIds);
+        return jdbcTemplate.query(sql, (resultSet, rowNum) -> mapOrderDetail(resultSet), parameters.toArray());
+    }
+
+    /**
+     * 주문들의 상품 주문 목록(JSON)을 하나의 배치 문장으로 갱신한다.
+     * 목록 전체를 덮어쓰므로 findUnchangedForUpdate로 잠근 뒤 다시 읽은 주문을 전달해야 한다.
+     * 호출하는 쪽의 트랜잭션에 참여한다.
+     * @param orderDetails 갱신할 상품 주문 목록을 담은 주문
+     */
+    public void batchUpdateProductOrderList(List<OrderDetail> orderDetails) {
+        jdbcTemplate.batchUpdate("UPDATE order_detail SET product_order_list = ? WHERE order_detail_id = ?",
+                orderDetails, orderDetails.size(), (statement, orderDetail) -> {
+                    statement.setString(1, productOrderListConverter.convertToDatabaseColumn(orderDetail.getOrderList()));
+                    statement.setString(2, orderDetail.getOrderDetailId());
+                });
+    }
+
+    private OrderDetail mapOrderDetail(ResultSet resultSet) throws SQLException {
+        return OrderDetail.builder()
+                .orderDetailId(resultSet.getString("order_detail_id"))
+                .orderStatus(OrderStatus.builder()
+                        .orderStatusId(resultSet.getLong("order_status_id"))
+                        .statusName(OrderStatusCode.fromCode(resultSet.getString("status_name")))
+                        .build())
+                .customerId(resultSet.getLong("customer_id"))
+                .memberId(resultSet.getString("member_id"))
+                .recipient(resultSet.getString("recipient"))
+                .recipientPhoneNumber(resultSet.getString("recipient_phone_number"))
+                .deliveryAddress(resultSet.getString("delivery_address"))
+                .storeName(resultSet.getString("store_name"))
+                .orderMemo(resultSet.getString("order_memo"))
+                .orderDateTime(resultSet.getTimestamp("order_date_time").toLocalDateTime())
+                .mainProductId(resultSet.getLong("main_product_id"))
+                .orderList(productOrderListConverter.convertToEntityAttribute(resultSet.getString("product_order_list")))
+                .build();
+    }
+}
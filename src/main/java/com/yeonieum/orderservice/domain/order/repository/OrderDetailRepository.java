@@ -6,9 +6,11 @@ import com.yeonieum.orderservice.domain.order.entity.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -42,5 +44,16 @@ public interface OrderDetailRepository extends JpaRepository<OrderDetail, String
     @Query("SELECT o FROM OrderDetail o WHERE o.orderDetailId IN :orderDetailIdList AND o.customerId = :customerId")
     List<OrderDetail> findAllByIdAndCustomerId(@Param("orderDetailIdList") List<String> orderDetailIdList, @Param("customerId") Long customerId);
 
+    /**
+     * 주문 헤더의 상태를 한 문장으로 변경한다.
+     * 현재 상태가 허용된 이전 상태인 주문만 변경되므로, 반환값이 요청 건수보다 작으면 그 사이 상태가 바뀐 주문이 있다는 의미다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderDetail o SET o.orderStatus = :orderStatus, o.lastModifiedDate = :modifiedDate " +
+            "WHERE o.orderDetailId IN :orderDetailIdList AND o.customerId = :customerId AND o.orderStatus IN :allowedOrderStatusList")
+    int updateOrderStatusInBulk(@Param("orderDetailIdList") List<String> orderDetailIdList,
+                                @Param("customerId") Long customerId,
+                                @Param("orderStatus") OrderStatus orderStatus,
+                                @Param("allowedOrderStatusList") List<OrderStatus> allowedOrderStatusList,
+                                @Param("modifiedDate") LocalDate modifiedDate);
 }
-
@@ -0,0 +1,87 @@
+package com.yeonieum.orderservice.domain.order.repository;
+
+import com.yeonieum.orderservice.domain.order.dto.response.OrderStatusHistoryResponse;
+import com.yeonieum.orderservice.domain.order.entity.OrderStatusHistory;
+import com.yeonieum.orderservice.global.enums.OrderStatusCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문상태 이력 테이블을 JDBC로 직접 다루는 저장소
+ * 쓰기는 여러 전이를 하나의 배치 문장으로, 분포 조회는 윈도 함수로 DB에서 집계한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderStatusHistoryJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 상태 전이 이력을 하나의 배치 문장으로 추가한다.
+     * 호출하는 쪽의 트랜잭션에 참여한다.
+     */
+    public void batchInsert(List<OrderStatusHistory> histories) {
+        jdbcTemplate.batchUpdate("INSERT INTO order_status_history "
+                        + "(order_detail_id, customer_id, product_id, from_status, to_status, actor_role, actor_id, changed_date_time) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                histories, histories.size(), (statement, history) -> {
+                    statement.setString(1, history.getOrderDetailId());
+                    statement.setLong(2, history.getCustomerId());
+                    if (history.getProductId() != null) {
+                        statement.setLong(3, history.getProductId());
+                    } else {
+                        statement.setNull(3, Types.BIGINT);
+                    }
+                    statement.setString(4, history.getFromStatus().getCode());
+                    statement.setString(5, history.getToStatus().getCode());
+                    statement.setString(6, history.getActorRole());
+                    statement.setString(7, history.getActorId());
+                    statement.setTimestamp(8, Timestamp.valueOf(history.getChangedDateTime()));
+                });
+    }
+
+    /**
+     * 고객의 주문이 상태별로 머문 시간의 백분위수를 구한다.
+     * 주문 단위 전이만 대상으로 하며, 한 상태에 머문 시간은 그 상태로 들어온 전이부터 다음 전이까지의 간격이다.
+     * 아직 다음 전이가 없는(현재 머물고 있는) 상태는 제외한다. 백분위수는 nearest-rank 방식이다.
+     * @param startDateTime 상태에 들어온 시각의 시작 (포함)
+     * @param endDateTime 상태에 들어온 시각의 끝 (제외)
+     */
+    public List<OrderStatusHistoryResponse.OfStatusDuration> findStatusDurations(Long customerId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        String sql = "SELECT status, COUNT(*) AS sample_count, "
+                + "MIN(CASE WHEN row_num >= CEIL(0.50 * total) THEN duration END) AS p50, "
+                + "MIN(CASE WHEN row_num >= CEIL(0.90 * total) THEN duration END) AS p90, "
+                + "MIN(CASE WHEN row_num >= CEIL(0.99 * total) THEN duration END) AS p99, "
+                + "MAX(duration) AS max_duration "
+                + "FROM ("
+                + "  SELECT status, duration, "
+                + "  ROW_NUMBER() OVER (PARTITION BY status ORDER BY duration) AS row_num, "
+                + "  COUNT(*) OVER (PARTITION BY status) AS total "
+                + "  FROM ("
+                + "    SELECT to_status AS status, changed_date_time, "
+                + "    TIMESTAMPDIFF(SECOND, changed_date_time, LEAD(changed_date_time) OVER "
+                + "      (PARTITION BY order_detail_id ORDER BY changed_date_time, order_status_history_id)) AS duration "
+                + "    FROM order_status_history "
+                + "    WHERE customer_id = ? AND product_id IS NULL AND changed_date_time >= ?"
+                + "  ) transitions "
+                + "  WHERE duration IS NOT NULL AND changed_date_time < ?"
+                + ") ranked "
+                + "GROUP BY status";
+
+        // 다음 전이가 조회 구간 밖에 있어도 체류 시간을 구할 수 있도록 끝 시각 조건은 LEAD 계산 뒤에 적용
+        return jdbcTemplate.query(sql, (resultSet, rowNum) -> OrderStatusHistoryResponse.OfStatusDuration.builder()
+                        .status(OrderStatusCode.fromCode(resultSet.getString("status")))
+                        .sampleCount(resultSet.getLong("sample_count"))
+                        .p50Seconds(resultSet.getLong("p50"))
+                        .p90Seconds(resultSet.getLong("p90"))
+                        .p99Seconds(resultSet.getLong("p99"))
+                        .maxSeconds(resultSet.getLong("max_duration"))
+                        .build(),
+                customerId, Timestamp.valueOf(startDateTime), Timestamp.valueOf(endDateTime));
+    }
+}
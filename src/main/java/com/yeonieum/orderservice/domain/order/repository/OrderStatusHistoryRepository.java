@@ -0,0 +1,11 @@
+package com.yeonieum.orderservice.domain.order.repository;
+
+import com.yeonieum.orderservice.domain.order.entity.OrderStatusHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface OrderStatusHistoryRepository extends JpaRepository<OrderStatusHistory, Long> {
+
+    List<OrderStatusHistory> findByOrderDetailIdOrderByChangedDateTimeAscOrderStatusHistoryIdAsc(String orderDetailId);
+}
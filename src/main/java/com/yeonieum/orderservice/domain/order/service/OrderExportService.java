@@ -0,0 +1,181 @@
+package com.yeonieum.orderservice.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yeonieum.orderservice.domain.order.dto.response.OrderResponse;
+import com.yeonieum.orderservice.domain.order.entity.OrderDetail;
+import com.yeonieum.orderservice.domain.order.entity.ProductOrderEntity;
+import com.yeonieum.orderservice.domain.order.repository.OrderDetailJdbcRepository;
+import com.yeonieum.orderservice.global.enums.ExportFormat;
+import com.yeonieum.orderservice.global.enums.OrderStatusCode;
+import com.yeonieum.orderservice.global.responses.ApiResponse;
+import com.yeonieum.orderservice.infrastructure.feignclient.MemberServiceFeignClient;
+import com.yeonieum.orderservice.infrastructure.feignclient.ProductServiceFeignClient;
+import com.yeonieum.orderservice.infrastructure.feignclient.dto.response.RetrieveOrderInformationResponse;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+    private static final String[] CSV_HEADER = {
+            "주문번호", "주문상태", "주문일시", "회원ID", "회원명", "회원연락처", "수령인", "수령인연락처", "배송지",
+            "상품ID", "상품명", "수량", "상품금액", "할인액", "최종금액", "상품주문상태"
+    };
+
+    private final OrderDetailJdbcRepository orderDetailJdbcRepository;
+    private final MemberServiceFeignClient memberServiceFeignClient;
+    private final ProductServiceFeignClient productServiceFeignClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.export.chunk-size:500}")
+    private int exportChunkSize;
+
+    /**
+     * 고객용 주문 내보내기 서비스
+     * 주문을 커서로 한 건씩 읽고, chunk 단위로 회원/상품 정보를 일괄 조회해 바로 응답 스트림에 기록한다.
+     * CSV는 상품 주문 한 건당 한 행, NDJSON은 주문 한 건당 한 줄로 기록한다.
+     * @param customerId 고객 ID
+     * @param orderStatusCode 주문 상태 (선택)
+     * @param startDate 시작 날짜 (선택)
+     * @param endDate 종료 날짜 (선택)
+     * @param exportFormat 내보내기 형식
+     * @param outputStream 응답 스트림
+     */
+    public void exportOrdersForCustomer(Long customerId, OrderStatusCode orderStatusCode, LocalDate startDate, LocalDate endDate,
+                                        ExportFormat exportFormat, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (exportFormat == ExportFormat.CSV) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM을 기록한다.
+            writer.write('\uFEFF');
+            writeCsvLine(writer, Arrays.asList(CSV_HEADER));
+        }
+
+        List<OrderDetail> chunk = new ArrayList<>(exportChunkSize);
+        try {
+            orderDetailJdbcRepository.streamOrdersForCustomer(customerId, orderStatusCode, startDate, endDate, orderDetail -> {
+                chunk.add(orderDetail);
+                if (chunk.size() >= exportChunkSize) {
+                    writeChunk(chunk, exportFormat, writer);
+                    chunk.clear();
+                }
+            });
+            writeChunk(chunk, exportFormat, writer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeChunk(List<OrderDetail> chunk, ExportFormat exportFormat, Writer writer) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Map<String, OrderResponse.MemberInfo> memberMap = retrieveMemberMap(chunk);
+        Map<Long, RetrieveOrderInformationResponse> productMap = retrieveProductMap(chunk);
+
+        try {
+            for (OrderDetail orderDetail : chunk) {
+                OrderResponse.OfExport exportedOrder = OrderResponse.OfExport.convertedBy(orderDetail, memberMap.get(orderDetail.getMemberId()));
+                exportedOrder.getProductOrderList().getProductOrderList().forEach(productOrder -> {
+                    RetrieveOrderInformationResponse product = productMap.get(productOrder.getProductId());
+                    if (product != null) {
+                        productOrder.changeName(product.getProductName());
+                    }
+                });
+
+                if (exportFormat == ExportFormat.CSV) {
+                    writeCsvRows(writer, exportedOrder);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(exportedOrder));
+                    writer.write('\n');
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Map<String, OrderResponse.MemberInfo> retrieveMemberMap(List<OrderDetail> chunk) {
+        List<String> memberIds = chunk.stream().map(OrderDetail::getMemberId).distinct().toList();
+        try {
+            ResponseEntity<ApiResponse<Map<String, OrderResponse.MemberInfo>>> response = memberServiceFeignClient.getOrderMemberInfo(memberIds);
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody().getResult() != null) {
+                return response.getBody().getResult();
+            }
+        } catch (FeignException e) {
+            e.printStackTrace();
+        }
+        return Collections.emptyMap();
+    }
+
+    private Map<Long, RetrieveOrderInformationResponse> retrieveProductMap(List<OrderDetail> chunk) {
+        List<Long> productIds = chunk.stream()
+                .flatMap(orderDetail -> orderDetail.getOrderList().getProductOrderEntityList().stream())
+                .map(ProductOrderEntity::getProductId)
+                .distinct()
+                .toList();
+        Map<Long, RetrieveOrderInformationResponse> productMap = new HashMap<>();
+        try {
+            ResponseEntity<ApiResponse<Set<RetrieveOrderInformationResponse>>> response = productServiceFeignClient.retrieveOrderProductInformation(productIds);
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody().getResult() != null) {
+                response.getBody().getResult().forEach(product -> productMap.put(product.getProductId(), product));
+            }
+        } catch (FeignException e) {
+            e.printStackTrace();
+        }
+        return productMap;
+    }
+
+    private void writeCsvRows(Writer writer, OrderResponse.OfExport exportedOrder) throws IOException {
+        OrderResponse.MemberInfo memberInfo = exportedOrder.getMemberInfo();
+        OrderResponse.Recipient recipient = exportedOrder.getRecipient();
+        for (OrderResponse.ProductOrder productOrder : exportedOrder.getProductOrderList().getProductOrderList()) {
+            writeCsvLine(writer, Arrays.asList(
+                    exportedOrder.getOrderDetailId(),
+                    exportedOrder.getOrderStatusCode(),
+                    String.valueOf(exportedOrder.getOrderDateTime()),
+                    exportedOrder.getMemberId(),
+                    memberInfo != null ? memberInfo.getMemberName() : null,
+                    memberInfo != null ? memberInfo.getMemberPhoneNumber() : null,
+                    recipient.getRecipient(),
+                    recipient.getRecipientPhoneNumber(),
+                    recipient.getRecipientAddress(),
+                    String.valueOf(productOrder.getProductId()),
+                    productOrder.getName(),
+                    String.valueOf(productOrder.getQuantity()),
+                    String.valueOf(productOrder.getOriginPrice()),
+                    String.valueOf(productOrder.getDiscountAmount()),
+                    String.valueOf(productOrder.getFinalPrice()),
+                    productOrder.getStatus().getCode()));
+        }
+    }
+
+    private void writeCsvLine(Writer writer, List<String> values) throws IOException {
+        for (int index = 0; index < values.size(); index++) {
+            if (index > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(index)));
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
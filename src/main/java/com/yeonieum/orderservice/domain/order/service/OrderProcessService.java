@@ -6,8 +6,10 @@ import com.yeonieum.orderservice.domain.order.dto.response.OrderResponse;
 import com.yeonieum.orderservice.domain.order.entity.OrderDetail;
 import com.yeonieum.orderservice.domain.order.entity.OrderStatus;
 import com.yeonieum.orderservice.domain.order.entity.ProductOrderEntity;
+import com.yeonieum.orderservice.domain.order.event.OrderStatusChangedEvent;
 import com.yeonieum.orderservice.domain.order.exception.OrderException;
 import com.yeonieum.orderservice.domain.order.policy.OrderStatusPolicy;
+import com.yeonieum.orderservice.domain.order.repository.OrderDetailJdbcRepository;
 import com.yeonieum.orderservice.domain.order.repository.OrderDetailRepository;
 import com.yeonieum.orderservice.domain.order.repository.OrderStatusRepository;
 import com.yeonieum.orderservice.domain.order.repository.PaymentInformationRepository;
@@ -18,19 +20,23 @@ import com.yeonieum.orderservice.domain.release.entity.ReleaseStatus;
 import com.yeonieum.orderservice.domain.release.repository.ReleaseRepository;
 import com.yeonieum.orderservice.domain.release.repository.ReleaseStatusRepository;
 import com.yeonieum.orderservice.domain.statistics.entity.Statistics;
-import com.yeonieum.orderservice.domain.statistics.repository.StatisticsRepository;
+import com.yeonieum.orderservice.domain.statistics.service.StatisticsService;
 import com.yeonieum.orderservice.global.enums.OrderStatusCode;
 import com.yeonieum.orderservice.global.enums.OrderType;
 import com.yeonieum.orderservice.global.enums.ReleaseStatusCode;
+import com.yeonieum.orderservice.global.responses.BulkProcessResult;
 import com.yeonieum.orderservice.infrastructure.feignclient.MemberServiceFeignClient;
 import com.yeonieum.orderservice.infrastructure.feignclient.ProductServiceFeignClient;
 import com.yeonieum.orderservice.infrastructure.messaging.producer.OrderEventProducer;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -57,7 +63,16 @@ public class OrderProcessService {
     private static final String CANCELLED_PAYMENT_AMOUNT = "cancelledPaymentAmount";
     private static final String CANCELLED_DISCOUNT_AMOUNT = "cancelledDiscountAmount";
     private static final String CANCELLED_ORIGIN_PRODUCT_PRICE = "cancelledOriginProductPrice";
-    private final StatisticsRepository statisticsRepository;
+    private final StatisticsService statisticsService;
+    private final OrderDetailJdbcRepository orderDetailJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private static final Set<OrderStatusCode> BULK_UPDATABLE_ORDER_STATUS = EnumSet.of(
+            OrderStatusCode.AWAITING_RELEASE, OrderStatusCode.PREPARING_PRODUCT, OrderStatusCode.CANCELED,
+            OrderStatusCode.REFUND_REQUEST, OrderStatusCode.REFUNDED);
+
+    @Value("${order.bulk.chunk-size:200}")
+    private int bulkChunkSize;
 
 
     /**
@@ -106,12 +121,16 @@ public class OrderProcessService {
                 productOrderEntity.changeStatus(requestedStatusCode));
         // 명시적 저장
         orderDetailRepository.save(orderDetail);
+        List<ProductOrderEntity> productOrderEntityList = orderDetail.getOrderList().getProductOrderEntityList();
         return OrderResponse.OfResultUpdateStatus.builder()
                 .orderDetailId(orderDetail.getOrderDetailId())
                 .orderStatusCode(requestedStatusCode.getCode())
-                .productOrderEntityList(orderDetail.getOrderList().getProductOrderEntityList().stream().filter(
-                        productOrderEntity -> productOrderEntity.getStatus().equals(requestedStatusCode)).collect(Collectors.toList())
-                ).build();
+                .productOrderEntityList(productOrderEntityList.stream().filter(
+                        productOrderEntity -> productOrderEntity.getStatus().equals(requestedStatusCode)).collect(Collectors.toList()))
+                .storeName(orderDetail.getStoreName())
+                .mainProductName(productOrderEntityList.get(0).getName())
+                .productCount(productOrderEntityList.size())
+                .build();
     }
 
     /**
@@ -151,7 +170,7 @@ public class OrderProcessService {
         OrderStatusCode requestedCode = updateProductOrderStatus.getOrderStatusCode();
         switch (requestedCode) {
             case CANCELED, REFUND_REQUEST, REFUNDED -> {
-                productOrder.changeStatus(requestedCode);
+                orderDetail.changeProductOrderStatus(productOrder, requestedCode);
             }
             default -> throw new OrderException(INVALID_ACCESS, HttpStatus.BAD_REQUEST);
         }
@@ -242,12 +261,11 @@ public class OrderProcessService {
                 paymentAmountMap != null ? paymentAmountMap.get(CANCELLED_ORIGIN_PRODUCT_PRICE) : 0));
 
         //통계 테이블 생성
+        //feignClient 필요한 회원정보 요청
+        OrderResponse.MemberStatistics memberStatistics = memberServiceFeignClient.getOrderMemberStatistics(orderDetail.getMemberId()).getBody().getResult();
+        List<Statistics> statisticsList = new ArrayList<>();
         for(ProductOrderEntity productOrderEntity : orderDetail.getOrderList().getProductOrderEntityList()) {
-
-            //feignClient 필요한 회원정보 요청
-            OrderResponse.MemberStatistics memberStatistics = memberServiceFeignClient.getOrderMemberStatistics(orderDetail.getMemberId()).getBody().getResult();
-
-            statisticsRepository.save(Statistics.builder()
+            statisticsList.add(Statistics.builder()
                     .customerId(orderDetail.getCustomerId())
                     .memberId(orderDetail.getMemberId())
                     .productId(productOrderEntity.getProductId())
@@ -259,12 +277,16 @@ public class OrderProcessService {
                     .price(productOrderEntity.getFinalPrice())
                     .build());
         }
+        statisticsService.recordStatistics(statisticsList);
 
         return OrderResponse.OfResultPlaceOrder.builder()
                 .isPayment(isPayment)
                 .paymentAmount(isPayment ? orderCreation.getPaymentAmount() : 0)
                 .orderDetailId(orderDetailId)
                 .customerId(orderDetail.getCustomerId())
+                .storeName(orderDetail.getStoreName())
+                .mainProductName(orderDetail.getOrderList().getProductOrderEntityList().get(0).getName())
+                .productCount(orderDetail.getOrderList().getProductOrderEntityList().size())
                 .build();
     }
 
@@ -358,61 +380,176 @@ public class OrderProcessService {
 
     /**
      * 주문상태 일괄 변경 (상품 준비중 -> 출고 대기)
+     * 모든 주문의 상태 전이를 메모리에서 먼저 검증한 뒤, 하나의 트랜잭션 안에서 chunk 단위 문장으로 나누어 집합 단위로 반영한다.
+     * chunk마다 주문 행을 잠그고 다시 읽은 뒤, 주문 헤더는 UPDATE 한 문장, 상품 주문 목록과 출고 생성은 배치 문장으로 처리한다.
+     * 검증을 통과한 뒤 그 사이 상태나 상품 주문 목록이 바뀐 주문이 발견되면 앞서 반영한 chunk까지 모두 롤백되고 예외가 발생한다.
+     * (일부만 커밋되면 이벤트가 발행되지 않은 주문이 남으므로, 부분 반영이 필요하면 changeBulkOrderStatusPartially를 사용)
      * @param bulkUpdateStatus (업데이틀 될 여러 주문 ID 들, 업데이트 될 출고 상태값) DTO
      * @return
      */
-    @Transactional
     public List<OrderResponse.OfResultUpdateStatus> changeBulkOrderStatus(Long customerId, OrderRequest.OfBulkUpdateOrderStatus bulkUpdateStatus) {
-        // 요청된 모든 주문 상세 정보를 가져옴
-        List<OrderDetail> orderDetails = orderDetailRepository.findAllByIdAndCustomerId(bulkUpdateStatus.getOrderIds(), customerId);
+        OrderStatusCode requestedStatusCode = bulkUpdateStatus.getOrderStatusCode();
+        if (!BULK_UPDATABLE_ORDER_STATUS.contains(requestedStatusCode)) {
+            throw new OrderException(INVALID_ACCESS, HttpStatus.CONFLICT);
+        }
+
+        // 요청된 모든 주문 상세 정보를 조회 전용 객체로 가져옴
+        List<OrderDetail> orderDetails = orderDetailJdbcRepository.findAllByIdAndCustomerId(bulkUpdateStatus.getOrderIds(), customerId);
 
         // 요청된 ID 수와 조회된 결과 수가 다르면 존재하지 않는 ID가 있다는 의미
         if (orderDetails.size() != bulkUpdateStatus.getOrderIds().size()) {
             throw new OrderException(ORDER_ID_NOT_FOUND, HttpStatus.CONFLICT);
         }
 
-        OrderStatus requestedStatus = orderStatusRepository.findByStatusName(bulkUpdateStatus.getOrderStatusCode());
-        OrderStatusCode requestedStatusCode = requestedStatus.getStatusName();
-
+        // 쓰기 전에 모든 주문의 상태 전이를 검증
+        Set<OrderStatusCode> allowedPreviousStatusSet =
+                orderStatusPolicy.getOrderStatusTransitionRule().get(requestedStatusCode).getRequiredPreviosConditionSet();
         for (OrderDetail orderDetail : orderDetails) {
+            if (!allowedPreviousStatusSet.contains(orderDetail.getOrderStatus().getStatusName())) {
+                throw new OrderException(ORDER_STATUS_TRANSITION_RULE_VIOLATION, HttpStatus.CONFLICT);
+            }
+        }
+
+        OrderStatus requestedStatus = orderStatusRepository.findByStatusName(requestedStatusCode);
+        List<OrderStatus> allowedPreviousStatusList = allowedPreviousStatusSet.stream()
+                .map(orderStatusRepository::findByStatusName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        ReleaseStatus releaseStatus = requestedStatusCode == OrderStatusCode.AWAITING_RELEASE
+                ? releaseStatusRepository.findByStatusName(ReleaseStatusCode.AWAITING_RELEASE)
+                : null;
+
+        // 전부 반영되거나 전부 롤백되어야 하므로 chunk는 문장 크기만 나누고 트랜잭션은 하나로 묶음
+        List<OrderDetail> updatedOrderDetails = new ArrayList<>(orderDetails.size());
+        transactionTemplate.executeWithoutResult(transactionStatus -> {
+            for (int from = 0; from < orderDetails.size(); from += bulkChunkSize) {
+                List<OrderDetail> chunk = orderDetails.subList(from, Math.min(from + bulkChunkSize, orderDetails.size()));
+                updatedOrderDetails.addAll(applyBulkOrderStatus(customerId, chunk, requestedStatus, allowedPreviousStatusList, releaseStatus));
+            }
+        });
 
-            OrderStatusCode currentOrderStatus = orderDetail.getOrderStatus().getStatusName();
+        return updatedOrderDetails.stream()
+                .map(orderDetail -> toResultUpdateStatus(orderDetail, requestedStatusCode))
+                .collect(Collectors.toList());
+    }
 
-            if (!orderStatusPolicy.getOrderStatusTransitionRule().get(requestedStatusCode).getRequiredPreviosConditionSet().contains(currentOrderStatus)) {
-                throw new OrderException(ORDER_STATUS_TRANSITION_RULE_VIOLATION, HttpStatus.CONFLICT);
+    /**
+     * 주문상태 일괄 변경 (부분 성공 허용)
+     * 주문 ID를 독립된 chunk로 나누어 chunk마다 따로 커밋한다.
+     * 상태 전이가 허용되지 않는 주문은 건너뛰고, chunk 반영이 실패하면 해당 chunk의 주문을 한 건씩 다시 시도해 실패한 주문만 걸러낸다.
+     * @param bulkUpdateStatus (업데이틀 될 여러 주문 ID 들, 업데이트 될 출고 상태값) DTO
+     * @return 커밋된 주문과 건너뛴/실패한 주문 ID 및 사유
+     */
+    public BulkProcessResult<OrderResponse.OfResultUpdateStatus> changeBulkOrderStatusPartially(Long customerId, OrderRequest.OfBulkUpdateOrderStatus bulkUpdateStatus) {
+        OrderStatusCode requestedStatusCode = bulkUpdateStatus.getOrderStatusCode();
+        if (!BULK_UPDATABLE_ORDER_STATUS.contains(requestedStatusCode)) {
+            throw new OrderException(INVALID_ACCESS, HttpStatus.CONFLICT);
+        }
+
+        BulkProcessResult<OrderResponse.OfResultUpdateStatus> result = new BulkProcessResult<>();
+        List<String> requestedOrderIds = bulkUpdateStatus.getOrderIds().stream().distinct().collect(Collectors.toList());
+        Map<String, OrderDetail> orderDetailMap = orderDetailJdbcRepository.findAllByIdAndCustomerId(requestedOrderIds, customerId)
+                .stream().collect(Collectors.toMap(OrderDetail::getOrderDetailId, Function.identity()));
+
+        Set<OrderStatusCode> allowedPreviousStatusSet =
+                orderStatusPolicy.getOrderStatusTransitionRule().get(requestedStatusCode).getRequiredPreviosConditionSet();
+        List<OrderDetail> transitionableOrderDetails = new ArrayList<>();
+        for (String orderId : requestedOrderIds) {
+            OrderDetail orderDetail = orderDetailMap.get(orderId);
+            if (orderDetail == null) {
+                result.fail(orderId, ORDER_NOT_FOUND.getMessage());
+            } else if (!allowedPreviousStatusSet.contains(orderDetail.getOrderStatus().getStatusName())) {
+                result.skip(orderId, ORDER_STATUS_TRANSITION_RULE_VIOLATION.getMessage() + " (현재 상태: " + orderDetail.getOrderStatus().getStatusName().getCode() + ")");
+            } else {
+                transitionableOrderDetails.add(orderDetail);
             }
+        }
 
-            // 주문 상태 변경
-            switch (bulkUpdateStatus.getOrderStatusCode()) {
-                case AWAITING_RELEASE -> {
-                    //주문 상태 변경
-                    orderDetail.changeOrderStatus(requestedStatus);
-                    orderDetail.getOrderList().getProductOrderEntityList().forEach(productOrderEntity ->
-                            productOrderEntity.changeStatus(requestedStatusCode));
-
-                    //출고 객체 생성
-                    ReleaseStatus releaseStatus = releaseStatusRepository.findByStatusName(ReleaseStatusCode.AWAITING_RELEASE);
-                    releaseRepository.save(Release.builder()
-                            .orderDetail(orderDetail)
-                            .releaseStatus(releaseStatus)
-                            .build());
-                }
-                case PREPARING_PRODUCT, CANCELED, REFUND_REQUEST, REFUNDED -> {
-                    orderDetail.changeOrderStatus(requestedStatus);
-                    orderDetail.getOrderList().getProductOrderEntityList().forEach(productOrderEntity ->
-                            productOrderEntity.changeStatus(requestedStatusCode));
+        OrderStatus requestedStatus = orderStatusRepository.findByStatusName(requestedStatusCode);
+        List<OrderStatus> allowedPreviousStatusList = allowedPreviousStatusSet.stream()
+                .map(orderStatusRepository::findByStatusName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        ReleaseStatus releaseStatus = requestedStatusCode == OrderStatusCode.AWAITING_RELEASE
+                ? releaseStatusRepository.findByStatusName(ReleaseStatusCode.AWAITING_RELEASE)
+                : null;
+
+        for (int from = 0; from < transitionableOrderDetails.size(); from += bulkChunkSize) {
+            List<OrderDetail> chunk = transitionableOrderDetails.subList(from, Math.min(from + bulkChunkSize, transitionableOrderDetails.size()));
+            try {
+                transactionTemplate.execute(transactionStatus ->
+                        applyBulkOrderStatus(customerId, chunk, requestedStatus, allowedPreviousStatusList, releaseStatus))
+                        .forEach(orderDetail -> result.succeed(toResultUpdateStatus(orderDetail, requestedStatusCode)));
+            } catch (RuntimeException chunkException) {
+                // chunk 전체가 롤백되었으므로 한 건씩 다시 시도해 원인이 된 주문만 걸러냄
+                for (OrderDetail orderDetail : chunk) {
+                    try {
+                        transactionTemplate.execute(transactionStatus ->
+                                applyBulkOrderStatus(customerId, List.of(orderDetail), requestedStatus, allowedPreviousStatusList, releaseStatus))
+                                .forEach(updatedOrderDetail -> result.succeed(toResultUpdateStatus(updatedOrderDetail, requestedStatusCode)));
+                    } catch (OrderException e) {
+                        if (e.getCustomCode() == ORDER_STATUS_TRANSITION_RULE_VIOLATION) {
+                            result.skip(orderDetail.getOrderDetailId(), BulkProcessResult.reasonOf(e));
+                        } else {
+                            result.fail(orderDetail.getOrderDetailId(), e);
+                        }
+                    } catch (RuntimeException e) {
+                        result.fail(orderDetail.getOrderDetailId(), e);
+                    }
                 }
-                default -> throw new OrderException(INVALID_ACCESS, HttpStatus.CONFLICT);
             }
-            orderDetail.changeOrderList(orderDetail.getOrderList()); // deepcopy
-            orderDetailRepository.save(orderDetail); // 명시적 저장
-
         }
-        return orderDetails.stream().map(order -> OrderResponse.OfResultUpdateStatus.builder()
-                .orderDetailId(order.getOrderDetailId())
+        return result;
+    }
+
+    private OrderResponse.OfResultUpdateStatus toResultUpdateStatus(OrderDetail orderDetail, OrderStatusCode requestedStatusCode) {
+        return OrderResponse.OfResultUpdateStatus.builder()
+                .orderDetailId(orderDetail.getOrderDetailId())
                 .orderStatusCode(requestedStatusCode.getCode())
-                .productOrderEntityList(order.getOrderList().getProductOrderEntityList().stream().filter(
+                .productOrderEntityList(orderDetail.getOrderList().getProductOrderEntityList().stream().filter(
                         productOrderEntity -> productOrderEntity.getStatus().equals(requestedStatusCode)).collect(Collectors.toList())
-                ).build()).collect(Collectors.toList());
+                ).build();
+    }
+
+    /**
+     * 한 chunk의 주문상태 변경을 현재 트랜잭션에서 반영
+     * 검증에 사용한 주문은 트랜잭션 밖에서 읽은 것이므로, 주문 행을 잠그고 다시 읽은 주문의 상품 주문 목록을 고쳐 저장한다.
+     * @param chunk 검증에 사용한 주문 (변경하지 않음)
+     * @param releaseStatus 출고 대기로 변경할 때만 전달되며, 이때 출고 객체를 함께 생성한다.
+     * @return 변경이 반영된 주문
+     */
+    private List<OrderDetail> applyBulkOrderStatus(Long customerId, List<OrderDetail> chunk, OrderStatus requestedStatus,
+                                                   List<OrderStatus> allowedPreviousStatusList, ReleaseStatus releaseStatus) {
+        List<OrderDetail> lockedOrderDetails = orderDetailJdbcRepository.findUnchangedForUpdate(chunk, customerId);
+        if (lockedOrderDetails.size() != chunk.size()) {
+            // 검증 이후 상품 단위 취소/환불 등으로 상품 주문 목록이 바뀐 주문이 있으므로 chunk 전체를 롤백
+            throw new OrderException(ORDER_STATUS_TRANSITION_RULE_VIOLATION, HttpStatus.CONFLICT);
+        }
+        lockedOrderDetails.forEach(orderDetail -> orderDetail.getOrderList().getProductOrderEntityList().forEach(productOrderEntity ->
+                productOrderEntity.changeStatus(requestedStatus.getStatusName())));
+        List<String> orderDetailIds = lockedOrderDetails.stream().map(OrderDetail::getOrderDetailId).collect(Collectors.toList());
+
+        int updatedCount = orderDetailRepository.updateOrderStatusInBulk(
+                orderDetailIds, customerId, requestedStatus, allowedPreviousStatusList, LocalDate.now());
+        if (updatedCount != orderDetailIds.size()) {
+            // 검증 이후 다른 요청이 상태를 바꾼 주문이 있으므로 chunk 전체를 롤백
+            throw new OrderException(ORDER_STATUS_TRANSITION_RULE_VIOLATION, HttpStatus.CONFLICT);
+        }
+
+        orderDetailJdbcRepository.batchUpdateProductOrderList(lockedOrderDetails);
+
+        // 일괄 UPDATE는 엔티티 저장을 거치지 않으므로 상태 전이 이벤트를 직접 발행 (chunk가 커밋되어야 이력에 기록됨)
+        LocalDateTime changedDateTime = LocalDateTime.now();
+        lockedOrderDetails.forEach(orderDetail -> eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                orderDetail.getOrderDetailId(), customerId, null,
+                orderDetail.getOrderStatus().getStatusName(), requestedStatus.getStatusName(), changedDateTime)));
+
+        if (releaseStatus != null) {
+            releaseRepository.saveAll(orderDetailIds.stream().map(orderDetailId -> Release.builder()
+                    .orderDetail(orderDetailRepository.getReferenceById(orderDetailId))
+                    .releaseStatus(releaseStatus)
+                    .build()).collect(Collectors.toList()));
+        }
+        return lockedOrderDetails;
     }
 }
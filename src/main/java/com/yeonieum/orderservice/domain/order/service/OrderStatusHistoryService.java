@@ -0,0 +1,107 @@
+package com.yeonieum.orderservice.domain.order.service;
+
+import com.yeonieum.orderservice.domain.order.dto.response.OrderStatusHistoryResponse;
+import com.yeonieum.orderservice.domain.order.entity.OrderDetail;
+import com.yeonieum.orderservice.domain.order.entity.OrderStatusHistory;
+import com.yeonieum.orderservice.domain.order.event.OrderStatusChangedEvent;
+import com.yeonieum.orderservice.domain.order.exception.OrderException;
+import com.yeonieum.orderservice.domain.order.repository.OrderDetailRepository;
+import com.yeonieum.orderservice.domain.order.repository.OrderStatusHistoryJdbcRepository;
+import com.yeonieum.orderservice.domain.order.repository.OrderStatusHistoryRepository;
+import com.yeonieum.orderservice.global.usercontext.UserContext;
+import com.yeonieum.orderservice.global.usercontext.UserContextHolder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.yeonieum.orderservice.domain.order.exception.OrderExceptionCode.ORDER_NOT_FOUND;
+
+@Service
+@RequiredArgsConstructor
+public class OrderStatusHistoryService {
+    private static final String SYSTEM_ACTOR = "SYSTEM";
+
+    private final OrderStatusHistoryWriter orderStatusHistoryWriter;
+    private final OrderStatusHistoryRepository orderStatusHistoryRepository;
+    private final OrderStatusHistoryJdbcRepository orderStatusHistoryJdbcRepository;
+    private final OrderDetailRepository orderDetailRepository;
+
+    /**
+     * 커밋된 상태 전이를 이력 기록기에 넘긴다.
+     * 롤백된 트랜잭션의 전이는 전달되지 않는다. 변경을 요청한 사용자는 커밋한 스레드의 사용자 정보에서 읽는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void recordStatusChange(OrderStatusChangedEvent event) {
+        UserContext userContext = UserContextHolder.getContext();
+        String actorRole = StringUtils.hasText(userContext.getRoleType()) ? userContext.getRoleType() : SYSTEM_ACTOR;
+        String actorId = "ROLE_MEMBER".equals(actorRole) ? userContext.getUserId() : userContext.getUniqueId();
+
+        orderStatusHistoryWriter.enqueue(OrderStatusHistory.builder()
+                .orderDetailId(event.orderDetailId())
+                .customerId(event.customerId())
+                .productId(event.productId())
+                .fromStatus(event.fromStatus())
+                .toStatus(event.toStatus())
+                .actorRole(actorRole)
+                .actorId(StringUtils.hasText(actorId) ? actorId : null)
+                .changedDateTime(event.changedDateTime())
+                .build());
+    }
+
+    /**
+     * 주문상태 변경 이력 조회 서비스
+     * 주문 전체와 상품 주문의 전이를 시간순으로 반환하며, 각 전이에 직전 상태에 머문 시간을 함께 담는다.
+     * @param roleType 요청자 역할
+     * @param loginId 회원이면 회원 ID, 고객이면 고객 ID
+     * @param orderDetailId 주문 ID
+     */
+    @Transactional(readOnly = true)
+    public List<OrderStatusHistoryResponse.OfTimeline> retrieveStatusTimeline(String roleType, String loginId, String orderDetailId) {
+        OrderDetail orderDetail = orderDetailRepository.findById(orderDetailId).orElseThrow(
+                () -> new OrderException(ORDER_NOT_FOUND, HttpStatus.NOT_FOUND));
+
+        if(roleType.equals("ROLE_MEMBER")) {
+            if(!orderDetail.getMemberId().equals(loginId)) {
+                throw new IllegalArgumentException("접근 권한이 없습니다.");
+            }
+        } else {
+            if(!orderDetail.getCustomerId().toString().equals(loginId)) {
+                throw new IllegalArgumentException("접근 권한이 없습니다.");
+            }
+        }
+
+        // 주문 전체(null)와 상품별로 직전 전이 시각을 따로 추적
+        Map<Long, LocalDateTime> lastChangedDateTimeMap = new HashMap<>();
+        List<OrderStatusHistoryResponse.OfTimeline> timeline = new ArrayList<>();
+        for (OrderStatusHistory history : orderStatusHistoryRepository.findByOrderDetailIdOrderByChangedDateTimeAscOrderStatusHistoryIdAsc(orderDetailId)) {
+            LocalDateTime previous = lastChangedDateTimeMap.getOrDefault(history.getProductId(), orderDetail.getOrderDateTime());
+            timeline.add(OrderStatusHistoryResponse.OfTimeline.convertedBy(history,
+                    Math.max(0, Duration.between(previous, history.getChangedDateTime()).toSeconds())));
+            lastChangedDateTimeMap.put(history.getProductId(), history.getChangedDateTime());
+        }
+        return timeline;
+    }
+
+    /**
+     * 고객 주문의 상태별 체류 시간 백분위수 조회 서비스
+     * @param customerId 고객 ID
+     * @param startDate 상태에 들어온 날짜의 시작
+     * @param endDate 상태에 들어온 날짜의 끝 (포함)
+     */
+    @Transactional(readOnly = true)
+    public List<OrderStatusHistoryResponse.OfStatusDuration> retrieveStatusDurations(Long customerId, LocalDate startDate, LocalDate endDate) {
+        return orderStatusHistoryJdbcRepository.findStatusDurations(customerId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+    }
+}
@@ -0,0 +1,168 @@
+package com.yeonieum.orderservice.domain.order.service;
+
+import com.yeonieum.orderservice.domain.order.entity.OrderStatusHistory;
+import com.yeonieum.orderservice.domain.order.repository.OrderStatusHistoryJdbcRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문상태 이력 그룹 커밋 기록기
+ * 커밋된 상태 전이를 크기가 제한된 큐에 넣고 즉시 반환한다. 기록 스레드가 첫 이력을 꺼낸 뒤 linger 시간 동안 더 모아
+ * batch-size 단위로 하나의 배치 INSERT와 한 번의 커밋으로 기록하므로, 주문 처리 트랜잭션은 이력 기록을 기다리지 않는다.
+ * 큐가 가득 차면 호출한 스레드에서 바로 기록해 이력을 버리지 않는다.
+ * 배치 INSERT가 실패하면 간격을 두 배씩 늘려 가며 retry.max-attempts 번까지 다시 시도하고, 그래도 실패하면 한 건씩 별도 트랜잭션으로 기록해
+ * 문제가 된 이력만 남긴다. 끝내 기록하지 못한 이력은 order.status-history.dropped 지표로 세고 내용을 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatusHistoryWriter {
+    private final OrderStatusHistoryJdbcRepository orderStatusHistoryJdbcRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private BlockingQueue<OrderStatusHistory> queue;
+    private TransactionTemplate writeTransaction;
+    private DistributionSummary batchSizeSummary;
+    private Thread writerThread;
+
+    @Value("${order.status-history.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${order.status-history.batch-size:500}")
+    private int batchSize;
+
+    // 첫 이력을 꺼낸 뒤 같은 배치로 묶을 이력을 기다리는 최대 시간
+    @Value("${order.status-history.linger-millis:50}")
+    private long lingerMillis;
+
+    // 배치 INSERT 시도 횟수 (첫 시도 포함)
+    @Value("${order.status-history.retry.max-attempts:3}")
+    private int retryMaxAttempts;
+
+    // 첫 재시도 전 대기 시간, 재시도마다 두 배로 늘린다.
+    @Value("${order.status-history.retry.backoff-millis:200}")
+    private long retryBackoffMillis;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        // 커밋 이후 콜백에서 동기 기록할 때 끝난 트랜잭션에 참여하지 않도록 항상 새 트랜잭션을 사용
+        writeTransaction = new TransactionTemplate(transactionManager);
+        writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        batchSizeSummary = DistributionSummary.builder("order.status-history.batch.size").register(meterRegistry);
+        Gauge.builder("order.status-history.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+
+        writerThread = new Thread(this::writeLoop, "order-status-history-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        // 종료 시점에 남은 이력을 기록
+        List<OrderStatusHistory> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    public void enqueue(OrderStatusHistory history) {
+        if (!queue.offer(history)) {
+            meterRegistry.counter("order.status-history.overflow").increment();
+            write(List.of(history));
+        }
+    }
+
+    private void writeLoop() {
+        List<OrderStatusHistory> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remainingNanos <= 0) {
+                        break;
+                    }
+                    OrderStatusHistory next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<OrderStatusHistory> batch) {
+        batchSizeSummary.record(batch.size());
+        long backoffMillis = retryBackoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                writeTransaction.executeWithoutResult(status -> orderStatusHistoryJdbcRepository.batchInsert(batch));
+                meterRegistry.counter("order.status-history.written").increment(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                meterRegistry.counter("order.status-history.failed").increment(batch.size());
+                if (attempt >= retryMaxAttempts || !sleep(backoffMillis)) {
+                    log.warn("주문상태 이력 배치 기록 실패, 한 건씩 기록: {}건, 첫 주문={}", batch.size(), batch.get(0).getOrderDetailId(), e);
+                    break;
+                }
+                meterRegistry.counter("order.status-history.retried").increment();
+                backoffMillis *= 2;
+            }
+        }
+
+        // 배치 트랜잭션은 롤백되었으므로 한 건씩 다시 기록해 문제가 된 이력만 남긴다.
+        for (OrderStatusHistory history : batch) {
+            try {
+                writeTransaction.executeWithoutResult(status -> orderStatusHistoryJdbcRepository.batchInsert(List.of(history)));
+                meterRegistry.counter("order.status-history.written").increment();
+            } catch (RuntimeException e) {
+                meterRegistry.counter("order.status-history.dropped").increment();
+                log.error("주문상태 이력 유실: orderDetailId={}, productId={}, {} -> {}, actor={}:{}, changedDateTime={}",
+                        history.getOrderDetailId(), history.getProductId(), history.getFromStatus(), history.getToStatus(),
+                        history.getActorRole(), history.getActorId(), history.getChangedDateTime(), e);
+            }
+        }
+    }
+
+    /**
+     * 재시도 전 대기한다. 종료 중이라 인터럽트되면 false를 반환한다.
+     */
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.yeonieum.orderservice.domain.order.repository.OrderDetailRepository;
 import com.yeonieum.orderservice.domain.order.repository.OrderStatusRepository;
 import com.yeonieum.orderservice.global.enums.OrderStatusCode;
 import com.yeonieum.orderservice.global.responses.ApiResponse;
+import com.yeonieum.orderservice.infrastructure.feignclient.FeignFanOut;
 import com.yeonieum.orderservice.infrastructure.feignclient.MemberServiceFeignClient;
 import com.yeonieum.orderservice.infrastructure.feignclient.ProductServiceFeignClient;
 import com.yeonieum.orderservice.infrastructure.feignclient.dto.response.RetrieveOrderInformationResponse;
@@ -29,6 +30,7 @@ import java.util.Map;
 
 import java.util.*;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static com.yeonieum.orderservice.domain.order.exception.OrderExceptionCode.ORDER_NOT_FOUND;
@@ -40,6 +42,7 @@ public class OrderTrackingService {
     private final OrderStatusRepository orderStatusRepository;
     private final MemberServiceFeignClient memberServiceFeignClient;
     private final ProductServiceFeignClient productServiceFeignClient;
+    private final FeignFanOut feignFanOut;
 
     /**
      * 고객용 주문 조회 서비스
@@ -76,6 +79,16 @@ public class OrderTrackingService {
         }
 
         Page<OrderDetail> orderDetailsPage = orderDetailRepository.findOrders(customerId, orderStatusCode, orderDetailId, orderDateTime, recipient, recipientPhoneNumber, recipientAddress, memberId, isFilteredMember && isAvailableMemberService ? memberMap.values().stream().map(OrderResponse.MemberInfo::getMemberId).toList() : null, startDate, endDate, pageable);
+        List<Long> productIdList = orderDetailsPage.stream()
+                .flatMap(orderDetail -> orderDetail.getOrderList()
+                        .getProductOrderEntityList()
+                        .stream()
+                        .map(ProductOrderEntity::getProductId))
+                .collect(Collectors.toList());
+        // 상품 정보 조회는 회원 정보 조회와 독립적이므로 먼저 시작해 두고 회원 정보를 조회한다.
+        CompletableFuture<ResponseEntity<ApiResponse<Set<RetrieveOrderInformationResponse>>>> productFuture =
+                feignFanOut.call(() -> productServiceFeignClient.retrieveOrderProductInformation(productIdList));
+
         if(!isFilteredMember) {
             List<String> memberIds = orderDetailsPage.getContent().stream().map(orderDetail -> orderDetail.getMemberId()).toList();
             try {
@@ -92,18 +105,12 @@ public class OrderTrackingService {
         }
 
         List<OrderResponse.OfRetrieveForCustomer> convertedOrders = new ArrayList<>();
-        List<Long> productIdList = orderDetailsPage.stream()
-                .flatMap(orderDetail -> orderDetail.getOrderList()
-                        .getProductOrderEntityList()
-                        .stream()
-                        .map(ProductOrderEntity::getProductId))
-                .collect(Collectors.toList());
 
         boolean isAvailableProductService = true;
         ResponseEntity<ApiResponse<Set<RetrieveOrderInformationResponse>>> productResponse = null;
 
         try{
-            productResponse = productServiceFeignClient.retrieveOrderProductInformation(productIdList);
+            productResponse = FeignFanOut.await(productFuture);
             isAvailableProductService = productResponse.getStatusCode().is2xxSuccessful();
         } catch (FeignException e) {
             e.printStackTrace();
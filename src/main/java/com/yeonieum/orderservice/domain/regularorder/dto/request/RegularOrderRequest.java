@@ -3,7 +3,7 @@ package com.yeonieum.orderservice.domain.regularorder.dto.request;
 import com.yeonieum.orderservice.domain.order.dto.request.OrderRequest;
 import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplication;
 import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplicationDay;
-import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryReservation;
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplicationProduct;
 import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryStatus;
 import com.yeonieum.orderservice.global.enums.DayOfWeek;
 import lombok.Builder;
@@ -11,10 +11,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 public class RegularOrderRequest {
@@ -58,53 +55,16 @@ public class RegularOrderRequest {
                     .build();
         }
 
-        // 단일 배송 날짜에 대한 엔티티 리스트 생성 메서드
-        public List<RegularDeliveryReservation> toReservationEntity(String memberId,
-                                                                    LocalDate deliveryDay,
-                                                                    RegularDeliveryApplication application,
-                                                                    RegularDeliveryStatus status) {
+        public List<RegularDeliveryApplicationProduct> toApplicationProductEntityList(RegularDeliveryApplication application) {
             return productOrderList.getProductOrderList().stream()
-                    .map(productOrder -> RegularDeliveryReservation.builder()
+                    .map(productOrder -> RegularDeliveryApplicationProduct.builder()
                             .regularDeliveryApplication(application)
-                            .regularDeliveryStatus(status)
-                            .startDate(deliveryDay)
-                            .quantity(productOrder.getQuantity())
                             .productId(productOrder.getProductId())
-                            .memberId(memberId)
+                            .quantity(productOrder.getQuantity())
                             .build())
                     .collect(Collectors.toList());
         }
 
-        // 여러 배송 날짜에 대한 엔티티 리스트 생성 메서드
-        public List<RegularDeliveryReservation> toReservationEntityList(String memberId,
-                                                                        Set<LocalDate> deliveryDates,
-                                                                        RegularDeliveryApplication application,
-                                                                        RegularDeliveryStatus status) {
-
-            List<RegularDeliveryReservation> reservationList =
-                    deliveryDates.stream()
-                    .flatMap(deliveryDay -> toReservationEntity(memberId, deliveryDay, application, status).stream())
-                    .collect(Collectors.toList());
-
-            Map<LocalDate, List<RegularDeliveryReservation>> groupedByStartDate = reservationList.stream()
-                    .collect(Collectors.groupingBy(RegularDeliveryReservation::getStartDate));
-
-            // 각 그룹에 대해 회차 번호를 부여
-            int roundNumber = 1;
-            List<RegularDeliveryReservation> processedReservations = new ArrayList<>();
-
-            for (Map.Entry<LocalDate, List<RegularDeliveryReservation>> entry : groupedByStartDate.entrySet()) {
-                List<RegularDeliveryReservation> reservations = entry.getValue();
-                for (RegularDeliveryReservation reservation : reservations) {
-                    reservation.setDeliveryRounds(roundNumber);
-                    processedReservations.add(reservation);
-                }
-                roundNumber++;  // 다음 날짜 그룹의 회차 번호를 증가시킵니다.
-            }
-
-            return processedReservations;
-        }
-
         public List<RegularDeliveryApplicationDay> toApplicationDayEnityList(RegularDeliveryApplication application) {
             return this.getDeliveryPeriod().deliveryDayOfWeeks.stream().map(
                     dayOfWeek -> {
@@ -67,6 +67,14 @@ public class RegularDeliveryApplication extends BaseEntity {
     @Column(name = "next_delivery_date", nullable = false)
     private LocalDate nextDeliveryDate;
 
+    // 반복 규칙의 기준일(첫 배송 주의 시작일), 규칙 저장 이전에 만들어진 신청은 비어 있으며 모든 회차의 예약 행이 있다.
+    @Column(name = "delivery_anchor_date")
+    private LocalDate deliveryAnchorDate;
+
+    // 예약 행을 만들어 둔 마지막 날짜
+    @Column(name = "materialized_through_date")
+    private LocalDate materializedThroughDate;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "regular_delivery_status_id", nullable = false)
     private RegularDeliveryStatus regularDeliveryStatus;
@@ -79,6 +87,10 @@ public class RegularDeliveryApplication extends BaseEntity {
     @Builder.Default
     private List<RegularDeliveryApplicationDay> regularDeliveryApplicationDayList = new ArrayList<>();
 
+    @OneToMany(mappedBy = "regularDeliveryApplication", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Builder.Default
+    private List<RegularDeliveryApplicationProduct> regularDeliveryApplicationProductList = new ArrayList<>();
+
     public void changeCompletedRounds(int completedRounds) {
         this.completedRounds = completedRounds;
     }
@@ -96,6 +108,21 @@ public class RegularDeliveryApplication extends BaseEntity {
     public void changeStartDate(LocalDate startDate) {
         this.startDate = startDate;
     }
+
+    public void changeDeliveryAnchorDate(LocalDate deliveryAnchorDate) {
+        this.deliveryAnchorDate = deliveryAnchorDate;
+    }
+
+    public void changeMaterializedThroughDate(LocalDate materializedThroughDate) {
+        this.materializedThroughDate = materializedThroughDate;
+    }
+
+    /**
+     * 반복 규칙으로 예약 행을 만들어 가는 신청인지 여부
+     */
+    public boolean isRuleBased() {
+        return deliveryAnchorDate != null;
+    }
 }
 
 
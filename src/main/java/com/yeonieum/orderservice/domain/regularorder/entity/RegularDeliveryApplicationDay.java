@@ -2,6 +2,7 @@ package com.yeonieum.orderservice.domain.regularorder.entity;
 
 import com.yeonieum.orderservice.global.converter.DayOfWeekConverter;
 import com.yeonieum.orderservice.global.enums.DayOfWeek;
+import com.yeonieum.orderservice.global.config.IdGeneratorConfig;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,10 @@ import lombok.*;
 public class RegularDeliveryApplicationDay {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "regular_delivery_application_day_id_generator")
+    @TableGenerator(name = "regular_delivery_application_day_id_generator", table = IdGeneratorConfig.TABLE_NAME,
+            pkColumnName = IdGeneratorConfig.SEQUENCE_COLUMN, valueColumnName = IdGeneratorConfig.VALUE_COLUMN,
+            pkColumnValue = "regular_delivery_application_day", allocationSize = IdGeneratorConfig.ALLOCATION_SIZE)
     @Column(name = "regular_delivery_application_day_id")
     private Long regularDeliveryApplicationDayId;
 
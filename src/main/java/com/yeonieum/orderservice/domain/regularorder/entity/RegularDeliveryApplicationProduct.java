@@ -0,0 +1,32 @@
+package com.yeonieum.orderservice.domain.regularorder.entity;
+
+import com.yeonieum.orderservice.global.config.IdGeneratorConfig;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "regular_delivery_application_product")
+public class RegularDeliveryApplicationProduct {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "regular_delivery_application_product_id_generator")
+    @TableGenerator(name = "regular_delivery_application_product_id_generator", table = IdGeneratorConfig.TABLE_NAME,
+            pkColumnName = IdGeneratorConfig.SEQUENCE_COLUMN, valueColumnName = IdGeneratorConfig.VALUE_COLUMN,
+            pkColumnValue = "regular_delivery_application_product", allocationSize = IdGeneratorConfig.ALLOCATION_SIZE)
+    @Column(name = "regular_delivery_application_product_id")
+    private Long regularDeliveryApplicationProductId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "regular_delivery_application_id", nullable = false)
+    private RegularDeliveryApplication regularDeliveryApplication;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private int quantity;
+}
@@ -1,5 +1,6 @@
 package com.yeonieum.orderservice.domain.regularorder.entity;
 
+import com.yeonieum.orderservice.global.config.IdGeneratorConfig;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,10 @@ import java.time.LocalDate;
 public class RegularDeliveryReservation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "regular_delivery_reservation_id_generator")
+    @TableGenerator(name = "regular_delivery_reservation_id_generator", table = IdGeneratorConfig.TABLE_NAME,
+            pkColumnName = IdGeneratorConfig.SEQUENCE_COLUMN, valueColumnName = IdGeneratorConfig.VALUE_COLUMN,
+            pkColumnValue = "regular_delivery_reservation", allocationSize = IdGeneratorConfig.ALLOCATION_SIZE)
     @Column(name = "regular_delivery_reservation_id")
     private long regularDeliveryReservationId;
 
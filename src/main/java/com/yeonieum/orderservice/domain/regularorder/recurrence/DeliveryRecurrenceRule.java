@@ -0,0 +1,145 @@
+package com.yeonieum.orderservice.domain.regularorder.recurrence;
+
+import com.yeonieum.orderservice.domain.regularorder.dto.request.RegularOrderRequest;
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplication;
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplicationDay;
+import com.yeonieum.orderservice.global.enums.DayOfWeek;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 정기배송 반복 규칙
+ * 기준일(anchorDate)부터 cycleWeeks 주마다 돌아오는 한 주(기준일 ~ 기준일+6일) 안의 배송 요일에 배송하며, endDate 이후에는 배송하지 않는다.
+ * 회차는 배송일 순서대로 1부터 매긴다. 회차와 배송일이 규칙만으로 계산되므로 예약 행이 없어도 임의 구간의 배송일과 특정 회차의 배송일을 구할 수 있다.
+ */
+@Getter
+public class DeliveryRecurrenceRule {
+    private final LocalDate anchorDate;
+    private final LocalDate endDate;
+    private final int cycleWeeks;
+    // 기준일로부터 배송 요일까지의 일수(0~6), 오름차순
+    private final List<Integer> dayOffsets;
+
+    public DeliveryRecurrenceRule(LocalDate anchorDate, LocalDate endDate, int cycleWeeks, Collection<DayOfWeek> dayOfWeeks) {
+        if (cycleWeeks < 1 || dayOfWeeks.isEmpty()) {
+            throw new IllegalArgumentException("배송 주기와 배송 요일을 확인해주세요.");
+        }
+        this.anchorDate = anchorDate;
+        this.endDate = endDate;
+        this.cycleWeeks = cycleWeeks;
+        this.dayOffsets = dayOfWeeks.stream()
+                .map(dayOfWeek -> (int) ChronoUnit.DAYS.between(anchorDate,
+                        anchorDate.with(TemporalAdjusters.nextOrSame(toJavaDayOfWeek(dayOfWeek)))))
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 정기배송 신청 요청의 규칙
+     * 첫 배송 주는 신청 시작일 이후 첫 번째 배송 요일(요청의 첫 요일)로부터 일주일 뒤에 시작한다.
+     */
+    public static DeliveryRecurrenceRule of(RegularOrderRequest.DeliveryPeriod deliveryPeriod) {
+        List<DayOfWeek> dayOfWeeks = deliveryPeriod.getDeliveryDayOfWeeks();
+        if (dayOfWeeks == null || dayOfWeeks.isEmpty()) {
+            throw new IllegalArgumentException("배송 요일을 선택해주세요.");
+        }
+        LocalDate anchorDate = deliveryPeriod.getStartDate()
+                .with(TemporalAdjusters.next(toJavaDayOfWeek(dayOfWeeks.get(0))))
+                .plusDays(7);
+        return new DeliveryRecurrenceRule(anchorDate, deliveryPeriod.getEndDate(), deliveryPeriod.getDeliveryCycle(), dayOfWeeks);
+    }
+
+    /**
+     * 저장된 정기배송 신청의 규칙
+     * 기준일이 없는 신청(규칙 저장 이전에 만들어진 신청)은 첫 배송일과 첫 번째 배송 요일로 기준일을 복원한다.
+     */
+    public static DeliveryRecurrenceRule of(RegularDeliveryApplication application) {
+        List<DayOfWeek> dayOfWeeks = application.getRegularDeliveryApplicationDayList().stream()
+                .sorted(Comparator.comparing(RegularDeliveryApplicationDay::getRegularDeliveryApplicationDayId))
+                .map(RegularDeliveryApplicationDay::getDayCode)
+                .toList();
+        if (dayOfWeeks.isEmpty()) {
+            throw new IllegalArgumentException("배송 요일이 없는 정기배송신청입니다.");
+        }
+        LocalDate anchorDate = application.getDeliveryAnchorDate() != null
+                ? application.getDeliveryAnchorDate()
+                : application.getStartDate().with(TemporalAdjusters.previousOrSame(toJavaDayOfWeek(dayOfWeeks.get(0))));
+        return new DeliveryRecurrenceRule(anchorDate, application.getEndDate(), application.getCycle(), dayOfWeeks);
+    }
+
+    /**
+     * from ~ to 사이의 배송 회차
+     * 구간 앞의 배송 주는 회차 수만 계산하고 건너뛰므로, 전체 기간이 길어도 구간 길이만큼만 계산한다.
+     */
+    public List<Occurrence> occurrencesBetween(LocalDate from, LocalDate to) {
+        List<Occurrence> occurrences = new ArrayList<>();
+        LocalDate lastDate = to.isAfter(endDate) ? endDate : to;
+        if (lastDate.isBefore(anchorDate) || from.isAfter(lastDate)) {
+            return occurrences;
+        }
+
+        long cycleDays = 7L * cycleWeeks;
+        long firstWeek = Math.max(0L, Math.floorDiv(ChronoUnit.DAYS.between(anchorDate, from) - 6, cycleDays));
+        for (long week = firstWeek; ; week++) {
+            LocalDate weekStart = anchorDate.plusDays(week * cycleDays);
+            if (weekStart.isAfter(lastDate)) {
+                return occurrences;
+            }
+            for (int index = 0; index < dayOffsets.size(); index++) {
+                LocalDate deliveryDate = weekStart.plusDays(dayOffsets.get(index));
+                if (deliveryDate.isAfter(lastDate)) {
+                    break;
+                }
+                if (!deliveryDate.isBefore(from)) {
+                    occurrences.add(new Occurrence(roundOf(week, index), deliveryDate));
+                }
+            }
+        }
+    }
+
+    /**
+     * round 회차의 배송일, 규칙 기간을 벗어나면 빈 값
+     */
+    public Optional<Occurrence> occurrence(int round) {
+        if (round < 1) {
+            return Optional.empty();
+        }
+        long week = (round - 1) / dayOffsets.size();
+        int index = (round - 1) % dayOffsets.size();
+        LocalDate deliveryDate = anchorDate.plusDays(week * 7L * cycleWeeks + dayOffsets.get(index));
+        return deliveryDate.isAfter(endDate) ? Optional.empty() : Optional.of(new Occurrence(round, deliveryDate));
+    }
+
+    /**
+     * 전체 배송 회차 수
+     */
+    public int countOccurrences() {
+        if (endDate.isBefore(anchorDate)) {
+            return 0;
+        }
+        long lastWeek = ChronoUnit.DAYS.between(anchorDate, endDate) / (7L * cycleWeeks);
+        LocalDate lastWeekStart = anchorDate.plusDays(lastWeek * 7L * cycleWeeks);
+        long lastWeekCount = dayOffsets.stream().filter(offset -> !lastWeekStart.plusDays(offset).isAfter(endDate)).count();
+        return Math.toIntExact(lastWeek * dayOffsets.size() + lastWeekCount);
+    }
+
+    private int roundOf(long week, int index) {
+        return Math.toIntExact(week * dayOffsets.size() + index + 1);
+    }
+
+    private static java.time.DayOfWeek toJavaDayOfWeek(DayOfWeek dayOfWeek) {
+        return java.time.DayOfWeek.valueOf(dayOfWeek.getStoredDayValue());
+    }
+
+    public record Occurrence(int round, LocalDate date) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.yeonieum.orderservice.domain.regularorder.repository;
+
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplicationProduct;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RegularDeliveryApplicationProductRepository extends JpaRepository<RegularDeliveryApplicationProduct, Long> {
+}
@@ -4,10 +4,12 @@ import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryAppli
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public interface RegularDeliveryApplicationRepository extends JpaRepository<RegularDeliveryApplication, Long> {
     @Query("SELECT r FROM RegularDeliveryApplication r " +
@@ -20,10 +22,6 @@ public interface RegularDeliveryApplicationRepository extends JpaRepository<Regu
             @Param("endDate") LocalDate endDate,
             Pageable pageable);
 
-    @Query("SELECT rda FROM RegularDeliveryApplication rda " +
-            "LEFT JOIN FETCH rda.regularDeliveryReservationList rdr " +
-            "WHERE rda.regularDeliveryApplicationId = :regularDeliveryApplicationId AND rdr.deliveryRounds > rda.completedRounds")
-    RegularDeliveryApplication findByIdWithPendingReservations(@Param("regularDeliveryApplicationId") Long regularDeliveryApplicationId);
     @Query(value = "SELECT rda.* " +
             "FROM regular_delivery_application rda " +
             "LEFT JOIN regular_delivery_reservation rdr ON rda.regular_delivery_application_id = rdr.regular_delivery_application_id " +
@@ -32,6 +30,32 @@ public interface RegularDeliveryApplicationRepository extends JpaRepository<Regu
             nativeQuery = true)
     RegularDeliveryApplication findWithReservationsAndApplicationDaysById(@Param("regularDeliveryApplicationId") Long regularDeliveryApplicationId);
 
+    /**
+     * 예약 행을 horizon까지 만들어 두어야 하는 진행 중인 신청 ID
+     * 반복 규칙이 없는 신청은 모든 회차의 예약 행이 이미 있으므로 제외한다.
+     */
+    @Query("SELECT a.regularDeliveryApplicationId FROM RegularDeliveryApplication a " +
+            "WHERE a.regularDeliveryApplicationId > :lastApplicationId " +
+            "AND a.deliveryAnchorDate IS NOT NULL " +
+            "AND a.regularDeliveryStatus.statusName = :statusName " +
+            "AND (a.materializedThroughDate IS NULL OR (a.materializedThroughDate < :horizon AND a.materializedThroughDate < a.endDate)) " +
+            "ORDER BY a.regularDeliveryApplicationId ASC")
+    List<Long> findIdsToMaterialize(@Param("lastApplicationId") Long lastApplicationId,
+                                    @Param("statusName") String statusName,
+                                    @Param("horizon") LocalDate horizon,
+                                    Pageable pageable);
+
+    /**
+     * 예약 행 생성 구간을 선점한다. 다른 인스턴스가 먼저 같은 구간을 만들었으면 0을 반환한다.
+     */
+    @Modifying
+    @Query("UPDATE RegularDeliveryApplication a SET a.materializedThroughDate = :throughDate " +
+            "WHERE a.regularDeliveryApplicationId = :applicationId " +
+            "AND (a.materializedThroughDate = :previousThroughDate OR (a.materializedThroughDate IS NULL AND :previousThroughDate IS NULL))")
+    int claimMaterialization(@Param("applicationId") Long applicationId,
+                             @Param("previousThroughDate") LocalDate previousThroughDate,
+                             @Param("throughDate") LocalDate throughDate);
+
 
     //
 }
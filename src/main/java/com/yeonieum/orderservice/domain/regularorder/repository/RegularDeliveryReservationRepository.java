@@ -14,4 +14,10 @@ public interface RegularDeliveryReservationRepository extends JpaRepository<Regu
     List<RegularDeliveryReservation> findByDeliveryApplicationAndProductId(@Param("applicationId") Long applicationId,
                                                                            @Param("deliveryRounds") int deliveryRounds);
 
+    @Query("SELECT r FROM RegularDeliveryReservation r " +
+            "WHERE r.regularDeliveryApplication.regularDeliveryApplicationId = :applicationId " +
+            "AND r.deliveryRounds > :deliveryRounds")
+    List<RegularDeliveryReservation> findByApplicationIdAndDeliveryRoundsAfter(@Param("applicationId") Long applicationId,
+                                                                              @Param("deliveryRounds") int deliveryRounds);
+
 }
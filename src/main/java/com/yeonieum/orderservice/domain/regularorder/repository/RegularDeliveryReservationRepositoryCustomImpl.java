@@ -1,11 +1,10 @@
 package com.yeonieum.orderservice.domain.regularorder.repository;
 
-import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.yeonieum.orderservice.domain.regularorder.dto.response.RegularOrderResponse;
 import com.yeonieum.orderservice.domain.regularorder.entity.QRegularDeliveryApplication;
-import com.yeonieum.orderservice.domain.regularorder.entity.QRegularDeliveryReservation;
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplication;
+import com.yeonieum.orderservice.domain.regularorder.recurrence.DeliveryRecurrenceRule;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -13,70 +12,71 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
+/**
+ * 캘린더용 정기배송 예약 조회
+ * 예약 행은 가까운 기간만 만들어 두므로, 기간과 겹치는 정기배송신청을 읽어 반복 규칙으로 날짜별 예약을 계산한다.
+ * 날짜별 상품 수는 신청한 상품 수와 같다.
+ */
 @Repository
 @RequiredArgsConstructor
 public class RegularDeliveryReservationRepositoryCustomImpl implements RegularDeliveryReservationRepositoryCustom{
     private final JPAQueryFactory queryFactory;
 
     public List<RegularOrderResponse.OfRetrieveDailySummary> findRegularOrderCountsBetween(LocalDate startDate, LocalDate endDate, Long customerId) {
-        QRegularDeliveryReservation reservation = QRegularDeliveryReservation.regularDeliveryReservation;
-        QRegularDeliveryApplication application = QRegularDeliveryApplication.regularDeliveryApplication;
-        BooleanExpression isBetweenMonth = reservation.startDate.between(startDate, endDate);
-        BooleanExpression isCustomerId = application.customerId.eq(customerId);
-
-        return queryFactory
-                .select(Projections.constructor(RegularOrderResponse.OfRetrieveDailySummary.class,
-                        reservation.regularDeliveryReservationId.count(),
-                        application.mainProductId,
-                        application.regularDeliveryApplicationId,
-                        application.memberId,
-                        reservation.startDate))
-                .from(reservation)
-                .join(reservation.regularDeliveryApplication, application)
-                .where(isBetweenMonth, isCustomerId)
-                .groupBy(application.regularDeliveryApplicationId, reservation.startDate)
-                .orderBy(reservation.startDate.asc())
-                .fetch();
+        List<RegularOrderResponse.OfRetrieveDailySummary> dailySummaries = new ArrayList<>();
+        for (RegularDeliveryApplication application : findApplicationsOverlapping(customerId, startDate, endDate)) {
+            DeliveryRecurrenceRule.of(application).occurrencesBetween(startDate, endDate).forEach(occurrence ->
+                    dailySummaries.add(new RegularOrderResponse.OfRetrieveDailySummary(
+                            (long) application.getOrderedProductCount(),
+                            application.getMainProductId(),
+                            application.getRegularDeliveryApplicationId(),
+                            application.getMemberId(),
+                            occurrence.date())));
+        }
+        dailySummaries.sort(Comparator.comparing(RegularOrderResponse.OfRetrieveDailySummary::getDays));
+        return dailySummaries;
     }
 
 
     public Page<RegularOrderResponse.OfRetrieveDailyDetail> findRegularOrderList(LocalDate date, Long customerId, Pageable pageable) {
-        QRegularDeliveryReservation reservation = QRegularDeliveryReservation.regularDeliveryReservation;
-        QRegularDeliveryApplication application = QRegularDeliveryApplication.regularDeliveryApplication;
-        BooleanExpression isDate = reservation.startDate.eq(date);
-        BooleanExpression isCustomerId = application.customerId.eq(customerId);
-
-        List<RegularOrderResponse.OfRetrieveDailyDetail> results = queryFactory
-                .select(Projections.constructor(RegularOrderResponse.OfRetrieveDailyDetail.class,
-                        application.regularDeliveryApplicationId,
-                        reservation.startDate,
-                        reservation.regularDeliveryReservationId.count(),
-                        application.memberId,
-                        application.startDate,
-                        application.endDate,
-                        application.nextDeliveryDate,
-                        application.totalDeliveryRounds,
-                        application.cycle,
-                        reservation.productId))
-                .from(reservation)
-                .join(reservation.regularDeliveryApplication, application)
-                .where(isDate, isCustomerId)
-                .orderBy(reservation.regularDeliveryReservationId.asc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+        List<RegularOrderResponse.OfRetrieveDailyDetail> dailyDetails = new ArrayList<>();
+        for (RegularDeliveryApplication application : findApplicationsOverlapping(customerId, date, date)) {
+            if (DeliveryRecurrenceRule.of(application).occurrencesBetween(date, date).isEmpty()) {
+                continue;
+            }
+            dailyDetails.add(new RegularOrderResponse.OfRetrieveDailyDetail(
+                    application.getRegularDeliveryApplicationId(),
+                    date,
+                    (long) application.getOrderedProductCount(),
+                    application.getMemberId(),
+                    application.getStartDate(),
+                    application.getEndDate(),
+                    application.getNextDeliveryDate(),
+                    application.getTotalDeliveryRounds(),
+                    application.getCycle(),
+                    application.getMainProductId()));
+        }
 
-        // 전체 결과 수를 가져옴
-        long total = queryFactory
-                .selectFrom(reservation)
-                .join(reservation.regularDeliveryApplication, application)
-                .where(isDate, isCustomerId)
-                .fetchCount();
+        int fromIndex = (int) Math.min(pageable.getOffset(), dailyDetails.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), dailyDetails.size());
+        return new PageImpl<>(dailyDetails.subList(fromIndex, toIndex), pageable, dailyDetails.size());
+    }
 
-        return new PageImpl<>(results, pageable, 0);
+    private List<RegularDeliveryApplication> findApplicationsOverlapping(Long customerId, LocalDate startDate, LocalDate endDate) {
+        QRegularDeliveryApplication application = QRegularDeliveryApplication.regularDeliveryApplication;
 
+        return queryFactory
+                .selectFrom(application)
+                .distinct()
+                .leftJoin(application.regularDeliveryApplicationDayList).fetchJoin()
+                .where(application.customerId.eq(customerId),
+                        application.startDate.loe(endDate),
+                        application.endDate.goe(startDate))
+                .orderBy(application.regularDeliveryApplicationId.asc())
+                .fetch();
     }
 }
-
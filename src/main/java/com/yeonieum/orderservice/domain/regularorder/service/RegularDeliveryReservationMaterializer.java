@@ -0,0 +1,110 @@
+package com.yeonieum.orderservice.domain.regularorder.service;
+
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplication;
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplicationProduct;
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryReservation;
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryStatus;
+import com.yeonieum.orderservice.domain.regularorder.recurrence.DeliveryRecurrenceRule;
+import com.yeonieum.orderservice.domain.regularorder.repository.RegularDeliveryApplicationRepository;
+import com.yeonieum.orderservice.domain.regularorder.repository.RegularDeliveryReservationRepository;
+import com.yeonieum.orderservice.domain.regularorder.repository.RegularDeliveryStatusRepository;
+import com.yeonieum.orderservice.global.enums.RegularDeliveryStatusCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정기배송 예약 행 생성기
+ * 정기배송신청은 반복 규칙(주기, 요일, 기간, 상품)만 저장하고, 예약 행은 오늘부터 window-days 앞까지만 주기적으로 만들어 둔다.
+ * 신청마다 예약 행을 만든 마지막 날짜를 기록해 두고 그 다음 날부터 이어서 만들므로, 같은 회차를 두 번 만들지 않는다.
+ * 미루기/취소는 만들어진 예약 행의 상태로 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegularDeliveryReservationMaterializer {
+    private final RegularDeliveryApplicationRepository regularDeliveryApplicationRepository;
+    private final RegularDeliveryReservationRepository regularDeliveryReservationRepository;
+    private final RegularDeliveryStatusRepository regularDeliveryStatusRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${regular-order.reservation.window-days:28}")
+    private int windowDays;
+
+    @Value("${regular-order.reservation.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 진행 중인 신청의 예약 행을 오늘부터 window-days 앞까지 만든다.
+     * 신청마다 별도 트랜잭션으로 처리해 한 신청의 실패가 다른 신청을 막지 않게 한다.
+     */
+    @Scheduled(fixedDelayString = "${regular-order.reservation.materialize-interval-millis:60000}")
+    public void materializeUpcoming() {
+        LocalDate horizon = LocalDate.now().plusDays(windowDays);
+        Long lastApplicationId = 0L;
+        List<Long> applicationIds;
+        do {
+            applicationIds = regularDeliveryApplicationRepository.findIdsToMaterialize(
+                    lastApplicationId, RegularDeliveryStatusCode.PENDING.getCode(), horizon, PageRequest.of(0, batchSize));
+            for (Long applicationId : applicationIds) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> regularDeliveryApplicationRepository.findById(applicationId)
+                            .ifPresent(application -> materialize(application, horizon)));
+                } catch (RuntimeException e) {
+                    log.error("정기배송 예약 생성 실패: regularDeliveryApplicationId={}", applicationId, e);
+                }
+            }
+            if (!applicationIds.isEmpty()) {
+                lastApplicationId = applicationIds.get(applicationIds.size() - 1);
+            }
+        } while (applicationIds.size() == batchSize);
+    }
+
+    /**
+     * 신청의 예약 행을 throughDate까지 만든다. 호출한 트랜잭션 안에서 실행된다.
+     * 반복 규칙이 없는 신청은 모든 회차의 예약 행이 이미 있고, 취소된 신청은 더 배송하지 않으므로 아무것도 하지 않는다.
+     */
+    public void materialize(RegularDeliveryApplication application, LocalDate throughDate) {
+        if (!application.isRuleBased()
+                || !RegularDeliveryStatusCode.PENDING.getCode().equals(application.getRegularDeliveryStatus().getStatusName())) {
+            return;
+        }
+        LocalDate previousThroughDate = application.getMaterializedThroughDate();
+        LocalDate targetDate = throughDate.isAfter(application.getEndDate()) ? application.getEndDate() : throughDate;
+        if (previousThroughDate != null && !previousThroughDate.isBefore(targetDate)) {
+            return;
+        }
+        // 다른 인스턴스가 먼저 같은 구간을 만들었으면 건너뜀
+        if (regularDeliveryApplicationRepository.claimMaterialization(
+                application.getRegularDeliveryApplicationId(), previousThroughDate, targetDate) != 1) {
+            return;
+        }
+        application.changeMaterializedThroughDate(targetDate);
+
+        LocalDate fromDate = previousThroughDate != null ? previousThroughDate.plusDays(1) : application.getDeliveryAnchorDate();
+        RegularDeliveryStatus pending = regularDeliveryStatusRepository.findByStatusName(RegularDeliveryStatusCode.PENDING.getCode());
+        List<RegularDeliveryReservation> reservations = new ArrayList<>();
+        for (DeliveryRecurrenceRule.Occurrence occurrence : DeliveryRecurrenceRule.of(application).occurrencesBetween(fromDate, targetDate)) {
+            for (RegularDeliveryApplicationProduct product : application.getRegularDeliveryApplicationProductList()) {
+                reservations.add(RegularDeliveryReservation.builder()
+                        .regularDeliveryApplication(application)
+                        .regularDeliveryStatus(pending)
+                        .deliveryRounds(occurrence.round())
+                        .memberId(application.getMemberId())
+                        .productId(product.getProductId())
+                        .startDate(occurrence.date())
+                        .quantity(product.getQuantity())
+                        .build());
+            }
+        }
+        regularDeliveryReservationRepository.saveAll(reservations);
+    }
+}
@@ -4,18 +4,21 @@ import com.yeonieum.orderservice.domain.regularorder.dto.request.RegularOrderReq
 import com.yeonieum.orderservice.domain.order.dto.response.OrderResponse;
 import com.yeonieum.orderservice.domain.regularorder.dto.response.RegularOrderResponse;
 import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplication;
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplicationProduct;
 import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryReservation;
 import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryStatus;
+import com.yeonieum.orderservice.domain.regularorder.recurrence.DeliveryRecurrenceRule;
 import com.yeonieum.orderservice.domain.regularorder.repository.RegularDeliveryApplicationDayRepository;
+import com.yeonieum.orderservice.domain.regularorder.repository.RegularDeliveryApplicationProductRepository;
 import com.yeonieum.orderservice.domain.regularorder.repository.RegularDeliveryApplicationRepository;
 import com.yeonieum.orderservice.domain.regularorder.repository.RegularDeliveryReservationRepository;
 import com.yeonieum.orderservice.domain.regularorder.repository.RegularDeliveryStatusRepository;
 import com.yeonieum.orderservice.domain.statistics.entity.Statistics;
 import com.yeonieum.orderservice.domain.statistics.repository.StatisticsRepository;
-import com.yeonieum.orderservice.global.enums.DayOfWeek;
 import com.yeonieum.orderservice.global.enums.OrderType;
 import com.yeonieum.orderservice.global.enums.RegularDeliveryStatusCode;
 import com.yeonieum.orderservice.global.responses.ApiResponse;
+import com.yeonieum.orderservice.infrastructure.feignclient.FeignFanOut;
 import com.yeonieum.orderservice.infrastructure.feignclient.MemberServiceFeignClient;
 import com.yeonieum.orderservice.infrastructure.feignclient.ProductServiceFeignClient;
 import feign.FeignException;
@@ -29,8 +32,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.TemporalAdjusters;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 
@@ -48,8 +51,11 @@ public class RegularOrderService {
     private final RegularDeliveryReservationRepository regularDeliveryReservationRepository;
     private final RegularDeliveryStatusRepository regularDeliveryStatusRepository;
     private final RegularDeliveryApplicationDayRepository regularDeliveryApplicationDayRepository;
+    private final RegularDeliveryApplicationProductRepository regularDeliveryApplicationProductRepository;
+    private final RegularDeliveryReservationMaterializer reservationMaterializer;
     private final ProductServiceFeignClient productFeignClient;
     private final MemberServiceFeignClient memberServiceFeignClient;
+    private final FeignFanOut feignFanOut;
     private final StatisticsRepository statisticsRepository;
 
     /**
@@ -74,9 +80,15 @@ public class RegularOrderService {
 
         List<String> memberIdList = regularOrderCountsForMonth.stream().map(dailyOrderCount -> dailyOrderCount.getMemberId()).collect(Collectors.toList());
         List<Long> productIdList = regularOrderCountsForMonth.stream().map(dailyOrderCount -> dailyOrderCount.getProductId()).collect(Collectors.toList());
+        // 상품 정보와 회원 정보는 서로 독립적이므로 동시에 조회한다.
+        CompletableFuture<ResponseEntity<ApiResponse<Map<Long, RegularOrderResponse.ProductOrder>>>> productFuture =
+                feignFanOut.call(() -> productFeignClient.bulkRetrieveProductInformation(productIdList));
+        CompletableFuture<ResponseEntity<ApiResponse<Map<String, OrderResponse.MemberInfo>>>> memberFuture =
+                feignFanOut.call(() -> memberServiceFeignClient.getOrderMemberInfo(memberIdList));
+
         boolean isAvailableProductService = true;
         try {
-            productResponse = productFeignClient.bulkRetrieveProductInformation(productIdList);
+            productResponse = FeignFanOut.await(productFuture);
             isAvailableProductService = productResponse.getStatusCode().is2xxSuccessful() ? true : false;
         } catch (FeignException e) {
             e.printStackTrace();
@@ -85,7 +97,7 @@ public class RegularOrderService {
 
         boolean isAvailableMemberService = true;
         try {
-            memberResponse = memberServiceFeignClient.getOrderMemberInfo(memberIdList);
+            memberResponse = FeignFanOut.await(memberFuture);
             isAvailableMemberService = memberResponse.getStatusCode().is2xxSuccessful() ? true : false;
         } catch (FeignException e) {
             e.printStackTrace();
@@ -149,26 +161,27 @@ public class RegularOrderService {
     }
 
     /**
-     * 정기배송신청 생성 및 정기배송예약 모두 생성
-     * 스케쥴 작업 등록하기
+     * 정기배송신청 생성
+     * 신청에는 반복 규칙(주기, 요일, 기간, 상품)만 저장하고, 회차별 예약 행은 예약 생성기가 가까운 기간만 만들어 둔다.
      * @param creationRequest
      */
     @Transactional
     public RegularOrderResponse.OfSuccess subscriptionDelivery(String memberId, RegularOrderRequest.OfCreation creationRequest) {
         RegularDeliveryStatus pending = regularDeliveryStatusRepository.findByStatusName(RegularDeliveryStatusCode.PENDING.getCode());
+        DeliveryRecurrenceRule recurrenceRule = DeliveryRecurrenceRule.of(creationRequest.getDeliveryPeriod());
+        LocalDate firstDeliveryDate = recurrenceRule.occurrence(1)
+                .orElseThrow(() -> new IllegalArgumentException("배송 기간 안에 배송일이 없습니다."))
+                .date();
+
         RegularDeliveryApplication regularDeliveryApplication = creationRequest.toApplicationEntity(memberId, pending);
-        RegularDeliveryApplication savedEntity = regularDeliveryApplicationRepository.save(regularDeliveryApplication);
-        regularDeliveryApplicationDayRepository.saveAll(creationRequest.toApplicationDayEnityList(regularDeliveryApplication));
         // 총 배송 회차
-        Set<LocalDate> deliveryDateSet = calculateDeliveryDates(creationRequest.getDeliveryPeriod());
-        regularDeliveryApplication.changeTotalDeliveryRounds(deliveryDateSet.size());
-
-        LocalDate firstDeliveryDate = deliveryDateSet.iterator().next();
+        regularDeliveryApplication.changeTotalDeliveryRounds(recurrenceRule.countOccurrences());
         regularDeliveryApplication.changeNextDeliveryDate(firstDeliveryDate);
         regularDeliveryApplication.changeStartDate(firstDeliveryDate);
-        regularDeliveryApplicationRepository.save(regularDeliveryApplication);
-
-        regularDeliveryReservationRepository.saveAll(creationRequest.toReservationEntityList(memberId, deliveryDateSet, regularDeliveryApplication, pending));
+        regularDeliveryApplication.changeDeliveryAnchorDate(recurrenceRule.getAnchorDate());
+        RegularDeliveryApplication savedEntity = regularDeliveryApplicationRepository.save(regularDeliveryApplication);
+        regularDeliveryApplicationDayRepository.saveAll(creationRequest.toApplicationDayEnityList(regularDeliveryApplication));
+        regularDeliveryApplicationProductRepository.saveAll(creationRequest.toApplicationProductEntityList(regularDeliveryApplication));
         return RegularOrderResponse.OfSuccess.builder()
                         .regularDeliveryApplicationId(savedEntity.getRegularDeliveryApplicationId())
                         .memberId(savedEntity.getMemberId())
@@ -223,7 +236,8 @@ public class RegularOrderService {
         }
 
         // 상품Id 리스트 추출 후 상품서비스의 상품정보 조회 API 호출
-        List<Long> productIdList = application.getRegularDeliveryReservationList().stream().map(reservation -> reservation.getProductId()).collect(Collectors.toList());
+        Map<Long, Integer> productQuantityMap = orderedProductQuantities(application);
+        List<Long> productIdList = new ArrayList<>(productQuantityMap.keySet());
         ResponseEntity<ApiResponse<Map<Long, RegularOrderResponse.ProductOrder>>> response = null;
         Map<Long, RegularOrderResponse.ProductOrder> productOrderMap = null;
         boolean isAvailableProductService = true;
@@ -237,8 +251,8 @@ public class RegularOrderService {
 
         productOrderMap = isAvailableProductService ? response.getBody().getResult() : null;
         Map<Long, RegularOrderResponse.ProductOrder> finalProductOrderMap = productOrderMap;
-        application.getRegularDeliveryReservationList().stream().forEach(reservation -> {
-            finalProductOrderMap.get(reservation.getProductId()).changeProductAmount(reservation.getQuantity());
+        productQuantityMap.forEach((productId, quantity) -> {
+            finalProductOrderMap.get(productId).changeProductAmount(quantity);
         });
 
         return RegularOrderResponse.OfRetrieveDetails.convertedBy(application, productOrderMap, isAvailableProductService);
@@ -247,18 +261,19 @@ public class RegularOrderService {
 
     /**
      * 정기주문 예약 취소
+     * 이미 만들어진 남은 회차의 예약 행은 취소 상태로 바꾸고, 아직 만들어지지 않은 회차는 신청이 취소되어 더 만들어지지 않는다.
      * @param regularDeliveryApplicationId
      */
     @Transactional
     public void cancelRegularDelivery(String memberId, Long regularDeliveryApplicationId) {
         RegularDeliveryStatus status = regularDeliveryStatusRepository.findByStatusName(RegularDeliveryStatusCode.CANCELED.getCode());
-        RegularDeliveryApplication application = regularDeliveryApplicationRepository.findByIdWithPendingReservations(regularDeliveryApplicationId);
+        RegularDeliveryApplication application = regularDeliveryApplicationRepository.findById(regularDeliveryApplicationId).orElse(null);
         if(application == null || !application.getMemberId().equals(memberId)) {
             throw new IllegalArgumentException("해당 정기주문신청이 존재하지 않습니다.");
         }
 
         application.changeDeliveryStatus(status);
-        for(RegularDeliveryReservation deliveryReservation : application.getRegularDeliveryReservationList()) {
+        for(RegularDeliveryReservation deliveryReservation : regularDeliveryReservationRepository.findByApplicationIdAndDeliveryRoundsAfter(regularDeliveryApplicationId, application.getCompletedRounds())) {
             deliveryReservation.changeStatus(status);
         }
     }
@@ -283,6 +298,10 @@ public class RegularOrderService {
             throw new IllegalArgumentException("미룰 수 있는 정기배송예약이 존재하지 않습니다.");
         }
 
+        // 미룰 회차의 예약 행이 아직 없으면 먼저 만들어 두고 미룸 상태로 기록한다.
+        DeliveryRecurrenceRule recurrenceRule = DeliveryRecurrenceRule.of(application);
+        recurrenceRule.occurrence(application.getCompletedRounds()+1)
+                .ifPresent(occurrence -> reservationMaterializer.materialize(application, occurrence.date()));
         List<RegularDeliveryReservation> regularDeliveryReservationList =
                 regularDeliveryReservationRepository.findByDeliveryApplicationAndProductId(regularOrderApplicationId, application.getCompletedRounds()+1);
 
@@ -290,9 +309,14 @@ public class RegularOrderService {
         // 다음 배송일 변경
         application.changeCompletedRounds(application.getCompletedRounds()+1);
         if(!(application.getCompletedRounds() == application.getTotalDeliveryRounds())) {
-            List<RegularDeliveryReservation> nextRegularDeliveryReservationList =
-                    regularDeliveryReservationRepository.findByDeliveryApplicationAndProductId(regularOrderApplicationId,application.getCompletedRounds()+1);
-            application.changeNextDeliveryDate(nextRegularDeliveryReservationList.get(0).getStartDate());
+            if (application.isRuleBased()) {
+                recurrenceRule.occurrence(application.getCompletedRounds()+1)
+                        .ifPresent(occurrence -> application.changeNextDeliveryDate(occurrence.date()));
+            } else {
+                List<RegularDeliveryReservation> nextRegularDeliveryReservationList =
+                        regularDeliveryReservationRepository.findByDeliveryApplicationAndProductId(regularOrderApplicationId,application.getCompletedRounds()+1);
+                application.changeNextDeliveryDate(nextRegularDeliveryReservationList.get(0).getStartDate());
+            }
         }
 
 
@@ -300,30 +324,18 @@ public class RegularOrderService {
     }
 
     /**
-     * 배송주기에 따른 배송일 계산
-     * @param deliveryPeriod
-     * @return
+     * 신청한 상품별 수량
+     * 반복 규칙 저장 이전에 만들어진 신청은 신청 상품이 없으므로 예약 행에서 가져온다.
      */
-    public Set<LocalDate> calculateDeliveryDates (RegularOrderRequest.DeliveryPeriod deliveryPeriod) {
-        LocalDate startDate = deliveryPeriod.getStartDate();
-        LocalDate endDate = deliveryPeriod.getEndDate();
-        List<DayOfWeek> dayOfWeeks = deliveryPeriod.getDeliveryDayOfWeeks();
-        int cycleWeeks = deliveryPeriod.getDeliveryCycle();
-
-
-        LocalDate nextDeliveryDate = startDate.with(TemporalAdjusters.next(java.time.DayOfWeek.valueOf(dayOfWeeks.get(0).getStoredDayValue()))).plusDays(7);
-        Set<LocalDate> deliveryDateSet = new TreeSet<>();
-        while(!nextDeliveryDate.isAfter(endDate)) {
-            for (DayOfWeek deliveryDay : dayOfWeeks) {
-                LocalDate deliveryDate = nextDeliveryDate.with(TemporalAdjusters.nextOrSame(java.time.DayOfWeek.valueOf(deliveryDay.getStoredDayValue())));
-                if (!deliveryDate.isAfter(endDate)) {
-                    deliveryDateSet.add(deliveryDate);
-                }
-            }
-            nextDeliveryDate = nextDeliveryDate.plusWeeks(cycleWeeks);
+    private Map<Long, Integer> orderedProductQuantities(RegularDeliveryApplication application) {
+        if (!application.getRegularDeliveryApplicationProductList().isEmpty()) {
+            return application.getRegularDeliveryApplicationProductList().stream()
+                    .collect(Collectors.toMap(RegularDeliveryApplicationProduct::getProductId, RegularDeliveryApplicationProduct::getQuantity,
+                            Integer::sum, LinkedHashMap::new));
         }
-
-        return deliveryDateSet;
+        return application.getRegularDeliveryReservationList().stream()
+                .collect(Collectors.toMap(RegularDeliveryReservation::getProductId, RegularDeliveryReservation::getQuantity,
+                        (quantity, duplicate) -> quantity, LinkedHashMap::new));
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.yeonieum.orderservice.domain.release.dto;
 
 import com.yeonieum.orderservice.global.enums.ReleaseStatusCode;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -18,6 +19,7 @@ public class ReleaseRequest {
 
     @Getter
     @NoArgsConstructor
+    @AllArgsConstructor
     public static class OfBulkUpdateReleaseStatus  {
         List<String> orderIds;
         ReleaseStatusCode releaseStatusCode;
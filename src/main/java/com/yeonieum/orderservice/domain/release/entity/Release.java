@@ -2,6 +2,7 @@ package com.yeonieum.orderservice.domain.release.entity;
 
 import com.yeonieum.orderservice.domain.order.entity.OrderDetail;
 import com.yeonieum.orderservice.global.auditing.BaseEntity;
+import com.yeonieum.orderservice.global.config.IdGeneratorConfig;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,7 +17,10 @@ import java.time.LocalDate;
 public class Release extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "release_id_generator")
+    @TableGenerator(name = "release_id_generator", table = IdGeneratorConfig.TABLE_NAME,
+            pkColumnName = IdGeneratorConfig.SEQUENCE_COLUMN, valueColumnName = IdGeneratorConfig.VALUE_COLUMN,
+            pkColumnValue = "release_table", allocationSize = IdGeneratorConfig.ALLOCATION_SIZE)
     @Column(name = "release_id")
     private Long releaseId;
 
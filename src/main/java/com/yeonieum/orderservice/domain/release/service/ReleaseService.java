@@ -27,10 +27,12 @@ import com.yeonieum.orderservice.global.enums.OrderStatusCode;
 
 import com.yeonieum.orderservice.global.enums.ReleaseStatusCode;
 import com.yeonieum.orderservice.global.responses.ApiResponse;
+import com.yeonieum.orderservice.global.responses.BulkProcessResult;
 import com.yeonieum.orderservice.infrastructure.feignclient.MemberServiceFeignClient;
 import com.yeonieum.orderservice.infrastructure.feignclient.ProductServiceFeignClient;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -38,6 +40,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
@@ -61,6 +64,10 @@ public class ReleaseService {
     private final OrderStatusPolicy orderStatusPolicy;
     private final DeliveryRepository deliveryRepository;
     private final PackagingRepository packagingRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${release.bulk.chunk-size:200}")
+    private int bulkChunkSize;
 
     /**
      * 상품의 출고 상태 수정 (출고 대기 -> 출고 보류, 출고 대기 -> 출고 완료, 출고 보류 -> 출고 완료)
@@ -95,7 +102,7 @@ public class ReleaseService {
         } catch (FeignException e) {
             e.printStackTrace();
         }
-        if(response != null || response.getStatusCode().is2xxSuccessful()){
+        if(response != null && response.getStatusCode().is2xxSuccessful()){
             deliveryFee = response.getBody().getResult();
         }
         // 출고 상태 전환 규칙 검증
@@ -326,6 +333,79 @@ public class ReleaseService {
         }
     }
 
+    /**
+     * 상품의 출고 상태 일괄 수정 (부분 성공 허용)
+     * 주문 ID를 독립된 chunk로 나누어 chunk마다 따로 커밋한다.
+     * 출고 상태 전이가 허용되지 않는 주문은 건너뛰고, chunk 반영이 실패하면 해당 chunk의 주문을 한 건씩 다시 시도해 실패한 주문만 걸러낸다.
+     * @param bulkUpdateStatus (업데이틀 될 여러 주문 ID 들, 업데이트 될 출고 상태값) DTO
+     * @return 커밋된 주문 ID와 건너뛴/실패한 주문 ID 및 사유
+     */
+    public BulkProcessResult<String> changeBulkReleaseStatusPartially(Long customerId, ReleaseRequest.OfBulkUpdateReleaseStatus bulkUpdateStatus) {
+        ReleaseStatusCode requestedStatusCode = bulkUpdateStatus.getReleaseStatusCode();
+        if (requestedStatusCode != ReleaseStatusCode.HOLD_RELEASE && requestedStatusCode != ReleaseStatusCode.RELEASE_COMPLETED) {
+            throw new ReleaseException(INVALID_ACCESS, HttpStatus.CONFLICT);
+        }
+
+        BulkProcessResult<String> result = new BulkProcessResult<>();
+        List<String> requestedOrderIds = bulkUpdateStatus.getOrderIds().stream().distinct().toList();
+        for (int from = 0; from < requestedOrderIds.size(); from += bulkChunkSize) {
+            List<String> chunk = requestedOrderIds.subList(from, Math.min(from + bulkChunkSize, requestedOrderIds.size()));
+            try {
+                result.merge(transactionTemplate.execute(transactionStatus ->
+                        applyBulkReleaseStatus(customerId, chunk, requestedStatusCode)));
+            } catch (RuntimeException chunkException) {
+                // chunk 전체가 롤백되었으므로 한 건씩 다시 시도해 원인이 된 주문만 걸러냄
+                for (String orderId : chunk) {
+                    try {
+                        result.merge(transactionTemplate.execute(transactionStatus ->
+                                applyBulkReleaseStatus(customerId, List.of(orderId), requestedStatusCode)));
+                    } catch (RuntimeException e) {
+                        result.fail(orderId, e);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 한 chunk의 출고 상태 변경을 현재 트랜잭션에서 반영
+     * 결과는 트랜잭션이 커밋된 경우에만 호출한 쪽에서 반영된다.
+     */
+    private BulkProcessResult<String> applyBulkReleaseStatus(Long customerId, List<String> orderIds, ReleaseStatusCode requestedStatusCode) {
+        BulkProcessResult<String> chunkResult = new BulkProcessResult<>();
+        ReleaseStatus requestedStatus = releaseStatusRepository.findByStatusName(requestedStatusCode);
+        Map<String, OrderDetail> orderDetailMap = new HashMap<>();
+        orderDetailRepository.findAllByIdAndCustomerId(orderIds, customerId)
+                .forEach(orderDetail -> orderDetailMap.put(orderDetail.getOrderDetailId(), orderDetail));
+
+        for (String orderId : orderIds) {
+            OrderDetail orderDetail = orderDetailMap.get(orderId);
+            if (orderDetail == null) {
+                chunkResult.fail(orderId, ORDER_NOT_FOUND.getMessage());
+                continue;
+            }
+
+            Release currentRelease = releaseRepository.findByOrderDetailId(orderId, customerId);
+            if (currentRelease == null) {
+                chunkResult.fail(orderId, RELEASE_NOT_FOUND.getMessage());
+                continue;
+            }
+
+            ReleaseStatusCode currentReleaseStatus = currentRelease.getReleaseStatus().getStatusName();
+            if (!releaseStatusPolicy.getReleaseStatusTransitionRule().get(requestedStatusCode).getRequiredPreviosConditionSet().contains(currentReleaseStatus)) {
+                chunkResult.skip(orderId, RELEASE_STATUS_TRANSITION_RULE_VIOLATION.getMessage() + " (현재 상태: " + currentReleaseStatus.getCode() + ")");
+                continue;
+            }
+
+            currentRelease.changeReleaseStatus(requestedStatus);
+            releaseRepository.save(currentRelease);
+            updateOrderAndDeliveryStatus(orderDetail, requestedStatusCode, currentRelease);
+            chunkResult.succeed(orderId);
+        }
+        return chunkResult;
+    }
+
     /**
      * 상품의 출고 상태 일괄 수정에 주문 및 배송 상태 변경
      * @param orderDetail 주문내역 엔티티
@@ -347,7 +427,7 @@ public class ReleaseService {
         } catch (FeignException e) {
             e.printStackTrace();
         }
-        if(response != null || response.getStatusCode().is2xxSuccessful()){
+        if(response != null && response.getStatusCode().is2xxSuccessful()){
             deliveryFee = response.getBody().getResult();
         }
 
@@ -424,7 +504,7 @@ public class ReleaseService {
         } catch (FeignException e) {
             e.printStackTrace();
         }
-        if(response != null || response.getStatusCode().is2xxSuccessful()){
+        if(response != null && response.getStatusCode().is2xxSuccessful()){
             deliveryFee = response.getBody().getResult();
         }
 
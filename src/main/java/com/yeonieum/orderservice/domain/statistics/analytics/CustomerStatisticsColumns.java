@@ -0,0 +1,77 @@
+package com.yeonieum.orderservice.domain.statistics.analytics;
+
+import com.yeonieum.orderservice.global.enums.Gender;
+import com.yeonieum.orderservice.global.enums.OrderType;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 한 고객의 통계 행을 컬럼별 기본형 배열로 보관한다.
+ * memberId/productId 는 사전 인코딩하고, 성별/판매타입/연령대는 하나의 int 에 묶어 저장한다.
+ * 배열은 뒤에 덧붙이기만 하므로, snapshot 시점의 size 이내 값은 이후에도 바뀌지 않는다.
+ */
+class CustomerStatisticsColumns {
+    private static final int INITIAL_CAPACITY = 256;
+
+    final ValueDictionary<String> memberDictionary = new ValueDictionary<>();
+    final ValueDictionary<Long> productDictionary = new ValueDictionary<>();
+
+    private int[] memberCodes = new int[INITIAL_CAPACITY];
+    private int[] productCodes = new int[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private int[] attributes = new int[INITIAL_CAPACITY];
+    private int[] quantities = new int[INITIAL_CAPACITY];
+    private int[] prices = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    synchronized void append(String memberId, Long productId, LocalDate purchaseDate, Gender gender, int ageRange,
+                             OrderType orderType, int quantity, int price) {
+        if (size == epochDays.length) {
+            int capacity = size + (size >> 1);
+            memberCodes = Arrays.copyOf(memberCodes, capacity);
+            productCodes = Arrays.copyOf(productCodes, capacity);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            attributes = Arrays.copyOf(attributes, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+        }
+        memberCodes[size] = memberDictionary.encode(memberId);
+        productCodes[size] = productDictionary.encode(productId);
+        epochDays[size] = (int) purchaseDate.toEpochDay();
+        attributes[size] = ColumnSnapshot.packAttributes(gender, ageRange, orderType);
+        quantities[size] = quantity;
+        prices[size] = price;
+        size++;
+    }
+
+    synchronized ColumnSnapshot snapshot() {
+        return new ColumnSnapshot(memberCodes, productCodes, epochDays, attributes, quantities, prices, size);
+    }
+
+    /**
+     * 스캔 시점에 고정된 컬럼 배열과 행 수
+     */
+    record ColumnSnapshot(int[] memberCodes, int[] productCodes, int[] epochDays, int[] attributes,
+                          int[] quantities, int[] prices, int size) {
+        private static final int GENDER_MASK = 0b11;
+        private static final int ORDER_TYPE_SHIFT = 2;
+        private static final int AGE_RANGE_SHIFT = 3;
+
+        static int packAttributes(Gender gender, int ageRange, OrderType orderType) {
+            return gender.ordinal() | orderType.ordinal() << ORDER_TYPE_SHIFT | ageRange << AGE_RANGE_SHIFT;
+        }
+
+        int gender(int row) {
+            return attributes[row] & GENDER_MASK;
+        }
+
+        int orderType(int row) {
+            return attributes[row] >>> ORDER_TYPE_SHIFT & 1;
+        }
+
+        int ageRange(int row) {
+            return attributes[row] >>> AGE_RANGE_SHIFT;
+        }
+    }
+}
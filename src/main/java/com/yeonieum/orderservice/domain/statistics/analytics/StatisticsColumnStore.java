@@ -0,0 +1,342 @@
+package com.yeonieum.orderservice.domain.statistics.analytics;
+
+import com.yeonieum.orderservice.domain.statistics.dto.StatisticsResponse;
+import com.yeonieum.orderservice.domain.statistics.entity.Statistics;
+import com.yeonieum.orderservice.global.enums.Gender;
+import com.yeonieum.orderservice.global.enums.OrderType;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 고객별 통계를 컬럼 형태로 메모리에 보관하고 필터/그룹/집계 질의를 처리하는 저장소
+ * 행 수가 많으면 구간을 나누어 fork-join 공용 풀에서 병렬로 스캔한다.
+ * 기준 ID(floorId)보다 큰 행은 반영한 ID를 기억해 두어, 전체 적재/따라잡기/이 인스턴스의 기록이 같은 행을 두 번 반영하지 않게 한다.
+ * 기준 ID 이하의 행은 이미 반영된 것으로 보고 따라잡기에서 읽지 않는다.
+ */
+@Component
+public class StatisticsColumnStore {
+    private static final int SCAN_CHUNK_SIZE = 1 << 16;
+    private static final int COUNT = 0;
+    private static final int QUANTITY = 1;
+    private static final int REVENUE = 2;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Map<Long, CustomerStatisticsColumns> customerColumns = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+    private volatile long floorId = Long.MIN_VALUE;
+    // floorId 보다 큰 ID 중 반영한 ID
+    private Set<Long> recentIds = new HashSet<>();
+    // 전체 적재 중 이 인스턴스에서 기록된 행, 교체한 뒤 다시 반영한다.
+    private List<Statistics> appendedDuringReload;
+
+    /**
+     * 이 인스턴스에서 커밋된 통계를 반영
+     * 기준 ID 이하의 행은 적재 이후에 커밋된 것이므로 그대로 덧붙인다.
+     */
+    public void append(Statistics statistics) {
+        lock.lock();
+        try {
+            if (appendedDuringReload != null) {
+                appendedDuringReload.add(statistics);
+            }
+            Long statisticsId = statistics.getStatisticsId();
+            if (statisticsId != null && statisticsId > floorId && !recentIds.add(statisticsId)) {
+                return;
+            }
+            appendTo(customerColumns, statistics);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long getFloorId() {
+        return floorId;
+    }
+
+    /**
+     * 전체 적재를 시작한다. 교체할 때까지 이 인스턴스에서 기록된 행을 따로 모은다.
+     */
+    public void beginReload() {
+        lock.lock();
+        try {
+            appendedDuringReload = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 전체 적재가 실패하면 모아 둔 행을 버린다. (기존 컬럼에는 이미 반영되어 있음)
+     */
+    public void abortReload() {
+        lock.lock();
+        try {
+            appendedDuringReload = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 새로 적재한 컬럼으로 교체하고, 적재 중 이 인스턴스에서 기록된 행 중 적재 스냅샷에 없는 행만 다시 반영한다.
+     * 기준 ID 보다 큰 행은 loadedRecentIds 로, 기준 ID 이하의 행은 스냅샷 조회로 걸러낸다.
+     * 교체하는 동안 기록이 끼어들지 않도록 잠금을 잡은 채로 조회한다.
+     * @param loadedColumns 적재한 컬럼
+     * @param loadedFloorId 적재 시점의 기준 ID
+     * @param loadedRecentIds 적재한 행 중 기준 ID 보다 큰 ID
+     * @param snapshotStatisticsIds 주어진 통계 ID 중 적재 스냅샷에 있는 ID (적재한 트랜잭션에서 조회)
+     */
+    public void replace(Map<Long, CustomerStatisticsColumns> loadedColumns, long loadedFloorId, Set<Long> loadedRecentIds,
+                        Function<Collection<Long>, Set<Long>> snapshotStatisticsIds) {
+        lock.lock();
+        try {
+            List<Statistics> pending = appendedDuringReload == null ? List.of() : appendedDuringReload;
+            appendedDuringReload = null;
+            List<Long> pendingFloorIds = pending.stream()
+                    .map(Statistics::getStatisticsId)
+                    .filter(statisticsId -> statisticsId != null && statisticsId <= loadedFloorId)
+                    .collect(Collectors.toList());
+            Set<Long> loadedFloorIds = pendingFloorIds.isEmpty() ? Set.of() : snapshotStatisticsIds.apply(pendingFloorIds);
+
+            customerColumns = loadedColumns;
+            floorId = loadedFloorId;
+            recentIds = loadedRecentIds;
+            for (Statistics statistics : pending) {
+                if (!loadedFloorIds.contains(statistics.getStatisticsId())) {
+                    append(statistics);
+                }
+            }
+            ready = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 기록된 행을 따라잡는다.
+     * 기준 ID 보다 크고 아직 반영하지 않은 행만 덧붙인 뒤, 가장 큰 ID 에서 lagIds 만큼 뒤로 기준 ID 를 올린다.
+     * (ID 는 인스턴스마다 구간 단위로 미리 할당되므로 커밋 순서와 ID 순서가 다를 수 있어 여유를 둔다)
+     * @param rows 기준 ID 보다 큰 행
+     * @param lagIds 기준 ID 를 가장 큰 ID 보다 뒤에 둘 간격
+     */
+    public void catchUp(List<Statistics> rows, long lagIds) {
+        lock.lock();
+        try {
+            long maxId = floorId;
+            for (Statistics statistics : rows) {
+                long statisticsId = statistics.getStatisticsId();
+                maxId = Math.max(maxId, statisticsId);
+                if (statisticsId > floorId && recentIds.add(statisticsId)) {
+                    appendTo(customerColumns, statistics);
+                }
+            }
+            long nextFloorId = Math.max(floorId, maxId - lagIds);
+            if (nextFloorId > floorId) {
+                floorId = nextFloorId;
+                recentIds.removeIf(statisticsId -> statisticsId <= nextFloorId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void appendTo(Map<Long, CustomerStatisticsColumns> columns, Statistics statistics) {
+        appendTo(columns, statistics.getCustomerId(), statistics.getMemberId(), statistics.getProductId(),
+                statistics.getPurchaseDate(), statistics.getGender(), statistics.getAgeRange(), statistics.getOrderType(),
+                statistics.getQuantity(), statistics.getPrice());
+    }
+
+    static void appendTo(Map<Long, CustomerStatisticsColumns> columns, Long customerId, String memberId, Long productId,
+                         LocalDate purchaseDate, Gender gender, int ageRange, OrderType orderType, int quantity, int price) {
+        columns.computeIfAbsent(customerId, id -> new CustomerStatisticsColumns())
+                .append(memberId, productId, purchaseDate, gender, ageRange, orderType, quantity, price);
+    }
+
+    /**
+     * 조건에 맞는 통계를 그룹별로 집계한다. (주문 수, 판매 수량, 매출)
+     * @param customerId 고객 ID
+     * @param query 필터 및 그룹 기준
+     * @return 그룹별 집계 결과
+     */
+    public StatisticsResponse.OfAggregation aggregate(Long customerId, StatisticsQuery query) {
+        List<StatisticsGroupBy> groupBy = query.getGroupBy();
+        if (groupBy.size() > StatisticsQuery.MAX_GROUP_BY) {
+            throw new IllegalArgumentException("그룹 기준은 최대 " + StatisticsQuery.MAX_GROUP_BY + "개까지 지정할 수 있습니다.");
+        }
+
+        CustomerStatisticsColumns columns = customerColumns.get(customerId);
+        if (columns == null) {
+            return StatisticsResponse.OfAggregation.builder().groupBy(groupBy).groups(List.of()).build();
+        }
+
+        CustomerStatisticsColumns.ColumnSnapshot snapshot = columns.snapshot();
+        RowFilter filter = RowFilter.of(query, columns);
+        Map<Long, long[]> aggregated = filter == null ? Map.of() : scan(snapshot, filter, groupBy);
+
+        List<StatisticsResponse.AggregationGroup> groups = new ArrayList<>(aggregated.size());
+        aggregated.forEach((groupKey, values) -> {
+            Map<StatisticsGroupBy, Object> keys = new EnumMap<>(StatisticsGroupBy.class);
+            for (int index = 0; index < groupBy.size(); index++) {
+                int code = (int) (index == 0 ? groupKey >>> 32 : groupKey);
+                keys.put(groupBy.get(index), decode(groupBy.get(index), code, columns));
+            }
+            groups.add(StatisticsResponse.AggregationGroup.builder()
+                    .keys(keys)
+                    .orderCount(values[COUNT])
+                    .quantity(values[QUANTITY])
+                    .revenue(values[REVENUE])
+                    .build());
+        });
+        groups.sort(Comparator.comparingLong(StatisticsResponse.AggregationGroup::getRevenue).reversed());
+
+        return StatisticsResponse.OfAggregation.builder().groupBy(groupBy).groups(groups).build();
+    }
+
+    /**
+     * 기간 내 서로 다른 두 날짜 이상 구매한 재구매 회원 수를 집계한다.
+     * @param customerId 고객 ID
+     * @param startDate 시작 날짜 (선택)
+     * @param endDate 종료 날짜 (선택)
+     * @return 구매 회원 수와 재구매 회원 수
+     */
+    public StatisticsResponse.OfRepeatBuyers countRepeatBuyers(Long customerId, LocalDate startDate, LocalDate endDate) {
+        CustomerStatisticsColumns columns = customerColumns.get(customerId);
+        if (columns == null) {
+            return StatisticsResponse.OfRepeatBuyers.builder().buyerCount(0).repeatBuyerCount(0).build();
+        }
+
+        CustomerStatisticsColumns.ColumnSnapshot snapshot = columns.snapshot();
+        RowFilter filter = RowFilter.of(StatisticsQuery.builder().startDate(startDate).endDate(endDate).build(), columns);
+        // 회원 코드 -> 첫 구매일, 두 번째 날짜를 만나면 -1 로 표시
+        Map<Integer, Integer> firstPurchaseDays = new HashMap<>();
+        for (int row = 0; row < snapshot.size(); row++) {
+            if (!filter.matches(snapshot, row)) {
+                continue;
+            }
+            int purchaseDay = snapshot.epochDays()[row];
+            firstPurchaseDays.merge(snapshot.memberCodes()[row], purchaseDay,
+                    (firstDay, day) -> firstDay == -1 || !firstDay.equals(day) ? -1 : firstDay);
+        }
+
+        long repeatBuyerCount = firstPurchaseDays.values().stream().filter(day -> day == -1).count();
+        return StatisticsResponse.OfRepeatBuyers.builder()
+                .buyerCount(firstPurchaseDays.size())
+                .repeatBuyerCount(repeatBuyerCount)
+                .build();
+    }
+
+    private Map<Long, long[]> scan(CustomerStatisticsColumns.ColumnSnapshot snapshot, RowFilter filter, List<StatisticsGroupBy> groupBy) {
+        int chunkCount = (snapshot.size() + SCAN_CHUNK_SIZE - 1) / SCAN_CHUNK_SIZE;
+        IntStream chunks = IntStream.range(0, chunkCount);
+        if (chunkCount > 1) {
+            chunks = chunks.parallel();
+        }
+        return chunks
+                .mapToObj(chunk -> scanChunk(snapshot, filter, groupBy, chunk * SCAN_CHUNK_SIZE,
+                        Math.min(snapshot.size(), (chunk + 1) * SCAN_CHUNK_SIZE)))
+                .reduce(StatisticsColumnStore::mergeInto)
+                .orElseGet(HashMap::new);
+    }
+
+    private static Map<Long, long[]> scanChunk(CustomerStatisticsColumns.ColumnSnapshot snapshot, RowFilter filter,
+                                               List<StatisticsGroupBy> groupBy, int from, int to) {
+        Map<Long, long[]> partial = new HashMap<>();
+        for (int row = from; row < to; row++) {
+            if (!filter.matches(snapshot, row)) {
+                continue;
+            }
+            // 첫 번째 그룹 코드는 상위 32비트, 두 번째 그룹 코드는 하위 32비트에 담는다.
+            long groupKey = 0L;
+            if (groupBy.size() > 0) {
+                groupKey = (extract(groupBy.get(0), snapshot, row) & 0xFFFFFFFFL) << 32;
+            }
+            if (groupBy.size() > 1) {
+                groupKey |= extract(groupBy.get(1), snapshot, row) & 0xFFFFFFFFL;
+            }
+            long[] values = partial.computeIfAbsent(groupKey, key -> new long[3]);
+            values[COUNT]++;
+            values[QUANTITY] += snapshot.quantities()[row];
+            values[REVENUE] += snapshot.prices()[row];
+        }
+        return partial;
+    }
+
+    private static Map<Long, long[]> mergeInto(Map<Long, long[]> target, Map<Long, long[]> source) {
+        source.forEach((groupKey, values) -> target.merge(groupKey, values, (left, right) -> {
+            left[COUNT] += right[COUNT];
+            left[QUANTITY] += right[QUANTITY];
+            left[REVENUE] += right[REVENUE];
+            return left;
+        }));
+        return target;
+    }
+
+    private static int extract(StatisticsGroupBy groupBy, CustomerStatisticsColumns.ColumnSnapshot snapshot, int row) {
+        return switch (groupBy) {
+            case DAY -> snapshot.epochDays()[row];
+            case PRODUCT -> snapshot.productCodes()[row];
+            case MEMBER -> snapshot.memberCodes()[row];
+            case GENDER -> snapshot.gender(row);
+            case AGE_RANGE -> snapshot.ageRange(row);
+            case ORDER_TYPE -> snapshot.orderType(row);
+        };
+    }
+
+    private static Object decode(StatisticsGroupBy groupBy, int code, CustomerStatisticsColumns columns) {
+        return switch (groupBy) {
+            case DAY -> LocalDate.ofEpochDay(code);
+            case PRODUCT -> columns.productDictionary.decode(code);
+            case MEMBER -> columns.memberDictionary.decode(code);
+            case GENDER -> Gender.values()[code];
+            case AGE_RANGE -> code;
+            case ORDER_TYPE -> OrderType.values()[code];
+        };
+    }
+
+    /**
+     * 질의 조건을 코드 값으로 바꿔 둔 행 필터
+     */
+    private record RowFilter(int startDay, int endDay, int gender, int ageRange, int orderType, int productCode) {
+        private static final int ANY = -1;
+
+        /**
+         * 사전에 없는 상품으로 필터링하면 일치하는 행이 없으므로 null 을 반환한다.
+         */
+        static RowFilter of(StatisticsQuery query, CustomerStatisticsColumns columns) {
+            int productCode = ANY;
+            if (query.getProductId() != null) {
+                productCode = columns.productDictionary.lookup(query.getProductId());
+                if (productCode == ANY) {
+                    return null;
+                }
+            }
+            return new RowFilter(
+                    query.getStartDate() != null ? (int) query.getStartDate().toEpochDay() : Integer.MIN_VALUE,
+                    query.getEndDate() != null ? (int) query.getEndDate().toEpochDay() : Integer.MAX_VALUE,
+                    query.getGender() != null ? query.getGender().ordinal() : ANY,
+                    query.getAgeRange() != null ? query.getAgeRange() : ANY,
+                    query.getOrderType() != null ? query.getOrderType().ordinal() : ANY,
+                    productCode);
+        }
+
+        boolean matches(CustomerStatisticsColumns.ColumnSnapshot snapshot, int row) {
+            int day = snapshot.epochDays()[row];
+            return day >= startDay && day <= endDay
+                    && (gender == ANY || snapshot.gender(row) == gender)
+                    && (ageRange == ANY || snapshot.ageRange(row) == ageRange)
+                    && (orderType == ANY || snapshot.orderType(row) == orderType)
+                    && (productCode == ANY || snapshot.productCodes()[row] == productCode);
+        }
+    }
+}
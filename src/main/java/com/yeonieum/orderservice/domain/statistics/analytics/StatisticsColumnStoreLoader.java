@@ -0,0 +1,201 @@
+package com.yeonieum.orderservice.domain.statistics.analytics;
+
+import com.yeonieum.orderservice.domain.statistics.entity.Statistics;
+import com.yeonieum.orderservice.domain.statistics.repository.StatisticsRepository;
+import com.yeonieum.orderservice.global.config.AsyncConfig;
+import com.yeonieum.orderservice.global.enums.Gender;
+import com.yeonieum.orderservice.global.enums.OrderType;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * statistics 테이블을 읽어 컬럼 저장소를 적재한다.
+ * 기동 직후 한 번, 이후 매일 statistics.analytics.reload-cron 에 다시 적재해 보관 기간이 지난 행을 내보낸다.
+ * 전체 적재는 하나의 읽기 스냅샷에서 최대 ID 와 행을 함께 읽고, 교체할 때 적재 중 이 인스턴스에서 기록된 행 중 스냅샷에 없는 행을 다시 반영한다.
+ * 다른 인스턴스에서 기록된 통계는 catch-up-interval 마다 기준 ID 보다 큰 행만 읽어 따라잡는다.
+ * 적재와 따라잡기는 statistics 실행기에서 실행되며, 같은 작업의 이전 실행이 끝나지 않았으면 새로 시작하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "statistics.analytics.enabled", havingValue = "true", matchIfMissing = true)
+public class StatisticsColumnStoreLoader {
+    private static final String SELECT_COLUMNS =
+            "SELECT statistics_id, customer_id, member_id, product_id, purchase_date, gender, age_range, order_type, quantity, price ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StatisticsColumnStore statisticsColumnStore;
+    private final StatisticsRepository statisticsRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ThreadPoolTaskExecutor statisticsExecutor;
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    private final AtomicBoolean catchingUp = new AtomicBoolean();
+    private TransactionTemplate snapshotTransaction;
+
+    @Value("${statistics.analytics.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${statistics.analytics.fetch-size:-2147483648}")
+    private int fetchSize;
+
+    // 기준 ID 를 가장 큰 ID 보다 뒤에 둘 간격, 인스턴스마다 미리 할당받은 ID 구간이 늦게 커밋되는 것을 감안한다.
+    @Value("${statistics.analytics.catch-up-lag-ids:5000}")
+    private long catchUpLagIds;
+
+    public StatisticsColumnStoreLoader(JdbcTemplate jdbcTemplate,
+                                       StatisticsColumnStore statisticsColumnStore,
+                                       StatisticsRepository statisticsRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       @Qualifier(AsyncConfig.STATISTICS_EXECUTOR) ThreadPoolTaskExecutor statisticsExecutor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.statisticsColumnStore = statisticsColumnStore;
+        this.statisticsRepository = statisticsRepository;
+        this.transactionManager = transactionManager;
+        this.statisticsExecutor = statisticsExecutor;
+    }
+
+    @PostConstruct
+    public void init() {
+        // 최대 ID 조회와 전체 행 조회가 같은 스냅샷을 보도록 한다.
+        snapshotTransaction = new TransactionTemplate(transactionManager);
+        snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        snapshotTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        submit(reloading, "컬럼 저장소 적재", this::reload);
+    }
+
+    @Scheduled(cron = "${statistics.analytics.reload-cron:0 0 4 * * *}")
+    public void scheduleReload() {
+        submit(reloading, "컬럼 저장소 적재", this::reload);
+    }
+
+    @Scheduled(fixedDelayString = "${statistics.analytics.catch-up-interval-millis:10000}")
+    public void scheduleCatchUp() {
+        submit(catchingUp, "컬럼 저장소 따라잡기", this::catchUp);
+    }
+
+    /**
+     * 작업을 statistics 실행기에 넘긴다. 같은 작업이 진행 중이면 건너뛴다.
+     * (실행기에 넘기면 스케줄러가 실행 완료를 기다리지 않으므로 겹쳐 실행되지 않게 직접 막는다)
+     */
+    private void submit(AtomicBoolean running, String taskName, Runnable task) {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("{} 작업이 진행 중이므로 이번 실행을 건너뜁니다.", taskName);
+            return;
+        }
+        try {
+            statisticsExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("{} 실패", taskName, e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private void reload() {
+        statisticsColumnStore.beginReload();
+        try {
+            snapshotTransaction.executeWithoutResult(transactionStatus -> loadAndReplace());
+        } catch (RuntimeException e) {
+            statisticsColumnStore.abortReload();
+            throw e;
+        }
+    }
+
+    /**
+     * 기준 ID 보다 큰 행 중 아직 반영하지 않은 행을 컬럼 저장소에 덧붙인다.
+     */
+    private void catchUp() {
+        if (!statisticsColumnStore.isReady()) {
+            return;
+        }
+        List<Statistics> rows = jdbcTemplate.query(
+                SELECT_COLUMNS + "FROM statistics WHERE statistics_id > ? AND purchase_date >= ?",
+                STATISTICS_ROW_MAPPER, statisticsColumnStore.getFloorId(), Date.valueOf(retentionStart()));
+        statisticsColumnStore.catchUp(rows, catchUpLagIds);
+    }
+
+    private void loadAndReplace() {
+        Map<Long, CustomerStatisticsColumns> loadedColumns = new ConcurrentHashMap<>();
+        Set<Long> loadedRecentIds = new HashSet<>();
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(statistics_id), 0) FROM statistics", Long.class);
+        long floorId = maxId - catchUpLagIds;
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    SELECT_COLUMNS + "FROM statistics WHERE purchase_date >= ?",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setDate(1, Date.valueOf(retentionStart()));
+            return statement;
+        }, (RowCallbackHandler) resultSet -> {
+            long statisticsId = resultSet.getLong("statistics_id");
+            if (statisticsId > floorId) {
+                loadedRecentIds.add(statisticsId);
+            }
+            StatisticsColumnStore.appendTo(loadedColumns,
+                    resultSet.getLong("customer_id"),
+                    resultSet.getString("member_id"),
+                    resultSet.getLong("product_id"),
+                    resultSet.getDate("purchase_date").toLocalDate(),
+                    Gender.valueOf(resultSet.getString("gender")),
+                    resultSet.getInt("age_range"),
+                    OrderType.valueOf(resultSet.getString("order_type")),
+                    resultSet.getInt("quantity"),
+                    resultSet.getInt("price"));
+        });
+
+        statisticsColumnStore.replace(loadedColumns, floorId, loadedRecentIds, statisticsRepository::findStatisticsIdsIn);
+    }
+
+    private LocalDate retentionStart() {
+        return LocalDate.now().minusMonths(retentionMonths);
+    }
+
+    private static final RowMapper<Statistics> STATISTICS_ROW_MAPPER = (resultSet, rowNum) -> Statistics.builder()
+            .statisticsId(resultSet.getLong("statistics_id"))
+            .customerId(resultSet.getLong("customer_id"))
+            .memberId(resultSet.getString("member_id"))
+            .productId(resultSet.getLong("product_id"))
+            .purchaseDate(resultSet.getDate("purchase_date").toLocalDate())
+            .gender(Gender.valueOf(resultSet.getString("gender")))
+            .ageRange(resultSet.getInt("age_range"))
+            .orderType(OrderType.valueOf(resultSet.getString("order_type")))
+            .quantity(resultSet.getInt("quantity"))
+            .price(resultSet.getInt("price"))
+            .build();
+}
@@ -0,0 +1,13 @@
+package com.yeonieum.orderservice.domain.statistics.analytics;
+
+/**
+ * 컬럼 저장소 집계 시 사용할 수 있는 그룹 기준
+ */
+public enum StatisticsGroupBy {
+    DAY,
+    PRODUCT,
+    MEMBER,
+    GENDER,
+    AGE_RANGE,
+    ORDER_TYPE
+}
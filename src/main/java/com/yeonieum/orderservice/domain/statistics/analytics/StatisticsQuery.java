@@ -0,0 +1,27 @@
+package com.yeonieum.orderservice.domain.statistics.analytics;
+
+import com.yeonieum.orderservice.global.enums.Gender;
+import com.yeonieum.orderservice.global.enums.OrderType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 컬럼 저장소 집계 조건. 값이 없는 필터는 적용하지 않는다.
+ */
+@Getter
+@Builder
+public class StatisticsQuery {
+    public static final int MAX_GROUP_BY = 2;
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Gender gender;
+    private Integer ageRange;
+    private OrderType orderType;
+    private Long productId;
+    @Builder.Default
+    private List<StatisticsGroupBy> groupBy = List.of();
+}
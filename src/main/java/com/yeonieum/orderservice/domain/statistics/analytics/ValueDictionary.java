@@ -0,0 +1,35 @@
+package com.yeonieum.orderservice.domain.statistics.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 값을 0부터 시작하는 정수 코드로 치환하는 사전
+ */
+class ValueDictionary<T> {
+    private final Map<T, Integer> codes = new HashMap<>();
+    private final List<T> values = new ArrayList<>();
+
+    synchronized int encode(T value) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            codes.put(value, code);
+            values.add(value);
+        }
+        return code;
+    }
+
+    /**
+     * 사전에 없는 값이면 -1을 반환한다.
+     */
+    synchronized int lookup(T value) {
+        return codes.getOrDefault(value, -1);
+    }
+
+    synchronized T decode(int code) {
+        return values.get(code);
+    }
+}
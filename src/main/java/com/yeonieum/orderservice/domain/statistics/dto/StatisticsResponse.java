@@ -0,0 +1,56 @@
+package com.yeonieum.orderservice.domain.statistics.dto;
+
+import com.yeonieum.orderservice.domain.statistics.analytics.StatisticsGroupBy;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public class StatisticsResponse {
+
+    @Getter
+    @Builder
+    public static class OfRankingEngineStatus {
+        private boolean ready;
+        // 다른 인스턴스의 주문은 다음 재구성 전까지 반영되지 않으므로 항상 false
+        private boolean exact;
+        private LocalDate windowStartDate;
+        private int customerCount;
+        // 마지막 재구성 이후 이 인스턴스에서 반영한 주문 수
+        private long recordedSinceRebuild;
+        private LocalDateTime rebuiltDateTime;
+        // 다른 인스턴스의 주문은 이 시각까지만 반영되어 있음
+        private LocalDateTime snapshotDateTime;
+        // 스냅샷 이후 경과 시간 (다른 인스턴스의 주문이 빠져 있을 수 있는 기간)
+        private Long lagMillis;
+        // lagMillis 의 상한 (재구성 주기 + 마지막 재구성 소요 시간)
+        private long maxLagMillis;
+        private long resyncIntervalMillis;
+    }
+
+    @Getter
+    @Builder
+    public static class OfAggregation {
+        private List<StatisticsGroupBy> groupBy;
+        private List<AggregationGroup> groups;
+    }
+
+    @Getter
+    @Builder
+    public static class AggregationGroup {
+        private Map<StatisticsGroupBy, Object> keys;
+        private long orderCount;
+        private long quantity;
+        private long revenue;
+    }
+
+    @Getter
+    @Builder
+    public static class OfRepeatBuyers {
+        private long buyerCount;
+        private long repeatBuyerCount;
+    }
+}
@@ -2,6 +2,7 @@ package com.yeonieum.orderservice.domain.statistics.entity;
 
 import com.yeonieum.orderservice.global.enums.Gender;
 import com.yeonieum.orderservice.global.enums.OrderType;
+import com.yeonieum.orderservice.global.config.IdGeneratorConfig;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,7 +17,10 @@ import java.time.LocalDate;
 public class Statistics {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "statistics_id_generator")
+    @TableGenerator(name = "statistics_id_generator", table = IdGeneratorConfig.TABLE_NAME,
+            pkColumnName = IdGeneratorConfig.SEQUENCE_COLUMN, valueColumnName = IdGeneratorConfig.VALUE_COLUMN,
+            pkColumnValue = "statistics", allocationSize = IdGeneratorConfig.ALLOCATION_SIZE)
     @Column(name = "statistics_id")
     private Long statisticsId;
 
@@ -0,0 +1,54 @@
+package com.yeonieum.orderservice.domain.statistics.entity;
+
+import com.yeonieum.orderservice.global.enums.Gender;
+import com.yeonieum.orderservice.global.enums.OrderType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * statistics 테이블을 (고객, 상품, 일자, 성별, 연령대, 판매타입) 단위로 미리 집계한 일별 롤업
+ * statistics 저장 시점에 증분 갱신된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "statistics_daily_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_statistics_daily_rollup",
+                columnNames = {"customer_id", "purchase_date", "product_id", "gender", "age_range", "order_type"}))
+public class StatisticsDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "statistics_daily_rollup_id")
+    private Long statisticsDailyRollupId;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "purchase_date", nullable = false)
+    private LocalDate purchaseDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "gender", nullable = false)
+    private Gender gender;
+
+    @Column(name = "age_range", nullable = false)
+    private int ageRange;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_type", nullable = false)
+    private OrderType orderType;
+
+    @Column(name = "total_quantity", nullable = false)
+    private long totalQuantity;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+}
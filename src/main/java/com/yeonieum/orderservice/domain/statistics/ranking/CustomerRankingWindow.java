@@ -0,0 +1,67 @@
+package com.yeonieum.orderservice.domain.statistics.ranking;
+
+import com.yeonieum.orderservice.domain.order.dto.response.OrderResponse;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 한 고객의 기간 내 상품별 주문 수를 일 단위 버킷으로 보관한다.
+ * 버킷이 윈도우를 벗어나면 합계에서 빼고 버린다. 카운터가 정확하므로 근사 오차는 없다.
+ */
+public class CustomerRankingWindow {
+    // 일자 -> 랭킹 키 -> 상품 ID -> 주문 수
+    private final TreeMap<LocalDate, Map<String, Map<Long, Long>>> dailyBuckets = new TreeMap<>();
+    // 랭킹 키 -> 상품 ID -> 윈도우 내 주문 수
+    private final Map<String, Map<Long, Long>> windowTotals = new HashMap<>();
+
+    public synchronized void add(LocalDate purchaseDate, String rankingKey, Long productId, long orderCount) {
+        dailyBuckets.computeIfAbsent(purchaseDate, date -> new HashMap<>())
+                .computeIfAbsent(rankingKey, key -> new HashMap<>())
+                .merge(productId, orderCount, Long::sum);
+        windowTotals.computeIfAbsent(rankingKey, key -> new HashMap<>())
+                .merge(productId, orderCount, Long::sum);
+    }
+
+    /**
+     * windowStart 이전(포함) 버킷을 합계에서 제거한다.
+     */
+    public synchronized void evictUntil(LocalDate windowStart) {
+        while (!dailyBuckets.isEmpty() && !dailyBuckets.firstKey().isAfter(windowStart)) {
+            Map<String, Map<Long, Long>> expiredBucket = dailyBuckets.pollFirstEntry().getValue();
+            expiredBucket.forEach((rankingKey, productCounts) -> {
+                Map<Long, Long> totals = windowTotals.get(rankingKey);
+                productCounts.forEach((productId, orderCount) ->
+                        totals.computeIfPresent(productId, (id, total) -> total - orderCount > 0 ? total - orderCount : null));
+                if (totals.isEmpty()) {
+                    windowTotals.remove(rankingKey);
+                }
+            });
+        }
+    }
+
+    /**
+     * 주문 수 상위 limit개 상품을 주문 수 내림차순으로 반환한다.
+     */
+    public synchronized List<OrderResponse.ProductOrderCount> top(String rankingKey, int limit) {
+        Map<Long, Long> totals = windowTotals.getOrDefault(rankingKey, Collections.emptyMap());
+        Comparator<Map.Entry<Long, Long>> byCount = Map.Entry.comparingByValue();
+        PriorityQueue<Map.Entry<Long, Long>> heap = new PriorityQueue<>(byCount);
+        for (Map.Entry<Long, Long> entry : totals.entrySet()) {
+            if (heap.size() < limit) {
+                heap.offer(entry);
+            } else if (entry.getValue() > heap.peek().getValue()) {
+                heap.poll();
+                heap.offer(entry);
+            }
+        }
+
+        List<OrderResponse.ProductOrderCount> ranking = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Map.Entry<Long, Long> entry = heap.poll();
+            ranking.add(new OrderResponse.ProductOrderCount(entry.getKey(), entry.getValue()));
+        }
+        Collections.reverse(ranking);
+        return ranking;
+    }
+}
@@ -0,0 +1,187 @@
+package com.yeonieum.orderservice.domain.statistics.ranking;
+
+import com.yeonieum.orderservice.domain.order.dto.response.OrderResponse;
+import com.yeonieum.orderservice.domain.statistics.dto.StatisticsResponse;
+import com.yeonieum.orderservice.global.enums.Gender;
+import com.yeonieum.orderservice.global.enums.OrderType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 고객별 최근 3개월 상품 랭킹을 메모리에서 유지하는 엔진
+ * 주문 완료 시 증분 반영되고, 기동 시와 주기적으로 statistics_daily_rollup 으로부터 재구성된다.
+ * 다른 인스턴스에서 발생한 주문은 다음 재구성 시점에 반영되므로, 랭킹은 마지막 재구성의 스냅샷 이후 다른 인스턴스의 주문만큼 부정확하다.
+ * 재구성 중 증분 반영된 주문은 따로 모아 두었다가, 재구성 스냅샷에 없는 주문만 교체한 랭킹에 다시 반영한다.
+ */
+@Component
+public class ProductRankingEngine {
+    private static final int WINDOW_MONTHS = 3;
+
+    private volatile Map<Long, CustomerRankingWindow> customerWindows = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+    private volatile LocalDateTime rebuiltDateTime;
+    // 마지막 재구성이 롤업을 읽기 시작한 시각, 다른 인스턴스의 주문은 이 시각까지만 반영되어 있다.
+    private volatile LocalDateTime snapshotDateTime;
+    private volatile long lastRebuildMillis;
+    private final AtomicLong recordedSinceRebuild = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+    // 재구성 중 증분 반영된 주문, 교체한 뒤 다시 반영한다.
+    private List<RecordedOrder> recordedDuringRebuild;
+    private LocalDateTime rebuildStartedDateTime;
+
+    @Value("${statistics.ranking.engine.resync-interval-millis:600000}")
+    private long resyncIntervalMillis;
+
+    /**
+     * 기간 시작일. 이 날짜 이후(미포함)의 주문만 랭킹에 포함된다.
+     */
+    public static LocalDate windowStart(LocalDate today) {
+        return today.minusMonths(WINDOW_MONTHS);
+    }
+
+    /**
+     * 이 인스턴스에서 커밋된 주문을 반영
+     * @param statisticsId 주문의 통계 ID, 재구성 스냅샷에 이미 포함된 주문을 다시 반영하지 않는 데 사용한다.
+     */
+    public void record(Long statisticsId, Long customerId, Long productId, LocalDate purchaseDate, Gender gender, int ageRange, OrderType orderType) {
+        LocalDate windowStart = windowStart(LocalDate.now());
+        if (!purchaseDate.isAfter(windowStart)) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (recordedDuringRebuild != null) {
+                recordedDuringRebuild.add(new RecordedOrder(statisticsId, customerId, productId, purchaseDate, gender, ageRange, orderType));
+            }
+            addTo(customerWindows, customerId, productId, purchaseDate, gender, ageRange, orderType, 1L);
+        } finally {
+            lock.unlock();
+        }
+        recordedSinceRebuild.incrementAndGet();
+    }
+
+    public List<OrderResponse.ProductOrderCount> topProducts(Long customerId, RankingDimension dimension, Object value, int limit) {
+        CustomerRankingWindow window = customerWindows.get(customerId);
+        if (window == null) {
+            return Collections.emptyList();
+        }
+        window.evictUntil(windowStart(LocalDate.now()));
+        return window.top(dimension.keyOf(value), limit);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 재구성을 시작한다. 롤업 조회 전에 호출해야 조회 중 증분 반영된 주문이 교체 후에도 남는다.
+     */
+    public void beginRebuild() {
+        lock.lock();
+        try {
+            recordedDuringRebuild = new ArrayList<>();
+            rebuildStartedDateTime = LocalDateTime.now();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 재구성이 실패하면 모아 둔 주문을 버린다. (기존 랭킹에는 이미 반영되어 있음)
+     */
+    public void abortRebuild() {
+        lock.lock();
+        try {
+            recordedDuringRebuild = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 재구성한 랭킹으로 교체하고, 재구성 중 증분 반영된 주문 중 스냅샷에 없는 주문만 다시 반영한다.
+     * 롤업 조회 직후 커밋된 주문은 롤업에 포함되고도 afterCommit 에서 다시 기록될 수 있으므로 통계 ID 로 걸러낸다.
+     * 교체하는 동안 기록이 끼어들지 않도록 잠금을 잡은 채로 조회한다.
+     * @param rebuiltWindows 재구성한 랭킹
+     * @param snapshotStatisticsIds 주어진 통계 ID 중 재구성 스냅샷에 있는 ID (롤업을 읽은 트랜잭션에서 조회)
+     */
+    public void replace(Map<Long, CustomerRankingWindow> rebuiltWindows, Function<Collection<Long>, Set<Long>> snapshotStatisticsIds) {
+        lock.lock();
+        try {
+            List<RecordedOrder> pending = recordedDuringRebuild == null ? List.of() : recordedDuringRebuild;
+            recordedDuringRebuild = null;
+            List<Long> pendingStatisticsIds = pending.stream()
+                    .map(RecordedOrder::statisticsId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            Set<Long> includedStatisticsIds = pendingStatisticsIds.isEmpty() ? Set.of() : snapshotStatisticsIds.apply(pendingStatisticsIds);
+            long replayed = 0;
+            for (RecordedOrder order : pending) {
+                if (order.statisticsId() != null && includedStatisticsIds.contains(order.statisticsId())) {
+                    continue;
+                }
+                addTo(rebuiltWindows, order.customerId(), order.productId(), order.purchaseDate(),
+                        order.gender(), order.ageRange(), order.orderType(), 1L);
+                replayed++;
+            }
+            customerWindows = rebuiltWindows;
+            rebuiltDateTime = LocalDateTime.now();
+            if (rebuildStartedDateTime != null) {
+                snapshotDateTime = rebuildStartedDateTime;
+                lastRebuildMillis = Duration.between(rebuildStartedDateTime, rebuiltDateTime).toMillis();
+            }
+            recordedSinceRebuild.set(replayed);
+            ready = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 엔진 상태와 오차 범위
+     * 다른 인스턴스의 주문은 스냅샷 시각 이후 것이 빠져 있으며, 그 기간은 재구성 주기와 재구성 소요 시간을 더한 값을 넘지 않는다.
+     */
+    public StatisticsResponse.OfRankingEngineStatus status() {
+        LocalDateTime snapshot = snapshotDateTime;
+        return StatisticsResponse.OfRankingEngineStatus.builder()
+                .ready(ready)
+                .exact(false)
+                .windowStartDate(windowStart(LocalDate.now()))
+                .customerCount(customerWindows.size())
+                .recordedSinceRebuild(recordedSinceRebuild.get())
+                .rebuiltDateTime(rebuiltDateTime)
+                .snapshotDateTime(snapshot)
+                .lagMillis(snapshot == null ? null : Duration.between(snapshot, LocalDateTime.now()).toMillis())
+                .maxLagMillis(resyncIntervalMillis + lastRebuildMillis)
+                .resyncIntervalMillis(resyncIntervalMillis)
+                .build();
+    }
+
+    static void addTo(Map<Long, CustomerRankingWindow> windows, Long customerId, Long productId, LocalDate purchaseDate,
+                      Gender gender, int ageRange, OrderType orderType, long orderCount) {
+        CustomerRankingWindow window = windows.computeIfAbsent(customerId, id -> new CustomerRankingWindow());
+        window.add(purchaseDate, RankingDimension.GENDER.keyOf(gender), productId, orderCount);
+        window.add(purchaseDate, RankingDimension.AGE_RANGE.keyOf(ageRange), productId, orderCount);
+        window.add(purchaseDate, RankingDimension.ORDER_TYPE.keyOf(orderType), productId, orderCount);
+    }
+
+    private record RecordedOrder(Long statisticsId, Long customerId, Long productId, LocalDate purchaseDate, Gender gender, int ageRange,
+                                 OrderType orderType) {
+    }
+}
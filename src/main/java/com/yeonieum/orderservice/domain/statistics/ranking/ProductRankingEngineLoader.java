@@ -0,0 +1,132 @@
+package com.yeonieum.orderservice.domain.statistics.ranking;
+
+import com.yeonieum.orderservice.domain.statistics.repository.StatisticsRepository;
+import com.yeonieum.orderservice.global.config.AsyncConfig;
+import com.yeonieum.orderservice.global.enums.Gender;
+import com.yeonieum.orderservice.global.enums.OrderType;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 랭킹 엔진을 statistics_daily_rollup 으로부터 재구성한다.
+ * 기동 직후 한 번, 이후 statistics.ranking.engine.resync-interval-millis 주기로 실행해
+ * 다른 인스턴스에서 기록된 주문을 맞춘다. 조회 전에 재구성을 시작해, 조회 중 이 인스턴스에서 증분 반영된 주문 중
+ * 롤업 스냅샷에 없는 주문만 교체 후 다시 반영한다. 롤업 조회와 스냅샷 확인은 같은 읽기 스냅샷에서 실행한다.
+ * 재구성은 statistics 실행기에서 실행되며, 이전 재구성이 끝나지 않았으면 새로 시작하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "statistics.ranking.engine.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductRankingEngineLoader {
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRankingEngine productRankingEngine;
+    private final StatisticsRepository statisticsRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ThreadPoolTaskExecutor statisticsExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private TransactionTemplate snapshotTransaction;
+
+    public ProductRankingEngineLoader(JdbcTemplate jdbcTemplate,
+                                      ProductRankingEngine productRankingEngine,
+                                      StatisticsRepository statisticsRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Qualifier(AsyncConfig.STATISTICS_EXECUTOR) ThreadPoolTaskExecutor statisticsExecutor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRankingEngine = productRankingEngine;
+        this.statisticsRepository = statisticsRepository;
+        this.transactionManager = transactionManager;
+        this.statisticsExecutor = statisticsExecutor;
+    }
+
+    @PostConstruct
+    public void init() {
+        // 롤업 조회와 재반영할 주문의 포함 여부 확인이 같은 스냅샷을 보도록 한다.
+        snapshotTransaction = new TransactionTemplate(transactionManager);
+        snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        snapshotTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        submitRebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${statistics.ranking.engine.resync-interval-millis:600000}",
+            initialDelayString = "${statistics.ranking.engine.resync-interval-millis:600000}")
+    public void resync() {
+        submitRebuild();
+    }
+
+    /**
+     * 재구성을 statistics 실행기에 넘긴다. 진행 중인 재구성이 있으면 건너뛴다.
+     * (실행기에 넘기면 fixedDelay 가 실행 완료를 기다리지 않으므로, 두 재구성이 재구성 중 기록을 함께 건드리지 않게 직접 막는다)
+     */
+    private void submitRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("랭킹 엔진 재구성이 진행 중이므로 이번 재구성을 건너뜁니다.");
+            return;
+        }
+        try {
+            statisticsExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.error("랭킹 엔진 재구성 실패", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuilding.set(false);
+            throw e;
+        }
+    }
+
+    private void rebuild() {
+        Map<Long, CustomerRankingWindow> rebuiltWindows = new ConcurrentHashMap<>();
+        LocalDate windowStart = ProductRankingEngine.windowStart(LocalDate.now());
+
+        productRankingEngine.beginRebuild();
+        try {
+            snapshotTransaction.executeWithoutResult(transactionStatus -> {
+                loadRollup(rebuiltWindows, windowStart);
+                productRankingEngine.replace(rebuiltWindows, statisticsRepository::findStatisticsIdsIn);
+            });
+        } catch (RuntimeException e) {
+            productRankingEngine.abortRebuild();
+            throw e;
+        }
+    }
+
+    private void loadRollup(Map<Long, CustomerRankingWindow> rebuiltWindows, LocalDate windowStart) {
+        jdbcTemplate.query("SELECT customer_id, product_id, purchase_date, gender, age_range, order_type, order_count " +
+                        "FROM statistics_daily_rollup WHERE purchase_date > ?",
+                (RowCallbackHandler) resultSet -> ProductRankingEngine.addTo(rebuiltWindows,
+                        resultSet.getLong("customer_id"),
+                        resultSet.getLong("product_id"),
+                        resultSet.getDate("purchase_date").toLocalDate(),
+                        Gender.valueOf(resultSet.getString("gender")),
+                        resultSet.getInt("age_range"),
+                        OrderType.valueOf(resultSet.getString("order_type")),
+                        resultSet.getLong("order_count")),
+                Date.valueOf(windowStart));
+    }
+}
@@ -0,0 +1,14 @@
+package com.yeonieum.orderservice.domain.statistics.ranking;
+
+/**
+ * 상품 랭킹을 나누는 기준
+ */
+public enum RankingDimension {
+    GENDER,
+    AGE_RANGE,
+    ORDER_TYPE;
+
+    public String keyOf(Object value) {
+        return name() + ":" + value;
+    }
+}
@@ -0,0 +1,50 @@
+package com.yeonieum.orderservice.domain.statistics.repository;
+
+import com.yeonieum.orderservice.domain.statistics.entity.StatisticsDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+public interface StatisticsDailyRollupRepository extends JpaRepository<StatisticsDailyRollup, Long>, StatisticsDailyRollupRepositoryCustom {
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO statistics_daily_rollup " +
+            "(customer_id, product_id, purchase_date, gender, age_range, order_type, total_quantity, order_count) " +
+            "VALUES (:customerId, :productId, :purchaseDate, :gender, :ageRange, :orderType, :quantity, 1) " +
+            "ON DUPLICATE KEY UPDATE total_quantity = total_quantity + VALUES(total_quantity), order_count = order_count + 1",
+            nativeQuery = true)
+    int upsertDailyRollup(@Param("customerId") Long customerId,
+                          @Param("productId") Long productId,
+                          @Param("purchaseDate") LocalDate purchaseDate,
+                          @Param("gender") String gender,
+                          @Param("ageRange") int ageRange,
+                          @Param("orderType") String orderType,
+                          @Param("quantity") int quantity);
+
+    /**
+     * 기간 내 statistics 원본으로 롤업을 다시 계산한다. 같은 기간을 여러 번 실행해도 결과가 같다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO statistics_daily_rollup " +
+            "(customer_id, product_id, purchase_date, gender, age_range, order_type, total_quantity, order_count) " +
+            "SELECT s.customer_id, s.product_id, s.purchase_date, s.gender, s.age_range, s.order_type, SUM(s.quantity), COUNT(*) " +
+            "FROM statistics s WHERE s.purchase_date BETWEEN :startDate AND :endDate " +
+            "GROUP BY s.customer_id, s.product_id, s.purchase_date, s.gender, s.age_range, s.order_type " +
+            "ON DUPLICATE KEY UPDATE total_quantity = VALUES(total_quantity), order_count = VALUES(order_count)",
+            nativeQuery = true)
+    int rebuildDailyRollupBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * 기준일 이전 롤업을 최대 limit 건 삭제한다. 한 번에 오래 잠그지 않도록 나누어 호출한다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM statistics_daily_rollup WHERE purchase_date < :before LIMIT :limit", nativeQuery = true)
+    int deleteRollupBefore(@Param("before") LocalDate before, @Param("limit") int limit);
+}
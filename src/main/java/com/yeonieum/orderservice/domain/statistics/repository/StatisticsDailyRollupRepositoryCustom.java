@@ -6,7 +6,7 @@ import com.yeonieum.orderservice.global.enums.OrderType;
 
 import java.util.List;
 
-public interface StatisticsRepositoryCustom {
+public interface StatisticsDailyRollupRepositoryCustom {
 
     List<OrderResponse.ProductOrderCount> findTop3ProductsByGender(Long customerId, Gender gender);
     List<OrderResponse.ProductOrderCount> findTop3ProductsByAgeRange(Long customerId, int ageRange);
@@ -3,7 +3,7 @@ package com.yeonieum.orderservice.domain.statistics.repository;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.yeonieum.orderservice.domain.order.dto.response.OrderResponse;
-import com.yeonieum.orderservice.domain.statistics.entity.QStatistics;
+import com.yeonieum.orderservice.domain.statistics.entity.QStatisticsDailyRollup;
 import com.yeonieum.orderservice.global.enums.Gender;
 import com.yeonieum.orderservice.global.enums.OrderType;
 import lombok.RequiredArgsConstructor;
@@ -14,66 +14,66 @@ import java.util.List;
 
 @RequiredArgsConstructor
 @Repository
-public class StatisticsRepositoryImpl implements StatisticsRepositoryCustom{
+public class StatisticsDailyRollupRepositoryImpl implements StatisticsDailyRollupRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
 
     @Override
     public List<OrderResponse.ProductOrderCount> findTop3ProductsByGender(Long customerId, Gender gender) {
-        QStatistics statistics = QStatistics.statistics;
+        QStatisticsDailyRollup rollup = QStatisticsDailyRollup.statisticsDailyRollup;
 
         LocalDate threeMonthsAgo = LocalDate.now().minusMonths(3);
 
         return queryFactory
                 .select(Projections.constructor(OrderResponse.ProductOrderCount.class,
-                        statistics.productId,
-                        statistics.productId.count().as("orderCount")))
-                .from(statistics)
-                .where(statistics.customerId.eq(customerId)
-                        .and(statistics.gender.eq(gender))
-                        .and(statistics.purchaseDate.after(threeMonthsAgo)))
-                .groupBy(statistics.productId)
-                .orderBy(statistics.productId.count().desc())
+                        rollup.productId,
+                        rollup.orderCount.sum().as("orderCount")))
+                .from(rollup)
+                .where(rollup.customerId.eq(customerId)
+                        .and(rollup.gender.eq(gender))
+                        .and(rollup.purchaseDate.after(threeMonthsAgo)))
+                .groupBy(rollup.productId)
+                .orderBy(rollup.orderCount.sum().desc())
                 .limit(3)
                 .fetch();
     }
 
     @Override
     public List<OrderResponse.ProductOrderCount> findTop3ProductsByAgeRange(Long customerId, int ageRange) {
-        QStatistics statistics = QStatistics.statistics;
+        QStatisticsDailyRollup rollup = QStatisticsDailyRollup.statisticsDailyRollup;
 
         LocalDate threeMonthsAgo = LocalDate.now().minusMonths(3);
 
         return queryFactory
                 .select(Projections.constructor(OrderResponse.ProductOrderCount.class,
-                        statistics.productId,
-                        statistics.productId.count().as("orderCount")))
-                .from(statistics)
-                .where(statistics.customerId.eq(customerId)
-                        .and(statistics.ageRange.eq(ageRange))
-                        .and(statistics.purchaseDate.after(threeMonthsAgo)))
-                .groupBy(statistics.productId)
-                .orderBy(statistics.productId.count().desc())
+                        rollup.productId,
+                        rollup.orderCount.sum().as("orderCount")))
+                .from(rollup)
+                .where(rollup.customerId.eq(customerId)
+                        .and(rollup.ageRange.eq(ageRange))
+                        .and(rollup.purchaseDate.after(threeMonthsAgo)))
+                .groupBy(rollup.productId)
+                .orderBy(rollup.orderCount.sum().desc())
                 .limit(3)
                 .fetch();
     }
 
     @Override
     public List<OrderResponse.ProductOrderCount> findAllProductsByOrderType(Long customerId, OrderType orderType) {
-        QStatistics statistics = QStatistics.statistics;
+        QStatisticsDailyRollup rollup = QStatisticsDailyRollup.statisticsDailyRollup;
 
         LocalDate threeMonthsAgo = LocalDate.now().minusMonths(3);
 
         return queryFactory
                 .select(Projections.constructor(OrderResponse.ProductOrderCount.class,
-                        statistics.productId,
-                        statistics.productId.count().as("orderCount")))
-                .from(statistics)
-                .where(statistics.customerId.eq(customerId)
-                        .and(statistics.orderType.eq(orderType))
-                        .and(statistics.purchaseDate.after(threeMonthsAgo)))
-                .groupBy(statistics.productId)
-                .orderBy(statistics.productId.count().desc())
+                        rollup.productId,
+                        rollup.orderCount.sum().as("orderCount")))
+                .from(rollup)
+                .where(rollup.customerId.eq(customerId)
+                        .and(rollup.orderType.eq(orderType))
+                        .and(rollup.purchaseDate.after(threeMonthsAgo)))
+                .groupBy(rollup.productId)
+                .orderBy(rollup.orderCount.sum().desc())
                 .fetch();
     }
 }
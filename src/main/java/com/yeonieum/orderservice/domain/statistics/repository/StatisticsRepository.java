@@ -2,6 +2,22 @@ package com.yeonieum.orderservice.domain.statistics.repository;
 
 import com.yeonieum.orderservice.domain.statistics.entity.Statistics;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface StatisticsRepository extends JpaRepository<Statistics, Long>, StatisticsRepositoryCustom {
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+
+public interface StatisticsRepository extends JpaRepository<Statistics, Long> {
+
+    @Query("SELECT MIN(s.purchaseDate) FROM Statistics s")
+    LocalDate findEarliestPurchaseDate();
+
+    /**
+     * 주어진 ID 중 현재 트랜잭션에서 보이는 통계 ID
+     * 재구성/전체 적재 트랜잭션 안에서 호출해, 그동안 이 인스턴스에서 기록된 행이 스냅샷에 포함되었는지 확인한다.
+     */
+    @Query("SELECT s.statisticsId FROM Statistics s WHERE s.statisticsId IN :statisticsIds")
+    Set<Long> findStatisticsIdsIn(@Param("statisticsIds") Collection<Long> statisticsIds);
 }
@@ -0,0 +1,129 @@
+package com.yeonieum.orderservice.domain.statistics.service;
+
+import com.yeonieum.orderservice.global.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+/**
+ * statistics 테이블의 purchase_date 월별 RANGE 파티션을 관리한다.
+ * - 파티션되지 않은 테이블은 최초 1회 월별 파티션 테이블로 변환한다.
+ * - 앞으로 statistics.partitioning.ahead-months 개월의 파티션을 미리 만든다.
+ * - 보관 기간(statistics.partitioning.retention-months)이 지난 파티션은 삭제한다.
+ *   통계 조회는 컬럼 저장소(statistics.analytics.retention-months)와 일별 롤업(최근 3개월)만 사용하므로 따로 압축해 두지 않는다.
+ * 테이블 변환과 파티션 재구성은 DDL 이므로 기본값은 비활성화이며, 한 인스턴스에서만 켜서 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "statistics.partitioning.enabled", havingValue = "true")
+public class StatisticsPartitionManager {
+    private static final String TABLE_NAME = "statistics";
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'uuuuMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${statistics.partitioning.ahead-months:3}")
+    private int aheadMonths;
+
+    @Value("${statistics.partitioning.retention-months:24}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        maintainPartitions();
+    }
+
+    @Async(AsyncConfig.STATISTICS_EXECUTOR)
+    @Scheduled(cron = "${statistics.partitioning.cron:0 30 3 * * *}")
+    public void maintainPartitions() {
+        YearMonth currentMonth = YearMonth.now();
+        TreeSet<YearMonth> partitionMonths = findPartitionMonths();
+
+        if (partitionMonths == null) {
+            partitionTable(currentMonth);
+            partitionMonths = findPartitionMonths();
+        }
+        createFuturePartitions(partitionMonths, currentMonth.plusMonths(aheadMonths));
+        dropExpiredPartitions(partitionMonths, currentMonth.minusMonths(retentionMonths));
+    }
+
+    /**
+     * @return 월별 파티션 목록, 파티션되지 않은 테이블이면 null
+     */
+    private TreeSet<YearMonth> findPartitionMonths() {
+        List<String> partitionNames = jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                String.class, TABLE_NAME);
+        if (partitionNames.isEmpty()) {
+            return null;
+        }
+
+        TreeSet<YearMonth> partitionMonths = new TreeSet<>();
+        for (String partitionName : partitionNames) {
+            if (!FUTURE_PARTITION.equals(partitionName)) {
+                partitionMonths.add(YearMonth.parse(partitionName, PARTITION_NAME_FORMAT));
+            }
+        }
+        return partitionMonths;
+    }
+
+    /**
+     * MySQL 파티션 테이블의 기본 키에는 파티션 컬럼이 포함되어야 하므로 (statistics_id, purchase_date) 로 바꾼 뒤 파티션한다.
+     */
+    private void partitionTable(YearMonth currentMonth) {
+        LocalDate earliestDate = jdbcTemplate.queryForObject("SELECT MIN(purchase_date) FROM " + TABLE_NAME, LocalDate.class);
+        YearMonth firstMonth = earliestDate != null ? YearMonth.from(earliestDate) : currentMonth;
+
+        StringJoiner partitions = new StringJoiner(", ");
+        for (YearMonth month = firstMonth; !month.isAfter(currentMonth); month = month.plusMonths(1)) {
+            partitions.add(partitionDefinition(month));
+        }
+        partitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        log.info("statistics 테이블을 월별 파티션으로 변환합니다. ({} ~ {})", firstMonth, currentMonth);
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DROP PRIMARY KEY, ADD PRIMARY KEY (statistics_id, purchase_date)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " PARTITION BY RANGE COLUMNS(purchase_date) (" + partitions + ")");
+    }
+
+    private void createFuturePartitions(TreeSet<YearMonth> partitionMonths, YearMonth lastMonth) {
+        YearMonth month = partitionMonths.isEmpty() ? YearMonth.now() : partitionMonths.last().plusMonths(1);
+        for (; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" +
+                    partitionDefinition(month) + ", PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            partitionMonths.add(month);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 파티션을 삭제한다.
+     */
+    private void dropExpiredPartitions(TreeSet<YearMonth> partitionMonths, YearMonth retentionStart) {
+        for (YearMonth month : List.copyOf(partitionMonths.headSet(retentionStart))) {
+            String partitionName = month.format(PARTITION_NAME_FORMAT);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DROP PARTITION " + partitionName);
+            partitionMonths.remove(month);
+            log.info("보관 기간이 지난 statistics 파티션 {} 을 삭제했습니다.", partitionName);
+        }
+    }
+
+    private String partitionDefinition(YearMonth month) {
+        return "PARTITION " + month.format(PARTITION_NAME_FORMAT) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+}
@@ -0,0 +1,45 @@
+package com.yeonieum.orderservice.domain.statistics.service;
+
+import com.yeonieum.orderservice.domain.statistics.repository.StatisticsDailyRollupRepository;
+import com.yeonieum.orderservice.domain.statistics.repository.StatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 기존 statistics 데이터로 일별 롤업을 채우는 백필 작업
+ * statistics.rollup.backfill.enabled=true 로 기동한 인스턴스에서 한 번 실행한다.
+ * 기간을 나누어 실행하며, 같은 기간을 다시 실행해도 결과가 같으므로 중단 시 재실행하면 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "statistics.rollup.backfill.enabled", havingValue = "true")
+public class StatisticsRollupBackfillJob implements ApplicationRunner {
+    private final StatisticsRepository statisticsRepository;
+    private final StatisticsDailyRollupRepository statisticsDailyRollupRepository;
+
+    @Value("${statistics.rollup.backfill.chunk-days:7}")
+    private int chunkDays;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        LocalDate earliestDate = statisticsRepository.findEarliestPurchaseDate();
+        if (earliestDate == null) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        for (LocalDate startDate = earliestDate; !startDate.isAfter(today); startDate = startDate.plusDays(chunkDays)) {
+            LocalDate endDate = startDate.plusDays(chunkDays - 1L);
+            int rows = statisticsDailyRollupRepository.rebuildDailyRollupBetween(startDate, endDate);
+            log.info("통계 롤업 백필 {} ~ {} : {} rows", startDate, endDate, rows);
+        }
+    }
+}
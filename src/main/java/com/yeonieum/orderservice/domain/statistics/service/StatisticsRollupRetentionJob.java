@@ -0,0 +1,49 @@
+package com.yeonieum.orderservice.domain.statistics.service;
+
+import com.yeonieum.orderservice.domain.statistics.ranking.ProductRankingEngine;
+import com.yeonieum.orderservice.domain.statistics.repository.StatisticsDailyRollupRepository;
+import com.yeonieum.orderservice.global.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 롤업 보관 작업
+ * 롤업은 최근 3개월 랭킹에만 쓰이므로, 랭킹 기간 시작일에서 retention-margin-days 만큼 지난 행은 매일 나누어 삭제한다.
+ * 같은 기준일로 여러 인스턴스에서 실행되어도 결과가 같다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "statistics.rollup.retention.enabled", havingValue = "true", matchIfMissing = true)
+public class StatisticsRollupRetentionJob {
+    private final StatisticsDailyRollupRepository statisticsDailyRollupRepository;
+
+    @Value("${statistics.rollup.retention.margin-days:7}")
+    private int marginDays;
+
+    @Value("${statistics.rollup.retention.batch-size:5000}")
+    private int batchSize;
+
+    @Async(AsyncConfig.STATISTICS_EXECUTOR)
+    @Scheduled(cron = "${statistics.rollup.retention.cron:0 45 3 * * *}")
+    public void deleteExpiredRollup() {
+        LocalDate before = ProductRankingEngine.windowStart(LocalDate.now()).minusDays(marginDays);
+        long deletedRows = 0;
+        int deleted;
+        do {
+            deleted = statisticsDailyRollupRepository.deleteRollupBefore(before, batchSize);
+            deletedRows += deleted;
+        } while (deleted == batchSize);
+
+        if (deletedRows > 0) {
+            log.info("{} 이전 통계 롤업 {} rows 를 삭제했습니다.", before, deletedRows);
+        }
+    }
+}
@@ -1,12 +1,24 @@
 package com.yeonieum.orderservice.domain.statistics.service;
 
 import com.yeonieum.orderservice.domain.order.dto.response.OrderResponse;
+import com.yeonieum.orderservice.domain.statistics.analytics.StatisticsColumnStore;
+import com.yeonieum.orderservice.domain.statistics.analytics.StatisticsQuery;
+import com.yeonieum.orderservice.domain.statistics.dto.StatisticsResponse;
+import com.yeonieum.orderservice.domain.statistics.entity.Statistics;
+import com.yeonieum.orderservice.domain.statistics.ranking.ProductRankingEngine;
+import com.yeonieum.orderservice.domain.statistics.ranking.RankingDimension;
+import com.yeonieum.orderservice.domain.statistics.repository.StatisticsDailyRollupRepository;
 import com.yeonieum.orderservice.domain.statistics.repository.StatisticsRepository;
 import com.yeonieum.orderservice.global.enums.Gender;
 import com.yeonieum.orderservice.global.enums.OrderType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -14,6 +26,57 @@ import java.util.List;
 public class StatisticsService {
 
     private final StatisticsRepository statisticsRepository;
+    private final StatisticsDailyRollupRepository statisticsDailyRollupRepository;
+    private final ProductRankingEngine productRankingEngine;
+    private final StatisticsColumnStore statisticsColumnStore;
+
+    @Value("${statistics.ranking.engine.enabled:true}")
+    private boolean rankingEngineEnabled;
+
+    @Value("${statistics.analytics.enabled:true}")
+    private boolean analyticsEnabled;
+
+    /**
+     * 주문 통계 저장
+     * 원본 통계와 함께 일별 롤업을 증분 갱신한다.
+     * @param statisticsList 상품 주문별 통계
+     */
+    @Transactional
+    public void recordStatistics(List<Statistics> statisticsList) {
+        statisticsRepository.saveAll(statisticsList);
+        for (Statistics statistics : statisticsList) {
+            statisticsDailyRollupRepository.upsertDailyRollup(
+                    statistics.getCustomerId(),
+                    statistics.getProductId(),
+                    statistics.getPurchaseDate(),
+                    statistics.getGender().name(),
+                    statistics.getAgeRange(),
+                    statistics.getOrderType().name(),
+                    statistics.getQuantity());
+        }
+
+        // 커밋된 통계만 랭킹 엔진과 컬럼 저장소에 반영한다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (Statistics statistics : statisticsList) {
+                    if (rankingEngineEnabled) {
+                        productRankingEngine.record(
+                                statistics.getStatisticsId(),
+                                statistics.getCustomerId(),
+                                statistics.getProductId(),
+                                statistics.getPurchaseDate(),
+                                statistics.getGender(),
+                                statistics.getAgeRange(),
+                                statistics.getOrderType());
+                    }
+                    if (analyticsEnabled) {
+                        statisticsColumnStore.append(statistics);
+                    }
+                }
+            }
+        });
+    }
 
     /**
      * 고객의 상품 성별 TOP3
@@ -22,7 +85,9 @@ public class StatisticsService {
      */
     public List<OrderResponse.ProductOrderCount> genderProductOrderCounts (Long customerId, Gender gender) {
 
-        List<OrderResponse.ProductOrderCount> productOrderCounts = statisticsRepository.findTop3ProductsByGender(customerId, gender);
+        List<OrderResponse.ProductOrderCount> productOrderCounts = rankingEngineEnabled && productRankingEngine.isReady()
+                ? productRankingEngine.topProducts(customerId, RankingDimension.GENDER, gender, 3)
+                : statisticsDailyRollupRepository.findTop3ProductsByGender(customerId, gender);
         return productOrderCounts;
     }
 
@@ -33,7 +98,9 @@ public class StatisticsService {
      */
     public List<OrderResponse.ProductOrderCount> ageProductOrderCounts (Long customerId, int ageRange) {
 
-        List<OrderResponse.ProductOrderCount> productOrderCounts = statisticsRepository.findTop3ProductsByAgeRange(customerId, ageRange);
+        List<OrderResponse.ProductOrderCount> productOrderCounts = rankingEngineEnabled && productRankingEngine.isReady()
+                ? productRankingEngine.topProducts(customerId, RankingDimension.AGE_RANGE, ageRange, 3)
+                : statisticsDailyRollupRepository.findTop3ProductsByAgeRange(customerId, ageRange);
         return productOrderCounts;
     }
 
@@ -44,7 +111,47 @@ public class StatisticsService {
      */
     public List<OrderResponse.ProductOrderCount> orderTypeProductOrderCounts (Long customerId, OrderType orderType) {
 
-        List<OrderResponse.ProductOrderCount> productOrderCounts = statisticsRepository.findAllProductsByOrderType(customerId, orderType);
+        List<OrderResponse.ProductOrderCount> productOrderCounts = rankingEngineEnabled && productRankingEngine.isReady()
+                ? productRankingEngine.topProducts(customerId, RankingDimension.ORDER_TYPE, orderType, Integer.MAX_VALUE)
+                : statisticsDailyRollupRepository.findAllProductsByOrderType(customerId, orderType);
         return productOrderCounts;
     }
+
+    /**
+     * 랭킹 엔진 상태 조회
+     * @return 근사 오차, 윈도우 시작일, 마지막 재구성 시각
+     */
+    public StatisticsResponse.OfRankingEngineStatus retrieveRankingEngineStatus() {
+        return productRankingEngine.status();
+    }
+
+    /**
+     * 고객 통계 집계 조회
+     * 메모리 컬럼 저장소에서 필터/그룹/집계를 수행한다.
+     * @param customerId 고객 ID
+     * @param query 필터 및 그룹 기준
+     * @return 그룹별 주문 수, 판매 수량, 매출
+     */
+    public StatisticsResponse.OfAggregation aggregateStatistics(Long customerId, StatisticsQuery query) {
+        checkAnalyticsAvailable();
+        return statisticsColumnStore.aggregate(customerId, query);
+    }
+
+    /**
+     * 고객 재구매 회원 수 조회
+     * @param customerId 고객 ID
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @return 구매 회원 수와 재구매 회원 수
+     */
+    public StatisticsResponse.OfRepeatBuyers countRepeatBuyers(Long customerId, LocalDate startDate, LocalDate endDate) {
+        checkAnalyticsAvailable();
+        return statisticsColumnStore.countRepeatBuyers(customerId, startDate, endDate);
+    }
+
+    private void checkAnalyticsAvailable() {
+        if (!analyticsEnabled || !statisticsColumnStore.isReady()) {
+            throw new IllegalStateException("통계 분석 데이터가 아직 준비되지 않았습니다.");
+        }
+    }
 }
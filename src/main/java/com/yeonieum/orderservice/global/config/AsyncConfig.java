@@ -1,10 +1,131 @@
 package com.yeonieum.orderservice.global.config;
 
+import com.yeonieum.orderservice.global.usercontext.UserContextTaskDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 작업 실행기 설정
+ * 작업 종류마다 크기와 대기열이 제한된 실행기를 따로 두어, 한 종류의 작업이 밀려도 다른 작업의 스레드를 빼앗지 않게 한다.
+ * 모든 실행기는 제출한 스레드의 사용자 정보를 넘겨주고, 대기열까지 가득 차면 제출한 스레드가 직접 실행한다.
+ * 단, MVC 비동기 요청 실행기는 제출한 스레드(요청 스레드, Redis 리스너/스케줄러 스레드)가 소켓 쓰기를 떠맡지 않도록 가득 차면 거절한다.
+ * 대기열 길이와 활성 스레드 수는 executor.* 지표로(name 태그는 빈 이름에서 Executor를 뺀 값), 거절 횟수는 executor.rejected로 내보낸다.
+ * 가상 스레드 모드에서는 풀의 스레드만 가상 스레드로 바뀌고 동시 실행 수 제한은 그대로 유지된다.
+ */
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig {
-    // 비동기 처리를 위한 설정이 필요할 경우 추가 설정을 여기에 추가할 수 있습니다.
-}
\ No newline at end of file
+    public static final String EVENT_PUBLISH_EXECUTOR = "eventPublishExecutor";
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String STATISTICS_EXECUTOR = "statisticsExecutor";
+    public static final String ENRICHMENT_EXECUTOR = "enrichmentExecutor";
+    public static final String MVC_EXPORT_EXECUTOR = "mvcExportExecutor";
+    public static final String MVC_STREAM_EXECUTOR = "mvcStreamExecutor";
+
+    private final UserContextTaskDecorator userContextTaskDecorator;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    /**
+     * 실행기를 지정하지 않은 @Async가 사용하는 기본 실행기 (MVC 비동기 요청은 {@link MvcConfig}에서 전용 실행기로 바꾼다)
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(@Value("${async.application.pool-size:16}") int poolSize,
+                                                          @Value("${async.application.queue-capacity:200}") int queueCapacity) {
+        return boundedExecutor("application", "task-", poolSize, queueCapacity);
+    }
+
+    /**
+     * Kafka 이벤트 발행
+     */
+    @Bean(name = EVENT_PUBLISH_EXECUTOR)
+    public ThreadPoolTaskExecutor eventPublishExecutor(@Value("${async.event-publish.pool-size:8}") int poolSize,
+                                                       @Value("${async.event-publish.queue-capacity:1000}") int queueCapacity) {
+        return boundedExecutor("eventPublish", "event-publish-", poolSize, queueCapacity);
+    }
+
+    /**
+     * 고객 SSE 알림 발행
+     */
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationExecutor(@Value("${async.notification.pool-size:4}") int poolSize,
+                                                       @Value("${async.notification.queue-capacity:500}") int queueCapacity) {
+        return boundedExecutor("notification", "notification-", poolSize, queueCapacity);
+    }
+
+    /**
+     * 통계 적재/재구성처럼 오래 걸리는 주기 작업, 스케줄러 스레드를 붙잡지 않도록 넘겨받아 한 번에 하나씩 실행한다.
+     */
+    @Bean(name = STATISTICS_EXECUTOR)
+    public ThreadPoolTaskExecutor statisticsExecutor(@Value("${async.statistics.pool-size:1}") int poolSize,
+                                                     @Value("${async.statistics.queue-capacity:10}") int queueCapacity) {
+        return boundedExecutor("statistics", "statistics-", poolSize, queueCapacity);
+    }
+
+    /**
+     * 조회 응답에 붙일 상품/회원 정보를 가져오는 Feign 호출
+     */
+    @Bean(name = ENRICHMENT_EXECUTOR)
+    public ThreadPoolTaskExecutor enrichmentExecutor(@Value("${async.enrichment.pool-size:16}") int poolSize,
+                                                     @Value("${async.enrichment.queue-capacity:64}") int queueCapacity) {
+        return boundedExecutor("enrichment", "enrichment-", poolSize, queueCapacity);
+    }
+
+    /**
+     * 주문 내보내기(StreamingResponseBody) 응답 쓰기, 요청 하나가 스레드 하나를 오래 점유한다.
+     */
+    @Bean(name = MVC_EXPORT_EXECUTOR)
+    public ThreadPoolTaskExecutor mvcExportExecutor(@Value("${async.mvc-export.pool-size:4}") int poolSize,
+                                                    @Value("${async.mvc-export.queue-capacity:8}") int queueCapacity) {
+        return boundedExecutor("mvcExport", "mvc-export-", poolSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * SSE(Flux) 이벤트 쓰기, 연결마다 짧은 쓰기 작업이 자주 제출된다.
+     * 거절된 연결은 종료되고, 클라이언트는 Last-Event-ID로 다시 연결해 놓친 이벤트를 받는다.
+     */
+    @Bean(name = MVC_STREAM_EXECUTOR)
+    public ThreadPoolTaskExecutor mvcStreamExecutor(@Value("${async.mvc-stream.pool-size:16}") int poolSize,
+                                                    @Value("${async.mvc-stream.queue-capacity:2000}") int queueCapacity) {
+        return boundedExecutor("mvcStream", "mvc-stream-", poolSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String name, String threadNamePrefix, int poolSize, int queueCapacity) {
+        return boundedExecutor(name, threadNamePrefix, poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String name, String threadNamePrefix, int poolSize, int queueCapacity,
+                                                   RejectedExecutionHandler rejectedExecutionHandler) {
+        Counter rejected = meterRegistry.counter("executor.rejected", "name", name);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setVirtualThreads(virtualThreadsEnabled);
+        executor.setTaskDecorator(userContextTaskDecorator);
+        executor.setRejectedExecutionHandler((runnable, threadPoolExecutor) -> {
+            rejected.increment();
+            rejectedExecutionHandler.rejectedExecution(runnable, threadPoolExecutor);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -0,0 +1,52 @@
+package com.yeonieum.orderservice.global.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 테이블 기반 pooled-lo ID 할당 설정
+ * IDENTITY 전략은 INSERT 마다 키를 돌려받아야 해서 JDBC 배치가 꺼지므로,
+ * 대량 저장이 일어나는 엔티티는 id_generator 테이블에서 ALLOCATION_SIZE 단위로 ID 를 미리 할당받는다.
+ * 기동 시 각 시퀀스가 기존 테이블의 최대 ID 보다 크도록 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorConfig {
+    public static final String TABLE_NAME = "id_generator";
+    public static final String SEQUENCE_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    // 시퀀스 이름(테이블명) -> ID 컬럼
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "release_table", "release_id",
+            "delivery", "delivery_id",
+            "packaging", "packaging_id",
+            "payment_information", "payment_information_id",
+            "statistics", "statistics_id",
+            "regular_delivery_reservation", "regular_delivery_reservation_id",
+            "regular_delivery_application_day", "regular_delivery_application_day_id",
+            "regular_delivery_application_product", "regular_delivery_application_product_id"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    // 스키마 생성/갱신이 끝난 뒤 실행되도록 EntityManagerFactory 초기화 이후로 순서를 맞춘다.
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void initialize() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " (" +
+                SEQUENCE_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, " + VALUE_COLUMN + " BIGINT)");
+
+        SEQUENCES.forEach((tableName, idColumn) -> jdbcTemplate.update(
+                "INSERT INTO " + TABLE_NAME + " (" + SEQUENCE_COLUMN + ", " + VALUE_COLUMN + ") " +
+                        "SELECT ?, COALESCE(MAX(" + idColumn + "), 0) + 1 FROM " + tableName + " " +
+                        "ON DUPLICATE KEY UPDATE " + VALUE_COLUMN + " = GREATEST(" + VALUE_COLUMN + ", VALUES(" + VALUE_COLUMN + "))",
+                tableName));
+    }
+}
@@ -0,0 +1,54 @@
+package com.yeonieum.orderservice.global.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+/**
+ * MVC 비동기 요청 실행기
+ * 오래 걸리는 내보내기 응답과 SSE 이벤트 쓰기가 서로의 스레드를 빼앗지 않도록 작업을 두 실행기로 나눈다.
+ * 요청 스레드에서 {@link #useExportExecutor()}를 호출한 요청의 작업만 내보내기 실행기로 보내고, 나머지는 스트림 실행기로 보낸다.
+ * SSE 이벤트 쓰기는 요청 정보가 없는 Reactor/Redis 리스너 스레드에서 제출되므로 항상 스트림 실행기로 간다.
+ */
+@RequiredArgsConstructor
+public class MvcAsyncTaskExecutor implements AsyncTaskExecutor {
+    private static final String EXPORT_ATTRIBUTE = MvcAsyncTaskExecutor.class.getName() + ".EXPORT";
+
+    private final AsyncTaskExecutor exportExecutor;
+    private final AsyncTaskExecutor streamExecutor;
+
+    /**
+     * 현재 요청의 비동기 응답을 내보내기 실행기에서 처리하도록 표시
+     * 컨트롤러에서 StreamingResponseBody를 반환하기 전에 호출한다.
+     */
+    public static void useExportExecutor() {
+        RequestContextHolder.currentRequestAttributes().setAttribute(EXPORT_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        select().execute(task);
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return select().submit(task);
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        return select().submit(task);
+    }
+
+    private AsyncTaskExecutor select() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null && requestAttributes.getAttribute(EXPORT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return exportExecutor;
+        }
+        return streamExecutor;
+    }
+}
@@ -1,8 +1,11 @@
 package com.yeonieum.orderservice.global.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.CacheControl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -11,6 +14,23 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class MvcConfig implements WebMvcConfigurer {
     @Value("${cors.allowed.origin}")
     private String CORS_ALLOWED_ORIGIN;
+    private final ThreadPoolTaskExecutor mvcExportExecutor;
+    private final ThreadPoolTaskExecutor mvcStreamExecutor;
+
+    public MvcConfig(@Qualifier(AsyncConfig.MVC_EXPORT_EXECUTOR) ThreadPoolTaskExecutor mvcExportExecutor,
+                     @Qualifier(AsyncConfig.MVC_STREAM_EXECUTOR) ThreadPoolTaskExecutor mvcStreamExecutor) {
+        this.mvcExportExecutor = mvcExportExecutor;
+        this.mvcStreamExecutor = mvcStreamExecutor;
+    }
+
+    /**
+     * MVC 비동기 요청은 기본 @Async 실행기 대신 내보내기/SSE 전용 실행기를 사용
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new MvcAsyncTaskExecutor(mvcExportExecutor, mvcStreamExecutor));
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
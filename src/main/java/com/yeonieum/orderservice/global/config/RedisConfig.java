@@ -3,6 +3,7 @@ package com.yeonieum.orderservice.global.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
@@ -43,10 +44,19 @@ public class RedisConfig {
         return orderEventRedisTemplate;
     }
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
         final RedisMessageListenerContainer redisMessageListenerContainer = new RedisMessageListenerContainer();
         redisMessageListenerContainer.setConnectionFactory(redisConnectionFactory);
+        if (virtualThreadsEnabled) {
+            // 가상 스레드 모드에서는 수신한 메시지를 가상 스레드에서 처리
+            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("redis-listener-");
+            taskExecutor.setVirtualThreads(true);
+            redisMessageListenerContainer.setTaskExecutor(taskExecutor);
+        }
         return redisMessageListenerContainer;
     }
 }
@@ -0,0 +1,15 @@
+package com.yeonieum.orderservice.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 설정
+ * 스케줄러 풀 크기는 spring.task.scheduling.pool.size로 정한다. 기본값(1)이면 SSE 알림 flush, 문자 발송 역압 확인처럼
+ * 짧은 주기의 작업이 일괄 작업 조회, 예약 생성 같은 DB 작업 뒤에서 밀리므로 작업 수에 맞춰 늘려 둔다.
+ * 오래 걸리는 통계 작업은 통계 실행기에 넘기므로 스케줄러 스레드를 붙잡지 않는다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
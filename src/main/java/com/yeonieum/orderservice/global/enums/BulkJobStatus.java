@@ -0,0 +1,8 @@
+package com.yeonieum.orderservice.global.enums;
+
+public enum BulkJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.yeonieum.orderservice.global.enums;
+
+public enum BulkJobType {
+    ORDER_STATUS,
+    RELEASE_STATUS,
+    COMBINED_PACKAGING
+}
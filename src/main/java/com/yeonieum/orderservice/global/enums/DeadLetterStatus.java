@@ -0,0 +1,6 @@
+package com.yeonieum.orderservice.global.enums;
+
+public enum DeadLetterStatus {
+    DEAD,
+    REPLAYED
+}
@@ -0,0 +1,65 @@
+package com.yeonieum.orderservice.global.responses;
+
+import com.yeonieum.orderservice.global.exceptions.exception.CustomException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 부분 성공을 허용하는 일괄 처리 결과
+ * 커밋된 항목(succeeded), 상태 전이가 허용되지 않아 건너뛴 항목(skipped), 처리 중 실패한 항목(failed)을 구분한다.
+ * @param <T> 커밋된 항목의 타입
+ */
+@Getter
+public class BulkProcessResult<T> {
+    private final List<T> succeeded = new ArrayList<>();
+    private final List<Item> skipped = new ArrayList<>();
+    private final List<Item> failed = new ArrayList<>();
+
+    public void succeed(T item) {
+        succeeded.add(item);
+    }
+
+    public void skip(String id, String reason) {
+        skipped.add(new Item(id, reason));
+    }
+
+    public void fail(String id, String reason) {
+        failed.add(new Item(id, reason));
+    }
+
+    public void fail(String id, RuntimeException exception) {
+        fail(id, reasonOf(exception));
+    }
+
+    public void merge(BulkProcessResult<T> other) {
+        succeeded.addAll(other.succeeded);
+        skipped.addAll(other.skipped);
+        failed.addAll(other.failed);
+    }
+
+    public <R> BulkProcessResult<R> mapSucceeded(Function<T, R> mapper) {
+        BulkProcessResult<R> mapped = new BulkProcessResult<>();
+        succeeded.forEach(item -> mapped.succeed(mapper.apply(item)));
+        mapped.skipped.addAll(skipped);
+        mapped.failed.addAll(failed);
+        return mapped;
+    }
+
+    public static String reasonOf(RuntimeException exception) {
+        if (exception instanceof CustomException customException) {
+            return customException.getCustomCode().getMessage();
+        }
+        return exception.getMessage();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        String id;
+        String reason;
+    }
+}
@@ -2,27 +2,87 @@ package com.yeonieum.orderservice.global.usercontext;
 
 import org.springframework.util.Assert;
 
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * 요청 사용자 정보 보관소
+ * 사용자 정보는 open()으로 연 범위 안에서만 유효하며, 범위를 닫으면 이전 값으로 되돌린다.
+ * 다른 스레드(가상 스레드 포함)로 작업을 넘길 때는 wrap()으로 현재 사용자 정보를 함께 넘긴다.
+ * 저장소는 ThreadLocal이지만 값이 범위 밖으로 남지 않으므로, 풀에서 재사용되는 스레드와 작업마다 새로 만드는 가상 스레드 모두에서 안전하다.
+ * (ScopedValue가 정식 API가 되면 open/wrap의 구현만 바꾸면 된다.)
+ */
 public class UserContextHolder {
     private static final ThreadLocal<UserContext> userContext = new ThreadLocal<>();
+    private static final UserContext EMPTY_CONTEXT = new UserContext();
 
+    /**
+     * 현재 범위의 사용자 정보, 범위 밖이면 빈 사용자 정보
+     */
     public static final UserContext getContext() {
         UserContext context = userContext.get();
+        return context != null ? context : EMPTY_CONTEXT;
+    }
 
-        if (context == null) {
-            context = createEmptyContext();
-            userContext.set(context);
-        }
+    /**
+     * 사용자 정보를 바인딩한 범위를 연다.
+     * try-with-resources로 사용하며, 닫으면 열기 전의 사용자 정보로 되돌린다.
+     */
+    public static Scope open(UserContext context) {
+        Assert.notNull(context, "null인 UserContext 객체를 설정할 수 없습니다.");
+        UserContext previous = userContext.get();
+        userContext.set(context);
+        return new Scope(previous);
+    }
 
-        return context;
+    /**
+     * 현재 사용자 정보를 잡아 두었다가 실행 시점에 바인딩하는 작업으로 감싼다.
+     */
+    public static Runnable wrap(Runnable task) {
+        UserContext captured = getContext();
+        return () -> {
+            try (Scope scope = open(captured)) {
+                task.run();
+            }
+        };
     }
 
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        UserContext captured = getContext();
+        return () -> {
+            try (Scope scope = open(captured)) {
+                return task.get();
+            }
+        };
+    }
 
-    public static void setContext(UserContext context) {
-        Assert.notNull(context, "null인 UserContext 객체를 설정할 수 없습니다.");
-        userContext.set(context);
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        UserContext captured = getContext();
+        return () -> {
+            try (Scope scope = open(captured)) {
+                return task.call();
+            }
+        };
     }
 
     public static final UserContext createEmptyContext() {
         return new UserContext();
     }
+
+    public static final class Scope implements AutoCloseable {
+        private final UserContext previous;
+
+        private Scope(UserContext previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous != null) {
+                userContext.set(previous);
+            } else {
+                userContext.remove();
+            }
+        }
+    }
 }
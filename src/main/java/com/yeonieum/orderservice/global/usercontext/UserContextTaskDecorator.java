@@ -0,0 +1,16 @@
+package com.yeonieum.orderservice.global.usercontext;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 작업에 작업을 제출한 스레드의 사용자 정보를 넘겨준다.
+ * 실행 스레드에는 작업이 도는 동안만 바인딩되고 끝나면 해제되므로, 풀의 스레드에 이전 요청의 사용자 정보가 남지 않는다.
+ */
+@Component
+public class UserContextTaskDecorator implements TaskDecorator {
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return UserContextHolder.wrap(runnable);
+    }
+}
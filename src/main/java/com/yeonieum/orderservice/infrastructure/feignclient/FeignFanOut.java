@@ -0,0 +1,43 @@
+package com.yeonieum.orderservice.infrastructure.feignclient;
+
+import com.yeonieum.orderservice.global.config.AsyncConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 서로 독립적인 Feign 호출을 동시에 수행한다.
+ * 호출은 enrichment 실행기에서 실행되며, 요청 헤더로 전달되는 사용자 정보는 실행기의 TaskDecorator가 넘겨준다.
+ * 실행기가 가득 차면 호출한 스레드가 직접 실행하므로 순차 호출로 되돌아갈 뿐 요청이 실패하지는 않는다.
+ * await()는 호출에서 발생한 예외를 그대로 다시 던지므로 호출부는 기존처럼 FeignException을 잡으면 된다.
+ */
+@Component
+public class FeignFanOut {
+    private final ThreadPoolTaskExecutor executor;
+
+    public FeignFanOut(@Qualifier(AsyncConfig.ENRICHMENT_EXECUTOR) ThreadPoolTaskExecutor executor) {
+        this.executor = executor;
+    }
+
+    public <T> CompletableFuture<T> call(Supplier<T> feignCall) {
+        return CompletableFuture.supplyAsync(feignCall, executor);
+    }
+
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
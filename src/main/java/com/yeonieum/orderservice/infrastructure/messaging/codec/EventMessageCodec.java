@@ -0,0 +1,113 @@
+package com.yeonieum.orderservice.infrastructure.messaging.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yeonieum.orderservice.infrastructure.messaging.dto.OrderEventMessage;
+import com.yeonieum.orderservice.infrastructure.messaging.dto.RegularDeliveryEventMessage;
+import com.yeonieum.orderservice.infrastructure.messaging.dto.ShippedEventMessage;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.reflect.ReflectData;
+import org.apache.avro.reflect.ReflectDatumReader;
+import org.apache.avro.reflect.ReflectDatumWriter;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트 메시지 직렬화기
+ * messaging.serialization.format 설정에 따라 JSON 또는 Avro 바이너리로 직렬화하고, content-type과 스키마 ID를 헤더로 함께 보낸다.
+ * 읽을 때는 헤더를 보고 형식을 고르므로, 발행 형식을 바꾸는 동안 두 형식의 메시지가 섞여 있어도 소비할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventMessageCodec {
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+    public static final String SCHEMA_ID_HEADER = "x-schema-id";
+    public static final String SHIPPED_EVENT_BATCH_SUBJECT = "shipped-event-batch";
+
+    private static final Map<Class<?>, String> SUBJECT_BY_TYPE = Map.of(
+            OrderEventMessage.class, "order-event-message",
+            RegularDeliveryEventMessage.class, "regular-delivery-event-message");
+
+    private final ObjectMapper objectMapper;
+    private final LocalSchemaRegistry localSchemaRegistry;
+
+    @Value("${messaging.serialization.format:json}")
+    private EventSerializationFormat format;
+
+    public Encoded encode(Object message) throws JsonProcessingException {
+        return encode(SUBJECT_BY_TYPE.get(message.getClass()), message);
+    }
+
+    public Encoded encodeShippedEvents(List<ShippedEventMessage> shippedEventMessages) throws JsonProcessingException {
+        return encode(SHIPPED_EVENT_BATCH_SUBJECT, shippedEventMessages);
+    }
+
+    private Encoded encode(String subject, Object message) throws JsonProcessingException {
+        if (format == EventSerializationFormat.JSON) {
+            return new Encoded(objectMapper.writeValueAsBytes(message), EventSerializationFormat.JSON.getContentType(), null);
+        }
+
+        String schemaId = localSchemaRegistry.latestSchemaId(subject);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(outputStream, null);
+        try {
+            new ReflectDatumWriter<>(localSchemaRegistry.getSchema(schemaId), ReflectData.get()).write(message, encoder);
+            encoder.flush();
+        } catch (IOException e) {
+            // 메모리 버퍼에 쓰므로 발생하지 않음
+            throw new UncheckedIOException(e);
+        }
+        return new Encoded(outputStream.toByteArray(), EventSerializationFormat.AVRO.getContentType(), schemaId);
+    }
+
+    public <T> T decode(byte[] payload, Headers headers, Class<T> type) throws IOException {
+        if (formatOf(headers) == EventSerializationFormat.JSON) {
+            return objectMapper.readValue(payload, type);
+        }
+
+        Schema writerSchema = localSchemaRegistry.getSchema(headerValue(headers, SCHEMA_ID_HEADER));
+        Schema readerSchema = localSchemaRegistry.getSchema(localSchemaRegistry.latestSchemaId(SUBJECT_BY_TYPE.get(type)));
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(payload, null);
+        return new ReflectDatumReader<T>(writerSchema, readerSchema, ReflectData.get()).read(null, decoder);
+    }
+
+    /**
+     * 재시도 토픽과 dead letter에 남길 수 있도록 원본 메시지를 문자열로 바꾼다. Avro 메시지는 Base64로 인코딩한다.
+     */
+    public String toText(byte[] payload, Headers headers) {
+        return formatOf(headers) == EventSerializationFormat.JSON
+                ? new String(payload, StandardCharsets.UTF_8)
+                : Base64.getEncoder().encodeToString(payload);
+    }
+
+    public boolean isJson(Headers headers) {
+        return formatOf(headers) == EventSerializationFormat.JSON;
+    }
+
+    private EventSerializationFormat formatOf(Headers headers) {
+        return EventSerializationFormat.fromContentType(headerValue(headers, CONTENT_TYPE_HEADER));
+    }
+
+    private String headerValue(Headers headers, String headerName) {
+        Header header = headers.lastHeader(headerName);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    public record Encoded(byte[] payload, String contentType, String schemaId) {
+    }
+}
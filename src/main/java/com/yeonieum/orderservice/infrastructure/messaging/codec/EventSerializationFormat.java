@@ -0,0 +1,20 @@
+package com.yeonieum.orderservice.infrastructure.messaging.codec;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum EventSerializationFormat {
+    JSON("application/json"),
+    AVRO("application/avro");
+
+    private final String contentType;
+
+    /**
+     * content-type 헤더 값으로 형식을 찾는다. 헤더가 없던 이전 메시지는 JSON으로 본다.
+     */
+    public static EventSerializationFormat fromContentType(String contentType) {
+        return AVRO.contentType.equals(contentType) ? AVRO : JSON;
+    }
+}
@@ -0,0 +1,63 @@
+package com.yeonieum.orderservice.infrastructure.messaging.codec;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 파일 기반 스키마 레지스트리
+ * classpath:avro/{subject}.v{version}.avsc 파일을 읽어 스키마 ID({subject}.v{version})로 등록한다.
+ * 발행할 때는 subject의 최신 버전을 쓰고, 소비할 때는 헤더의 스키마 ID로 쓰기 스키마를 찾아 최신 버전으로 변환해 읽는다.
+ */
+@Slf4j
+@Component
+public class LocalSchemaRegistry {
+    private static final String SCHEMA_LOCATION = "classpath:avro/*.avsc";
+
+    private final Map<String, Schema> schemasById = new HashMap<>();
+    private final Map<String, String> latestSchemaIdBySubject = new HashMap<>();
+
+    @PostConstruct
+    public void load() throws IOException {
+        Map<String, Integer> latestVersionBySubject = new HashMap<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(SCHEMA_LOCATION)) {
+            String schemaId = resource.getFilename().substring(0, resource.getFilename().length() - ".avsc".length());
+            int versionIndex = schemaId.lastIndexOf(".v");
+            String subject = schemaId.substring(0, versionIndex);
+            int version = Integer.parseInt(schemaId.substring(versionIndex + 2));
+
+            try (InputStream inputStream = resource.getInputStream()) {
+                schemasById.put(schemaId, new Schema.Parser().parse(inputStream));
+            }
+            if (version > latestVersionBySubject.getOrDefault(subject, 0)) {
+                latestVersionBySubject.put(subject, version);
+                latestSchemaIdBySubject.put(subject, schemaId);
+            }
+        }
+        log.info("Avro 스키마 {}개 등록: {}", schemasById.size(), schemasById.keySet());
+    }
+
+    public String latestSchemaId(String subject) {
+        String schemaId = latestSchemaIdBySubject.get(subject);
+        if (schemaId == null) {
+            throw new IllegalStateException("등록되지 않은 스키마 subject입니다: " + subject);
+        }
+        return schemaId;
+    }
+
+    public Schema getSchema(String schemaId) {
+        Schema schema = schemasById.get(schemaId);
+        if (schema == null) {
+            throw new IllegalStateException("등록되지 않은 스키마 ID입니다: " + schemaId);
+        }
+        return schema;
+    }
+}
@@ -3,6 +3,7 @@ package com.yeonieum.orderservice.infrastructure.messaging.consumer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yeonieum.orderservice.domain.notification.service.OrderNotificationServiceForMember;
+import com.yeonieum.orderservice.domain.order.dto.response.OrderResponse;
 import com.yeonieum.orderservice.domain.order.entity.OrderDetail;
 import com.yeonieum.orderservice.domain.order.repository.OrderDetailRepository;
 import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplication;
@@ -10,24 +11,41 @@ import com.yeonieum.orderservice.domain.regularorder.repository.RegularDeliveryA
 import com.yeonieum.orderservice.global.responses.ApiResponse;
 import com.yeonieum.orderservice.infrastructure.feignclient.MemberServiceFeignClient;
 import com.yeonieum.orderservice.infrastructure.feignclient.ProductServiceFeignClient;
-import com.yeonieum.orderservice.infrastructure.feignclient.dto.response.RetrieveMemberSummary;
 import com.yeonieum.orderservice.infrastructure.feignclient.dto.response.RetrieveOrderInformationResponse;
+import com.yeonieum.orderservice.infrastructure.messaging.codec.EventMessageCodec;
+import com.yeonieum.orderservice.infrastructure.messaging.dedup.NotificationDeduplicator;
 import com.yeonieum.orderservice.infrastructure.messaging.dto.OrderEventMessage;
 import com.yeonieum.orderservice.infrastructure.messaging.dto.OrderNotificationMessage;
 import com.yeonieum.orderservice.infrastructure.messaging.dto.RegularDeliveryEventMessage;
 import com.yeonieum.orderservice.infrastructure.messaging.dto.RegularDeliveryNotificationMessage;
 import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import net.nurigo.sdk.message.exception.NurigoEmptyResponseException;
-import net.nurigo.sdk.message.exception.NurigoMessageNotReceivedException;
-import net.nurigo.sdk.message.exception.NurigoUnknownException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.http.ResponseEntity;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+/**
+ * 주문/정기주문 알림 이벤트 소비자
+ * poll 한 번에 받은 레코드를 묶어서 처리한다. 주문/회원/상품 정보는 batch 단위로 한 번씩 일괄 조회하고,
+ * 문자는 발송 디스패처의 대기열에 넣고, batch의 모든 발송 결과가 나온 뒤 리스너가 반환되므로 offset은 그 이후에 커밋된다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationKafkaConsumer {
@@ -37,114 +55,355 @@ public class NotificationKafkaConsumer {
     private final MemberServiceFeignClient memberServiceFeignClient;
     private final ProductServiceFeignClient productServiceFeignClient;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final EventMessageCodec eventMessageCodec;
+    private final NotificationDeduplicator notificationDeduplicator;
 
     // Kafka Consumer를 이용하여 메시지를 받아 처리합니다.
-    @KafkaListener(id = "order-notification-consumer", topics = "order-notification-topic", groupId = "order-notification-group", autoStartup = "true")
-    public void listenOrderEventTopic(@Payload String message) {
+    @KafkaListener(id = "order-notification-consumer", topics = "order-notification-topic", groupId = "order-notification-group",
+            containerFactory = "batchKafkaListenerContainerFactory", autoStartup = "true")
+    public void listenOrderEventTopic(List<ConsumerRecord<String, byte[]>> records) {
+        List<Prepared<OrderNotificationMessage>> failures = new ArrayList<>();
+        List<Parsed<OrderEventMessage>> parsed = timed("order", "deserialize", () -> deserialize(records, OrderEventMessage.class, failures));
+        List<Parsed<OrderEventMessage>> orderEvents = timed("order", "dedup", () -> suppressDuplicates("order", parsed,
+                orderEvent -> NotificationDeduplicator.keyOf(orderEvent.getEventId(), orderEvent.getEventType())));
+        List<Prepared<OrderNotificationMessage>> prepared = timed("order", "enrich", () -> orderNotificationMessageBuilder(orderEvents));
+        prepared.addAll(failures);
+
+        timed("order", "dispatch", () -> dispatch(prepared, orderNotificationServiceForMember::sendOrderMessage, NotificationRetryConsumer.ORDER_RETRY_TOPIC));
+    }
+
+    @KafkaListener(id = "regular-order-notification-consumer", topics = "regular-notification-topic", groupId = "order-notification-group",
+            containerFactory = "batchKafkaListenerContainerFactory", autoStartup = "true")
+    public void listenRegularOrderEventTopic(List<ConsumerRecord<String, byte[]>> records) {
+        List<Prepared<RegularDeliveryNotificationMessage>> failures = new ArrayList<>();
+        List<Parsed<RegularDeliveryEventMessage>> parsed = timed("regular", "deserialize", () -> deserialize(records, RegularDeliveryEventMessage.class, failures));
+        List<Parsed<RegularDeliveryEventMessage>> regularDeliveryEvents = timed("regular", "dedup", () -> suppressDuplicates("regular", parsed,
+                regularDeliveryEvent -> NotificationDeduplicator.keyOf(regularDeliveryEvent.getEventId(), regularDeliveryEvent.getEventType())));
+        List<Prepared<RegularDeliveryNotificationMessage>> prepared = timed("regular", "enrich", () -> regularOrderNotificationMessageBuilder(regularDeliveryEvents));
+        prepared.addAll(failures);
+
+        timed("regular", "dispatch", () -> dispatch(prepared, orderNotificationServiceForMember::sendRegularOrderMessage, NotificationRetryConsumer.REGULAR_RETRY_TOPIC));
+    }
+
+    /**
+     * 재시도 토픽에서 받은 주문 이벤트 한 건을 처리
+     * 실패하면 예외를 그대로 던져 다음 재시도 단계 또는 dead letter 토픽으로 넘어가게 한다.
+     */
+    public void sendOrderNotification(String message) throws Exception {
+        List<Prepared<OrderNotificationMessage>> prepared = new ArrayList<>();
+        prepared.addAll(orderNotificationMessageBuilder(suppressDuplicates("order-retry", deserialize(message, OrderEventMessage.class, prepared),
+                orderEvent -> NotificationDeduplicator.keyOf(orderEvent.getEventId(), orderEvent.getEventType()))));
+        if (prepared.isEmpty()) {
+            return;
+        }
+        Prepared<OrderNotificationMessage> orderNotification = prepared.get(0);
+        if (orderNotification.failure() != null) {
+            throw orderNotification.failure();
+        }
+        awaitSent(orderNotificationServiceForMember.sendOrderMessage(orderNotification.notificationMessage()));
+        notificationDeduplicator.markProcessed(Collections.singletonList(orderNotification.eventKey()));
+    }
+
+    /**
+     * 재시도 토픽에서 받은 정기주문 이벤트 한 건을 처리
+     * 실패하면 예외를 그대로 던져 다음 재시도 단계 또는 dead letter 토픽으로 넘어가게 한다.
+     */
+    public void sendRegularOrderNotification(String message) throws Exception {
+        List<Prepared<RegularDeliveryNotificationMessage>> prepared = new ArrayList<>();
+        prepared.addAll(regularOrderNotificationMessageBuilder(suppressDuplicates("regular-retry", deserialize(message, RegularDeliveryEventMessage.class, prepared),
+                regularDeliveryEvent -> NotificationDeduplicator.keyOf(regularDeliveryEvent.getEventId(), regularDeliveryEvent.getEventType()))));
+        if (prepared.isEmpty()) {
+            return;
+        }
+        Prepared<RegularDeliveryNotificationMessage> regularNotification = prepared.get(0);
+        if (regularNotification.failure() != null) {
+            throw regularNotification.failure();
+        }
+        awaitSent(orderNotificationServiceForMember.sendRegularOrderMessage(regularNotification.notificationMessage()));
+        notificationDeduplicator.markProcessed(Collections.singletonList(regularNotification.eventKey()));
+    }
+
+    private void awaitSent(CompletableFuture<Void> sending) throws Exception {
         try {
-            OrderEventMessage orderEventMessage = objectMapper.readValue(message, OrderEventMessage.class);
-            OrderNotificationMessage orderNotificationMessage = orderNotificationMessageBuilder(
-                    orderEventMessage.getMemberId(),
-                    orderEventMessage.getOrderDetailId(),
-                    orderEventMessage.getEventType()
-            );
-            if(orderNotificationMessage.getPhoneNumber() != null && orderNotificationMessage.getOrderNumber() != null
-            && orderNotificationMessage.getProductName() != null && orderNotificationMessage.getMemberName() != null) {
-                orderNotificationServiceForMember.sendOrderMessage(orderNotificationMessage);
+            sending.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    /**
+     * batch에 포함된 주문 이벤트의 알림 메시지를 생성
+     * v2 이벤트에 담긴 주문 요약과 회원 정보는 그대로 사용하고, 비어 있는 항목만 batch 단위로 한 번씩 일괄 조회한다.
+     * 메시지를 만들 수 없는 이벤트는 실패 사유와 함께 반환해 재시도 토픽으로 넘긴다.
+     */
+    public List<Prepared<OrderNotificationMessage>> orderNotificationMessageBuilder(List<Parsed<OrderEventMessage>> orderEvents) {
+        List<Prepared<OrderNotificationMessage>> prepared = new ArrayList<>(orderEvents.size());
+        if (orderEvents.isEmpty()) {
+            return prepared;
+        }
+
+        Map<String, OrderDetail> orderDetailMap = orderDetailRepository.findAllById(orderEvents.stream()
+                        .map(Parsed::event)
+                        .filter(orderEvent -> !orderEvent.hasOrderSummary())
+                        .map(OrderEventMessage::getOrderDetailId).distinct().collect(Collectors.toList()))
+                .stream().collect(Collectors.toMap(OrderDetail::getOrderDetailId, orderDetail -> orderDetail));
+        Map<String, OrderResponse.MemberInfo> memberMap = retrieveMemberMap(orderEvents.stream()
+                .map(Parsed::event)
+                .filter(orderEvent -> !orderEvent.hasMemberInfo())
+                .map(OrderEventMessage::getMemberId).distinct().collect(Collectors.toList()));
+        Map<Long, RetrieveOrderInformationResponse> productMap = retrieveProductMap(orderDetailMap.values().stream()
+                .map(OrderDetail::getMainProductId).distinct().collect(Collectors.toList()));
+
+        for (Parsed<OrderEventMessage> orderEvent : orderEvents) {
+            OrderEventMessage orderEventMessage = orderEvent.event();
+
+            String productName = orderEventMessage.getMainProductName();
+            Integer productCount = orderEventMessage.getProductCount();
+            if (!orderEventMessage.hasOrderSummary()) {
+                OrderDetail orderDetail = orderDetailMap.get(orderEventMessage.getOrderDetailId());
+                if (orderDetail == null) {
+                    prepared.add(Prepared.failed(orderEvent.rawMessage(), "주문 정보를 찾을 수 없습니다: " + orderEventMessage.getOrderDetailId()));
+                    continue;
+                }
+                RetrieveOrderInformationResponse productInformation = productMap.get(orderDetail.getMainProductId());
+                if (productInformation == null) {
+                    prepared.add(Prepared.failed(orderEvent.rawMessage(), "상품 정보를 조회하지 못했습니다: " + orderDetail.getMainProductId()));
+                    continue;
+                }
+                productName = productInformation.getProductName();
+                productCount = orderDetail.getOrderList().getProductOrderEntityList().size();
             }
-        } catch (JsonProcessingException e) {
-            // 무시
-        } catch (NurigoMessageNotReceivedException | NurigoEmptyResponseException |  NurigoUnknownException e) {
-            // 문자인증 실패
+
+            String memberName = orderEventMessage.getMemberName();
+            String memberPhoneNumber = orderEventMessage.getMemberPhoneNumber();
+            if (!orderEventMessage.hasMemberInfo()) {
+                OrderResponse.MemberInfo memberInfo = memberMap.get(orderEventMessage.getMemberId());
+                if (memberInfo == null) {
+                    prepared.add(Prepared.failed(orderEvent.rawMessage(), "회원 정보를 조회하지 못했습니다: " + orderEventMessage.getMemberId()));
+                    continue;
+                }
+                memberName = memberInfo.getMemberName();
+                memberPhoneNumber = memberInfo.getMemberPhoneNumber();
+            }
+
+            if (memberPhoneNumber == null || productName == null || memberName == null) {
+                prepared.add(Prepared.failed(orderEvent.rawMessage(), "알림에 필요한 회원/상품 정보가 없습니다: " + orderEventMessage.getOrderDetailId()));
+                continue;
+            }
+            prepared.add(new Prepared<>(orderEvent.rawMessage(), NotificationDeduplicator.keyOf(orderEventMessage.getEventId(), orderEventMessage.getEventType()), OrderNotificationMessage.builder()
+                    .orderNumber(orderEventMessage.getOrderDetailId())
+                    .memberName(memberName)
+                    .productName(productName)
+                    .productCount(productCount)
+                    .eventType(orderEventMessage.getEventType())
+                    .phoneNumber(memberPhoneNumber)
+                    .build(), null));
         }
+        return prepared;
     }
 
-    @KafkaListener(id = "regular-order-notification-consumer", topics = "regular-notification-topic", groupId = "order-notification-group", autoStartup = "true")
-    public void listenRegularOrderEventTopic(@Payload String message) {
-        try {
+    /**
+     * batch에 포함된 정기주문 이벤트의 알림 메시지를 생성
+     * 메시지를 만들 수 없는 이벤트는 실패 사유와 함께 반환해 재시도 토픽으로 넘긴다.
+     */
+    public List<Prepared<RegularDeliveryNotificationMessage>> regularOrderNotificationMessageBuilder(List<Parsed<RegularDeliveryEventMessage>> regularDeliveryEvents) {
+        List<Prepared<RegularDeliveryNotificationMessage>> prepared = new ArrayList<>(regularDeliveryEvents.size());
+        if (regularDeliveryEvents.isEmpty()) {
+            return prepared;
+        }
 
-            RegularDeliveryEventMessage regularDeliveryEventMessage = objectMapper.readValue(message, RegularDeliveryEventMessage.class);
-            RegularDeliveryNotificationMessage regularDeliveryNotificationMessage = regularOrderNotificationMessageBuilder(
-                    regularDeliveryEventMessage.getMemberId(),
-                    regularDeliveryEventMessage.getRegularDeliveryId(),
-                    regularDeliveryEventMessage.getEventType()
-            );
+        Map<Long, RegularDeliveryApplication> applicationMap = regularDeliveryApplicationRepository.findAllById(regularDeliveryEvents.stream()
+                        .map(regularDeliveryEvent -> regularDeliveryEvent.event().getRegularDeliveryId()).distinct().collect(Collectors.toList()))
+                .stream().collect(Collectors.toMap(RegularDeliveryApplication::getRegularDeliveryApplicationId, application -> application));
+        Map<String, OrderResponse.MemberInfo> memberMap = retrieveMemberMap(regularDeliveryEvents.stream()
+                .map(regularDeliveryEvent -> regularDeliveryEvent.event().getMemberId()).distinct().collect(Collectors.toList()));
+        Map<Long, RetrieveOrderInformationResponse> productMap = retrieveProductMap(applicationMap.values().stream()
+                .map(RegularDeliveryApplication::getMainProductId).distinct().collect(Collectors.toList()));
 
-            orderNotificationServiceForMember.sendRegularOrderMessage(regularDeliveryNotificationMessage);
-        } catch (JsonProcessingException e) {
-            // 무시
-        } catch (NurigoMessageNotReceivedException | NurigoEmptyResponseException |  NurigoUnknownException e) {
-            // 문자인증 실패
+        for (Parsed<RegularDeliveryEventMessage> regularDeliveryEvent : regularDeliveryEvents) {
+            RegularDeliveryEventMessage regularDeliveryEventMessage = regularDeliveryEvent.event();
+            RegularDeliveryApplication regularDeliveryApplication = applicationMap.get(regularDeliveryEventMessage.getRegularDeliveryId());
+            OrderResponse.MemberInfo memberInfo = memberMap.get(regularDeliveryEventMessage.getMemberId());
+            if (regularDeliveryApplication == null) {
+                prepared.add(Prepared.failed(regularDeliveryEvent.rawMessage(), "정기주문 정보를 찾을 수 없습니다: " + regularDeliveryEventMessage.getRegularDeliveryId()));
+                continue;
+            }
+            if (memberInfo == null) {
+                prepared.add(Prepared.failed(regularDeliveryEvent.rawMessage(), "회원 정보를 조회하지 못했습니다: " + regularDeliveryEventMessage.getMemberId()));
+                continue;
+            }
+            RetrieveOrderInformationResponse productInformation = productMap.get(regularDeliveryApplication.getMainProductId());
+            if (productInformation == null) {
+                prepared.add(Prepared.failed(regularDeliveryEvent.rawMessage(), "상품 정보를 조회하지 못했습니다: " + regularDeliveryApplication.getMainProductId()));
+                continue;
+            }
+            prepared.add(new Prepared<>(regularDeliveryEvent.rawMessage(), NotificationDeduplicator.keyOf(regularDeliveryEventMessage.getEventId(), regularDeliveryEventMessage.getEventType()), RegularDeliveryNotificationMessage.builder()
+                    .productName(productInformation.getProductName())
+                    .productCount(regularDeliveryApplication.getOrderedProductCount())
+                    .completedOrderCount(regularDeliveryApplication.getCompletedRounds())
+                    .memberName(memberInfo.getMemberName())
+                    .address(regularDeliveryApplication.getAddress())
+                    .nextDeliveryDate(regularDeliveryApplication.getNextDeliveryDate())
+                    .eventType(regularDeliveryEventMessage.getEventType())
+                    .phoneNumber(memberInfo.getMemberPhoneNumber())
+                    .build(), null));
+        }
+        return prepared;
+    }
+
+    /**
+     * 헤더의 content-type에 따라 JSON 또는 Avro로 읽는다. 재시도 토픽에는 JSON 문자열로 넘긴다.
+     * 역직렬화에 실패한 메시지는 failures에 담는다. 재시도해도 성공할 수 없으므로 재시도 토픽에서 곧바로 dead letter로 넘어간다.
+     */
+    private <E, N> List<Parsed<E>> deserialize(List<ConsumerRecord<String, byte[]>> records, Class<E> type, List<Prepared<N>> failures) {
+        List<Parsed<E>> parsed = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                E event = eventMessageCodec.decode(record.value(), record.headers(), type);
+                String message = eventMessageCodec.isJson(record.headers())
+                        ? new String(record.value(), StandardCharsets.UTF_8)
+                        : objectMapper.writeValueAsString(event);
+                parsed.add(new Parsed<>(message, event));
+            } catch (IOException | AvroRuntimeException | IllegalStateException e) {
+                failures.add(new Prepared<>(eventMessageCodec.toText(record.value(), record.headers()), null, e));
+            }
         }
+        return parsed;
     }
 
+    private <E, N> List<Parsed<E>> deserialize(String message, Class<E> type, List<Prepared<N>> failures) {
+        try {
+            return new ArrayList<>(List.of(new Parsed<>(message, objectMapper.readValue(message, type))));
+        } catch (JsonProcessingException e) {
+            failures.add(new Prepared<>(message, null, e));
+            return new ArrayList<>();
+        }
+    }
 
-    public OrderNotificationMessage orderNotificationMessageBuilder(String memberId, String orderDetailId, String eventType) {
-        Optional<OrderDetail> orderDetailOptional = orderDetailRepository.findById(orderDetailId);
+    /**
+     * 이미 처리한 이벤트와 같은 batch 안에서 중복된 이벤트를 걸러낸다.
+     */
+    private <E> List<Parsed<E>> suppressDuplicates(String listener, List<Parsed<E>> parsed, Function<E, String> eventKeyOf) {
+        meterRegistry.counter("notification.dedup.events", "listener", listener).increment(parsed.size());
+        Set<String> seenEventKeys = new HashSet<>();
+        List<Parsed<E>> fresh = new ArrayList<>(parsed.size());
+        for (Parsed<E> event : parsed) {
+            String eventKey = eventKeyOf.apply(event.event());
+            if (eventKey != null && (!seenEventKeys.add(eventKey) || notificationDeduplicator.isProcessed(eventKey))) {
+                meterRegistry.counter("notification.dedup.duplicates", "listener", listener).increment();
+                continue;
+            }
+            fresh.add(event);
+        }
+        return fresh;
+    }
 
-        if(orderDetailOptional.isEmpty()) {
-            return null;
+    private Map<String, OrderResponse.MemberInfo> retrieveMemberMap(List<String> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Collections.emptyMap();
         }
-        ResponseEntity<ApiResponse<RetrieveMemberSummary>> memberResponse = null;
-        ResponseEntity<ApiResponse<RetrieveOrderInformationResponse>> productResponse = null;
         try {
-            memberResponse = memberServiceFeignClient.getMemberSummary(memberId);
-            productResponse = productServiceFeignClient.retrieveOrderProductInformation(orderDetailOptional.get().getMainProductId());
+            ResponseEntity<ApiResponse<Map<String, OrderResponse.MemberInfo>>> response = memberServiceFeignClient.getOrderMemberInfo(memberIds);
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody().getResult() != null) {
+                return response.getBody().getResult();
+            }
         } catch (FeignException e) {
             e.printStackTrace();
-            return null;
         }
+        return Collections.emptyMap();
+    }
 
-
-        RetrieveMemberSummary memberSummary = memberResponse.getBody().getResult();
-        RetrieveOrderInformationResponse productInformation = productResponse.getBody().getResult();
-        OrderDetail orderDetail = orderDetailOptional.get();
-        if(memberResponse.getStatusCode().is2xxSuccessful()) {
-            return OrderNotificationMessage.convertedBy(
-                    orderDetail
-                    , productInformation
-                    , memberSummary.getMemberPhoneNumber()
-                    , memberSummary.getMemberName()
-                    , eventType);
+    private Map<Long, RetrieveOrderInformationResponse> retrieveProductMap(List<Long> productIds) {
+        Map<Long, RetrieveOrderInformationResponse> productMap = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return productMap;
         }
+        try {
+            ResponseEntity<ApiResponse<Set<RetrieveOrderInformationResponse>>> response = productServiceFeignClient.retrieveOrderProductInformation(productIds);
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody().getResult() != null) {
+                response.getBody().getResult().forEach(product -> productMap.put(product.getProductId(), product));
+            }
+        } catch (FeignException e) {
+            e.printStackTrace();
+        }
+        return productMap;
+    }
 
-
+    /**
+     * batch의 문자를 모두 발송 대기열에 넣고 결과가 나올 때까지 기다린다.
+     * 메시지를 만들지 못했거나 발송에 실패한 이벤트는 재시도 토픽으로 넘기며, 넘기는 것까지 끝나야 batch가 완료된다.
+     * 따라서 실패한 이벤트가 메인 토픽의 파티션을 막지 않는다.
+     * 재시도 토픽으로 넘기지 못해 예외가 발생해도 발송에 성공한 이벤트는 처리 완료로 기록한다.
+     */
+    private <N> Void dispatch(List<Prepared<N>> prepared, NotificationSender<N> sender, String retryTopic) {
+        List<CompletableFuture<?>> futures = new ArrayList<>(prepared.size());
+        List<String> sentEventKeys = Collections.synchronizedList(new ArrayList<>());
+        try {
+            for (Prepared<N> notification : prepared) {
+                if (notification.failure() != null) {
+                    futures.add(forwardToRetry(retryTopic, notification.rawMessage(), notification.failure()));
+                    continue;
+                }
+                CompletableFuture<Void> sending;
+                try {
+                    sending = sender.send(notification.notificationMessage());
+                } catch (RuntimeException e) {
+                    sending = CompletableFuture.failedFuture(e);
+                }
+                futures.add(sending
+                        .handle((result, ex) -> {
+                            if (ex == null) {
+                                sentEventKeys.add(notification.eventKey());
+                                return CompletableFuture.<Void>completedFuture(null);
+                            }
+                            return forwardToRetry(retryTopic, notification.rawMessage(), ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                        })
+                        .thenCompose(future -> future));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            // 재시도 토픽 전달이 실패해 batch가 다시 전달되더라도 이미 발송한 문자는 다시 보내지 않도록, 남은 발송을 기다린 뒤 발송 기록을 남긴다.
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).handle((result, ex) -> null).join();
+            notificationDeduplicator.markProcessed(sentEventKeys);
+        }
         return null;
     }
 
+    private CompletableFuture<Void> forwardToRetry(String retryTopic, String message, Throwable failure) {
+        meterRegistry.counter("notification.consumer.forwarded", "topic", retryTopic).increment();
+        log.warn("알림 이벤트를 재시도 토픽으로 전달: topic={}, reason={}", retryTopic, failure.getMessage());
 
-    public RegularDeliveryNotificationMessage regularOrderNotificationMessageBuilder(String memberId, Long regularDeliveryId, String eventType) {
-        ResponseEntity<ApiResponse<RetrieveMemberSummary>> memberResponse = null;
-        ResponseEntity<ApiResponse<RetrieveOrderInformationResponse>> productResponse = null;
-        Optional<RegularDeliveryApplication> regularDeliveryApplicationOptional =
-                regularDeliveryApplicationRepository.findById(regularDeliveryId);
+        ProducerRecord<String, String> record = new ProducerRecord<>(retryTopic, message);
+        String reason = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+        record.headers().add(NotificationRetryConsumer.FIRST_FAILURE_REASON_HEADER, reason.getBytes(StandardCharsets.UTF_8));
+        return kafkaTemplate.send(record).thenApply(sendResult -> null);
+    }
 
-        RegularDeliveryApplication regularDeliveryApplication = regularDeliveryApplicationOptional.get();
+    private <T> T timed(String listener, String stage, Supplier<T> supplier) {
+        return Timer.builder("notification.consumer.stage")
+                .tag("listener", listener)
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(supplier);
+    }
 
-        try {
-            memberResponse = memberServiceFeignClient.getMemberSummary(memberId);
-            productResponse = productServiceFeignClient.retrieveOrderProductInformation(regularDeliveryApplication.getMainProductId());
-        } catch (FeignException e) {
-            e.printStackTrace();
-            return null;
-        }
+    @FunctionalInterface
+    private interface NotificationSender<N> {
+        CompletableFuture<Void> send(N notificationMessage);
+    }
 
+    public record Parsed<E>(String rawMessage, E event) {
+    }
 
-        if(memberResponse.getStatusCode().is2xxSuccessful()) {
-            RetrieveMemberSummary memberSummary = memberResponse.getBody().getResult();
-            RetrieveOrderInformationResponse productInformation = productResponse.getBody().getResult();
-            return RegularDeliveryNotificationMessage.builder()
-                    .productName(productInformation.getProductName())
-                    .productCount(regularDeliveryApplication.getOrderedProductCount())
-                    .completedOrderCount(regularDeliveryApplication.getCompletedRounds())
-                    .memberName(memberSummary.getMemberName())
-                    .address(regularDeliveryApplication.getAddress())
-                    .nextDeliveryDate(regularDeliveryApplication.getNextDeliveryDate())
-                    .eventType(eventType)
-                    .phoneNumber(memberSummary.getMemberPhoneNumber())
-                    .build();
+    public record Prepared<N>(String rawMessage, String eventKey, N notificationMessage, Exception failure) {
+        Prepared(String rawMessage, N notificationMessage, Exception failure) {
+            this(rawMessage, null, notificationMessage, failure);
         }
 
-        return null;
+        static <N> Prepared<N> failed(String rawMessage, String reason) {
+            return new Prepared<>(rawMessage, null, new IllegalStateException(reason));
+        }
     }
 }
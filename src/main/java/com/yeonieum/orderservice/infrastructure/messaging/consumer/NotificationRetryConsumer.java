@@ -0,0 +1,113 @@
+package com.yeonieum.orderservice.infrastructure.messaging.consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.yeonieum.orderservice.domain.notification.entity.NotificationDeadLetter;
+import com.yeonieum.orderservice.domain.notification.repository.NotificationDeadLetterRepository;
+import com.yeonieum.orderservice.global.enums.DeadLetterStatus;
+import com.yeonieum.orderservice.infrastructure.messaging.producer.OrderEventProducer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.annotation.DltHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.RetryTopicHeaders;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * 알림 재시도 소비자
+ * 메인 토픽에서 실패한 이벤트만 별도의 재시도 토픽에서 한 건씩 다시 처리한다.
+ * 재시도 단계마다 지연 시간이 늘어나는 토픽을 따로 두므로 재시도 대기 중인 이벤트가 메인 토픽의 새 이벤트를 막지 않는다.
+ * 모든 단계에서 실패한 이벤트는 dead letter 토픽을 거쳐 notification_dead_letter 테이블에 저장된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRetryConsumer {
+    public static final String ORDER_RETRY_TOPIC = "order-notification-retry-topic";
+    public static final String REGULAR_RETRY_TOPIC = "regular-notification-retry-topic";
+    // 메인 토픽에서 처음 실패한 사유, 재시도 토픽으로 넘길 때 붙인다.
+    public static final String FIRST_FAILURE_REASON_HEADER = "x-notification-failure-reason";
+
+    private final NotificationKafkaConsumer notificationKafkaConsumer;
+    private final NotificationDeadLetterRepository notificationDeadLetterRepository;
+
+    @RetryableTopic(
+            attempts = "${messaging.notification.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${messaging.notification.retry.delay-millis:1000}",
+                    multiplierExpression = "${messaging.notification.retry.multiplier:5}",
+                    maxDelayExpression = "${messaging.notification.retry.max-delay-millis:60000}"),
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            // 형식이 잘못된 메시지는 재시도해도 성공할 수 없으므로 곧바로 dead letter로 보냄
+            exclude = JsonProcessingException.class,
+            traversingCauses = "true",
+            kafkaTemplate = "kafkaTemplate")
+    @KafkaListener(id = "order-notification-retry-consumer", topics = ORDER_RETRY_TOPIC, groupId = "order-notification-retry-group")
+    public void listenOrderRetryTopic(String message) throws Exception {
+        notificationKafkaConsumer.sendOrderNotification(message);
+    }
+
+    @RetryableTopic(
+            attempts = "${messaging.notification.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${messaging.notification.retry.delay-millis:1000}",
+                    multiplierExpression = "${messaging.notification.retry.multiplier:5}",
+                    maxDelayExpression = "${messaging.notification.retry.max-delay-millis:60000}"),
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            exclude = JsonProcessingException.class,
+            traversingCauses = "true",
+            kafkaTemplate = "kafkaTemplate")
+    @KafkaListener(id = "regular-notification-retry-consumer", topics = REGULAR_RETRY_TOPIC, groupId = "order-notification-retry-group")
+    public void listenRegularRetryTopic(String message) throws Exception {
+        notificationKafkaConsumer.sendRegularOrderNotification(message);
+    }
+
+    /**
+     * 재시도를 모두 소진한 이벤트를 실패 정보와 함께 저장
+     * 관리자가 원인을 확인한 뒤 원래 토픽으로 재발행할 수 있다.
+     */
+    @DltHandler
+    public void handleDeadLetter(ConsumerRecord<String, String> record) {
+        String sourceTopic = record.topic().startsWith(REGULAR_RETRY_TOPIC) ? OrderEventProducer.REGULAR_TOPIC : OrderEventProducer.ORDER_TOPIC;
+        log.error("알림 이벤트 재시도 실패: topic={}, offset={}", record.topic(), record.offset());
+
+        notificationDeadLetterRepository.save(NotificationDeadLetter.builder()
+                .sourceTopic(sourceTopic)
+                .deadLetterTopic(record.topic())
+                .payload(record.value())
+                .firstFailureReason(headerAsString(record, FIRST_FAILURE_REASON_HEADER))
+                .exceptionClass(headerAsString(record, KafkaHeaders.DLT_EXCEPTION_FQCN))
+                .exceptionMessage(truncate(headerAsString(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE)))
+                .attempts(attemptsOf(record))
+                .status(DeadLetterStatus.DEAD)
+                .createdDateTime(LocalDateTime.now())
+                .build());
+    }
+
+    private String headerAsString(ConsumerRecord<String, String> record, String headerName) {
+        Header header = record.headers().lastHeader(headerName);
+        return header == null ? null : truncate(new String(header.value(), StandardCharsets.UTF_8));
+    }
+
+    private int attemptsOf(ConsumerRecord<String, String> record) {
+        Header header = record.headers().lastHeader(RetryTopicHeaders.DEFAULT_HEADER_ATTEMPTS);
+        if (header == null) {
+            return 1;
+        }
+        byte[] value = header.value();
+        return value.length == Integer.BYTES ? ByteBuffer.wrap(value).getInt() : Integer.parseInt(new String(value, StandardCharsets.UTF_8));
+    }
+
+    private String truncate(String value) {
+        return value == null || value.length() <= 1000 ? value : value.substring(0, 1000);
+    }
+}
@@ -0,0 +1,189 @@
+package com.yeonieum.orderservice.infrastructure.messaging.dedup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 알림 이벤트 중복 처리 방지 저장소
+ * 처리한 (eventId, eventType)을 시간 구간별 Redis set에 기록하고, 같은 내용을 로컬 Bloom filter에도 기록한다.
+ * Bloom filter에 없으면 처리하지 않은 이벤트로 보고 Redis를 조회하지 않는다. 있으면 해당 구간의 Redis set으로 확인한다.
+ * 처리한 이벤트는 구간별 Redis Stream에도 묶음 단위로 추가한다. 다른 인스턴스가 처리한 이벤트는 주기적으로
+ * 현재/직전 구간의 스트림에서 마지막으로 읽은 ID 이후의 기록만 읽어 Bloom filter에 반영한다.
+ * Redis set 전체를 읽는 것은 기동할 때 한 번뿐이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDeduplicator {
+    private static final String KEY_PREFIX = "notification:processed:";
+    private static final String LOG_KEY_PREFIX = "notification:processed-log:";
+    private static final String KEYS_FIELD = "keys";
+    private static final String INITIAL_LOG_ID = "0-0";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private TimeBucketedBloomFilter bloomFilter;
+    private volatile long expireConfiguredBucket = -1L;
+    // 구간별로 마지막으로 읽은 처리 기록 스트림 ID
+    private final Map<Long, String> logCursors = new ConcurrentHashMap<>();
+
+    @Value("${messaging.notification.dedup.bucket-minutes:60}")
+    private long bucketMinutes;
+
+    @Value("${messaging.notification.dedup.retained-buckets:24}")
+    private int retainedBuckets;
+
+    @Value("${messaging.notification.dedup.expected-events-per-bucket:100000}")
+    private long expectedEventsPerBucket;
+
+    @Value("${messaging.notification.dedup.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // 동기화 때 한 번에 읽는 처리 기록 수
+    @Value("${messaging.notification.dedup.sync-batch-size:500}")
+    private int syncBatchSize;
+
+    @PostConstruct
+    public void init() {
+        bloomFilter = new TimeBucketedBloomFilter(expectedEventsPerBucket, falsePositiveRate, retainedBuckets);
+        long currentBucket = currentBucket();
+        // set을 읽기 전에 커서를 잡아 두어야 읽는 동안 추가된 기록을 다음 동기화에서 읽음
+        logCursors.put(currentBucket - 1, latestLogId(currentBucket - 1));
+        logCursors.put(currentBucket, latestLogId(currentBucket));
+        for (long bucket = currentBucket - retainedBuckets + 1; bucket <= currentBucket; bucket++) {
+            loadBucket(bucket);
+        }
+    }
+
+    /**
+     * 이벤트 ID가 없는 이전 형식의 이벤트는 중복 확인을 하지 않는다.
+     */
+    public static String keyOf(String eventId, String eventType) {
+        return eventId == null ? null : eventId + ":" + eventType;
+    }
+
+    public boolean isProcessed(String eventKey) {
+        if (eventKey == null) {
+            return false;
+        }
+        for (Long bucket : bloomFilter.bucketsMightContain(currentBucket(), eventKey)) {
+            meterRegistry.counter("notification.dedup.redis.lookups").increment();
+            if (Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(redisKey(bucket), eventKey))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void markProcessed(Collection<String> eventKeys) {
+        List<String> keys = eventKeys.stream().filter(eventKey -> eventKey != null).toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        long bucket = currentBucket();
+        keys.forEach(eventKey -> bloomFilter.put(bucket, eventKey));
+        stringRedisTemplate.opsForSet().add(redisKey(bucket), keys.toArray(String[]::new));
+        stringRedisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(logKey(bucket))
+                .ofMap(Map.of(KEYS_FIELD, String.join("\n", keys))));
+        if (expireConfiguredBucket != bucket) {
+            stringRedisTemplate.expire(redisKey(bucket), Duration.ofMinutes(bucketMinutes * retainedBuckets));
+            // 처리 기록은 현재/직전 구간만 읽으므로 두 구간만 보관
+            stringRedisTemplate.expire(logKey(bucket), Duration.ofMinutes(bucketMinutes * 2));
+            expireConfiguredBucket = bucket;
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 현재 구간과 직전 구간에 기록한 이벤트를 Bloom filter에 반영한다.
+     * 구간이 바뀌면 직전 구간은 남은 기록만 마저 읽고, 새 구간은 처음부터 읽는다.
+     */
+    @Scheduled(fixedDelayString = "${messaging.notification.dedup.sync-interval-millis:5000}")
+    public void synchronize() {
+        long currentBucket = currentBucket();
+        logCursors.keySet().removeIf(bucket -> bucket < currentBucket - 1);
+        readLog(currentBucket - 1);
+        readLog(currentBucket);
+    }
+
+    private void readLog(long bucket) {
+        String cursor = logCursors.getOrDefault(bucket, INITIAL_LOG_ID);
+        try {
+            int readCount;
+            do {
+                // XRANGE의 시작은 포함 조건이므로 커서 자신은 건너뜀
+                List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                        .range(logKey(bucket), Range.rightUnbounded(Range.Bound.inclusive(cursor)), Limit.limit().count(syncBatchSize + 1));
+                if (records == null) {
+                    return;
+                }
+                readCount = 0;
+                for (MapRecord<String, Object, Object> record : records) {
+                    if (record.getId().getValue().equals(cursor)) {
+                        continue;
+                    }
+                    String[] eventKeys = ((String) record.getValue().get(KEYS_FIELD)).split("\n");
+                    for (String eventKey : eventKeys) {
+                        bloomFilter.put(bucket, eventKey);
+                    }
+                    meterRegistry.counter("notification.dedup.sync.keys").increment(eventKeys.length);
+                    cursor = record.getId().getValue();
+                    readCount++;
+                }
+                logCursors.put(bucket, cursor);
+            } while (readCount >= syncBatchSize);
+        } catch (RuntimeException e) {
+            log.warn("처리한 알림 이벤트 기록 동기화 실패: bucket={}", bucket, e);
+        }
+    }
+
+    private String latestLogId(long bucket) {
+        try {
+            List<MapRecord<String, Object, Object>> latest = stringRedisTemplate.opsForStream()
+                    .reverseRange(logKey(bucket), Range.unbounded(), Limit.limit().count(1));
+            return latest == null || latest.isEmpty() ? INITIAL_LOG_ID : latest.get(0).getId().getValue();
+        } catch (RuntimeException e) {
+            log.warn("처리한 알림 이벤트 기록 위치 조회 실패: bucket={}", bucket, e);
+            return INITIAL_LOG_ID;
+        }
+    }
+
+    private void loadBucket(long bucket) {
+        try (Cursor<String> cursor = stringRedisTemplate.opsForSet().scan(redisKey(bucket), ScanOptions.scanOptions().count(1000).build())) {
+            cursor.forEachRemaining(eventKey -> bloomFilter.put(bucket, eventKey));
+        } catch (RuntimeException e) {
+            log.warn("처리한 알림 이벤트 목록 동기화 실패: bucket={}", bucket, e);
+        }
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / Duration.ofMinutes(bucketMinutes).toMillis();
+    }
+
+    private String redisKey(long bucket) {
+        return KEY_PREFIX + bucket;
+    }
+
+    private String logKey(long bucket) {
+        return LOG_KEY_PREFIX + bucket;
+    }
+}
@@ -0,0 +1,94 @@
+package com.yeonieum.orderservice.infrastructure.messaging.dedup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 시간 구간별 Bloom filter
+ * 구간마다 별도의 비트 배열을 두고 보관 구간 수를 넘긴 오래된 구간은 통째로 버린다.
+ * 포함되지 않는다는 결과는 확실하고, 포함된다는 결과는 오탐일 수 있으므로 호출한 쪽에서 확인해야 한다.
+ */
+public class TimeBucketedBloomFilter {
+    private final int bitCount;
+    private final int hashCount;
+    private final int retainedBuckets;
+    private final TreeMap<Long, BitSet> buckets = new TreeMap<>();
+
+    /**
+     * @param expectedInsertionsPerBucket 구간마다 예상되는 저장 건수
+     * @param falsePositiveRate 목표 오탐률
+     * @param retainedBuckets 보관할 구간 수
+     */
+    public TimeBucketedBloomFilter(long expectedInsertionsPerBucket, double falsePositiveRate, int retainedBuckets) {
+        this.bitCount = (int) Math.ceil(-expectedInsertionsPerBucket * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertionsPerBucket * Math.log(2)));
+        this.retainedBuckets = retainedBuckets;
+    }
+
+    public synchronized void put(long bucket, String key) {
+        evictBefore(bucket);
+        BitSet bits = buckets.computeIfAbsent(bucket, ignored -> new BitSet(bitCount));
+        long[] hashes = hash(key);
+        for (int index = 0; index < hashCount; index++) {
+            bits.set(indexOf(hashes, index));
+        }
+    }
+
+    /**
+     * key가 들어 있을 수 있는 구간을 최신 구간부터 반환한다. 비어 있으면 key는 확실히 없다.
+     */
+    public synchronized List<Long> bucketsMightContain(long currentBucket, String key) {
+        evictBefore(currentBucket);
+        long[] hashes = hash(key);
+        List<Long> candidates = new ArrayList<>();
+        for (Map.Entry<Long, BitSet> entry : buckets.descendingMap().entrySet()) {
+            if (mightContain(entry.getValue(), hashes)) {
+                candidates.add(entry.getKey());
+            }
+        }
+        return candidates;
+    }
+
+    private boolean mightContain(BitSet bits, long[] hashes) {
+        for (int index = 0; index < hashCount; index++) {
+            if (!bits.get(indexOf(hashes, index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void evictBefore(long currentBucket) {
+        buckets.headMap(currentBucket - retainedBuckets + 1).clear();
+    }
+
+    // double hashing: h1 + i * h2
+    private int indexOf(long[] hashes, int index) {
+        return (int) Math.floorMod(hashes[0] + index * hashes[1], (long) bitCount);
+    }
+
+    private long[] hash(String key) {
+        // FNV-1a 64bit 후 murmur3 fmix64로 섞는다.
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        long first = mix(hash);
+        long second = mix(first ^ 0x9e3779b97f4a7c15L) | 1L;
+        return new long[]{first, second};
+    }
+
+    private long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb53a62e7fe53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -1,14 +1,50 @@
 package com.yeonieum.orderservice.infrastructure.messaging.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
+/**
+ * 주문 알림 이벤트
+ * v1은 식별자만 담고, v2부터는 발행 시점에 알고 있는 주문 요약과 회원 정보를 함께 담아 소비자가 다시 조회하지 않도록 한다.
+ * 소비자는 비어 있는 항목만 조회하므로 v1 메시지도 그대로 처리된다.
+ * v3부터는 발행할 때마다 고유한 eventId를 붙여 소비자가 재전달된 이벤트를 걸러낼 수 있게 한다.
+ */
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class OrderEventMessage {
+    public static final int SCHEMA_VERSION = 3;
+
+    // v1 메시지에는 없으므로 역직렬화하면 0
+    private int schemaVersion;
+    // v3
+    private String eventId;
     private String memberId;
     private Long customerId;
     private String orderDetailId;
     private String eventType;
     private String topic;
+
+    // v2
+    private String storeName;
+    private String mainProductName;
+    private Integer productCount;
+    private String memberName;
+    private String memberPhoneNumber;
+
+    @JsonIgnore
+    public boolean hasOrderSummary() {
+        return mainProductName != null && productCount != null;
+    }
+
+    @JsonIgnore
+    public boolean hasMemberInfo() {
+        return memberName != null && memberPhoneNumber != null;
+    }
 }
@@ -1,11 +1,22 @@
 package com.yeonieum.orderservice.infrastructure.messaging.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class RegularDeliveryEventMessage {
+    public static final int SCHEMA_VERSION = 2;
+
+    private int schemaVersion;
+    // v2
+    private String eventId;
     private String memberId;
     private Long customerId;
     private Long regularDeliveryId;
@@ -0,0 +1,57 @@
+package com.yeonieum.orderservice.infrastructure.messaging.producer;
+
+import com.yeonieum.orderservice.infrastructure.messaging.codec.EventMessageCodec;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 직렬화된 이벤트 메시지 발송기
+ * 기본 KafkaTemplate과 같은 producer 설정을 쓰되 값을 byte[]로 보낸다.
+ * JSON 형식일 때 값은 기존 문자열 메시지와 같은 바이트이므로 문자열로 읽는 소비자도 그대로 동작한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventMessageSender {
+    private final ProducerFactory<Object, Object> kafkaProducerFactory;
+    private final EventMessageCodec eventMessageCodec;
+    private DefaultKafkaProducerFactory<String, byte[]> producerFactory;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @PostConstruct
+    public void init() {
+        Map<String, Object> configs = new HashMap<>(kafkaProducerFactory.getConfigurationProperties());
+        configs.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configs.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        producerFactory = new DefaultKafkaProducerFactory<>(configs);
+        kafkaTemplate = new KafkaTemplate<>(producerFactory);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        producerFactory.destroy();
+    }
+
+    public CompletableFuture<SendResult<String, byte[]>> send(String topic, String key, EventMessageCodec.Encoded encoded) {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, key, encoded.payload());
+        record.headers().add(EventMessageCodec.CONTENT_TYPE_HEADER, encoded.contentType().getBytes(StandardCharsets.UTF_8));
+        if (encoded.schemaId() != null) {
+            record.headers().add(EventMessageCodec.SCHEMA_ID_HEADER, encoded.schemaId().getBytes(StandardCharsets.UTF_8));
+        }
+        return kafkaTemplate.send(record);
+    }
+}
@@ -1,12 +1,9 @@
 package com.yeonieum.orderservice.infrastructure.messaging.producer;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yeonieum.orderservice.infrastructure.messaging.codec.EventMessageCodec;
 import com.yeonieum.orderservice.infrastructure.messaging.dto.*;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.kafka.support.SendResult;
 
@@ -17,18 +14,17 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class OrderEventProducer {
 
-    private final ObjectMapper objectMapper;
+    private final EventMessageSender eventMessageSender;
+    private final EventMessageCodec eventMessageCodec;
+    private final ShippedEventPublisher shippedEventPublisher;
     public static final String ORDER_TOPIC = "order-notification-topic";
     public static final String REGULAR_TOPIC = "regular-notification-topic";
     public static final String SHIPPED_TOPIC = "shipped-order-topic";
     public static final String CANCEL_TOPIC = "cancel-order-topic";
 
 
-    @Autowired
-    private KafkaTemplate<String, String> kafkaTemplate;
-
     public void sendMessage(OrderEventMessage message) throws JsonProcessingException {
-        CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(message.getTopic(), objectMapper.writeValueAsString(message));
+        CompletableFuture<SendResult<String, byte[]>> future = eventMessageSender.send(message.getTopic(), null, eventMessageCodec.encode(message));
 
         // 성공 및 실패 처리
         future.thenAccept(result -> {
@@ -40,7 +36,7 @@ public class OrderEventProducer {
     }
 
     public void sendMessage(RegularDeliveryEventMessage message) throws JsonProcessingException {
-        CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(message.getTopic(), objectMapper.writeValueAsString(message));
+        CompletableFuture<SendResult<String, byte[]>> future = eventMessageSender.send(message.getTopic(), null, eventMessageCodec.encode(message));
 
         // 성공 및 실패 처리
         future.thenAccept(result -> {
@@ -50,33 +46,19 @@ public class OrderEventProducer {
             return null;
         });
     }
-    @Async
+    /**
+     * 출고 승인 이벤트 발행 (상품 ID를 키로 묶어서 발행)
+     * @param shippedEventMessages 승인된 상품 주문 목록
+     */
     public void sendApproveMessage(List<ShippedEventMessage> shippedEventMessages) throws JsonProcessingException {
-        //objectMapper로 List<ShippedEventMessage> 역직렬화 변환
-
-
-        CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(SHIPPED_TOPIC, objectMapper.writeValueAsString(shippedEventMessages));
-
-        future.thenAccept(result -> {
-
-        }).exceptionally(ex -> {
-            ex.printStackTrace();
-            return null;
-        });
+        shippedEventPublisher.publishApproved(shippedEventMessages);
     }
-    @Async
-    public void sendCancelMessage(List<ShippedEventMessage> shippedEventMessages) throws JsonProcessingException {
-        //objectMapper로 List<ShippedEventMessage> 역직렬화 변환
 
-
-        CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(CANCEL_TOPIC, objectMapper.writeValueAsString(shippedEventMessages));
-
-        future.thenAccept(result -> {
-
-        }).exceptionally(ex -> {
-            ex.printStackTrace();
-            return null;
-        });
+    /**
+     * 출고 취소 이벤트 발행 (상품 ID를 키로 묶어서 발행)
+     * @param shippedEventMessages 취소된 상품 주문 목록
+     */
+    public void sendCancelMessage(List<ShippedEventMessage> shippedEventMessages) throws JsonProcessingException {
+        shippedEventPublisher.publishCanceled(shippedEventMessages);
     }
-
 }
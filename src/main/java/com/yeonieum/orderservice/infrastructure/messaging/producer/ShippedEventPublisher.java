@@ -0,0 +1,57 @@
+package com.yeonieum.orderservice.infrastructure.messaging.producer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.yeonieum.orderservice.infrastructure.messaging.codec.EventMessageCodec;
+import com.yeonieum.orderservice.infrastructure.messaging.dto.ShippedEventMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 출고 승인/취소 이벤트 발행기
+ * 한 요청에서 발생한 ShippedEventMessage를 상품 ID별로 묶어, 크기가 제한된 레코드 단위로 발행한다.
+ * 레코드 키가 상품 ID이므로 같은 상품의 재고 변경 이벤트는 같은 파티션에서 순서대로 소비된다.
+ * 레코드 값은 List<ShippedEventMessage>이며, 형식(JSON/Avro)은 content-type 헤더로 구분한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShippedEventPublisher {
+    private final EventMessageSender eventMessageSender;
+    private final EventMessageCodec eventMessageCodec;
+
+    @Value("${messaging.shipped-event.max-messages-per-record:200}")
+    private int maxMessagesPerRecord;
+
+    public void publishApproved(List<ShippedEventMessage> shippedEventMessages) throws JsonProcessingException {
+        publish(OrderEventProducer.SHIPPED_TOPIC, shippedEventMessages);
+    }
+
+    public void publishCanceled(List<ShippedEventMessage> shippedEventMessages) throws JsonProcessingException {
+        publish(OrderEventProducer.CANCEL_TOPIC, shippedEventMessages);
+    }
+
+    private void publish(String topic, List<ShippedEventMessage> shippedEventMessages) throws JsonProcessingException {
+        Map<Long, List<ShippedEventMessage>> messagesByProduct = shippedEventMessages.stream()
+                .collect(Collectors.groupingBy(ShippedEventMessage::getProductId, LinkedHashMap::new, Collectors.toList()));
+
+        for (Map.Entry<Long, List<ShippedEventMessage>> entry : messagesByProduct.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            List<ShippedEventMessage> messages = entry.getValue();
+            for (int from = 0; from < messages.size(); from += maxMessagesPerRecord) {
+                List<ShippedEventMessage> record = messages.subList(from, Math.min(from + maxMessagesPerRecord, messages.size()));
+                eventMessageSender.send(topic, key, eventMessageCodec.encodeShippedEvents(record))
+                        .exceptionally(ex -> {
+                            log.error("출고 이벤트 발행 실패: topic={}, productId={}, size={}", topic, key, record.size(), ex);
+                            return null;
+                        });
+            }
+        }
+    }
+}
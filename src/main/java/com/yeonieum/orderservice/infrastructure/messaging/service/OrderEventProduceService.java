@@ -1,33 +1,69 @@
 package com.yeonieum.orderservice.infrastructure.messaging.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.yeonieum.orderservice.domain.order.dto.response.OrderResponse;
+import com.yeonieum.orderservice.global.config.AsyncConfig;
+import com.yeonieum.orderservice.global.enums.OrderStatusCode;
 import com.yeonieum.orderservice.infrastructure.messaging.dto.OrderEventMessage;
 import com.yeonieum.orderservice.infrastructure.messaging.dto.RegularDeliveryEventMessage;
+import com.yeonieum.orderservice.infrastructure.messaging.dto.ShippedEventMessage;
 import com.yeonieum.orderservice.infrastructure.messaging.producer.OrderEventProducer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class OrderEventProduceService {
 
     private final OrderEventProducer orderEventProducer;
 
-    @Async
+    @Async(AsyncConfig.EVENT_PUBLISH_EXECUTOR)
     public void produceOrderEvent(String memberId, Long customerId, String orderDetailId,String topic ,String eventType) throws JsonProcessingException {
         orderEventProducer.sendMessage(OrderEventMessage.builder()
+                .schemaVersion(OrderEventMessage.SCHEMA_VERSION)
+                .eventId(UUID.randomUUID().toString())
+                .orderDetailId(orderDetailId)
+                .memberId(memberId)
+                .customerId(customerId)
+                .topic(topic)
+                .eventType(eventType)
+                .build());
+    }
+
+    /**
+     * 주문 요약을 함께 담아 주문 이벤트를 발행
+     * 소비자는 주문서와 상품 정보를 다시 조회하지 않고 알림을 만든다.
+     * @param storeName 상점명
+     * @param mainProductName 대표 상품명
+     * @param productCount 주문 상품 수
+     */
+    @Async(AsyncConfig.EVENT_PUBLISH_EXECUTOR)
+    public void produceOrderEvent(String memberId, Long customerId, String orderDetailId, String topic, String eventType,
+                                  String storeName, String mainProductName, Integer productCount) throws JsonProcessingException {
+        orderEventProducer.sendMessage(OrderEventMessage.builder()
+                .schemaVersion(OrderEventMessage.SCHEMA_VERSION)
+                .eventId(UUID.randomUUID().toString())
                 .orderDetailId(orderDetailId)
                 .memberId(memberId)
                 .customerId(customerId)
                 .topic(topic)
                 .eventType(eventType)
+                .storeName(storeName)
+                .mainProductName(mainProductName)
+                .productCount(productCount)
                 .build());
     }
 
-    @Async
+    @Async(AsyncConfig.EVENT_PUBLISH_EXECUTOR)
     public void produceRegularOrderEvent(String memberId, Long customerId, Long regularDeliveryId,  String topic, String eventType) throws JsonProcessingException {
         orderEventProducer.sendMessage(RegularDeliveryEventMessage.builder()
+                .schemaVersion(RegularDeliveryEventMessage.SCHEMA_VERSION)
+                .eventId(UUID.randomUUID().toString())
                 .regularDeliveryId(regularDeliveryId)
                 .memberId(memberId)
                 .customerId(customerId)
@@ -35,4 +71,27 @@ public class OrderEventProduceService {
                 .eventType(eventType)
                 .build());
     }
+
+    /**
+     * 일괄 주문상태 변경이 커밋된 주문에 대해 승인/취소 이벤트를 발행
+     * 주문마다 따로 보내지 않고 요청 전체의 상품 주문을 모아 한 번에 발행한다.
+     * @param requestedStatusCode 변경된 주문 상태
+     * @param resultUpdateStatuses 커밋된 주문과 상태가 바뀐 상품 주문 목록
+     */
+    public void produceBulkOrderStatusEvents(OrderStatusCode requestedStatusCode, List<OrderResponse.OfResultUpdateStatus> resultUpdateStatuses) throws JsonProcessingException {
+        if (!requestedStatusCode.equals(OrderStatusCode.PREPARING_PRODUCT) && !requestedStatusCode.equals(OrderStatusCode.CANCELED)) {
+            return;
+        }
+
+        List<ShippedEventMessage> shippedEventMessages = resultUpdateStatuses.stream()
+                .flatMap(resultUpdateStatus -> resultUpdateStatus.getProductOrderEntityList().stream().map(productOrderEntity ->
+                        ShippedEventMessage.convertedBy(resultUpdateStatus.getOrderDetailId(), productOrderEntity)))
+                .collect(Collectors.toList());
+
+        if(requestedStatusCode.equals(OrderStatusCode.PREPARING_PRODUCT)) {
+            orderEventProducer.sendApproveMessage(shippedEventMessages);
+        } else {
+            orderEventProducer.sendCancelMessage(shippedEventMessages);
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package com.yeonieum.orderservice.infrastructure.sms;
+
+import jakarta.annotation.PostConstruct;
+import net.nurigo.sdk.NurigoApp;
+import net.nurigo.sdk.message.exception.NurigoMessageNotReceivedException;
+import net.nurigo.sdk.message.model.FailedMessage;
+import net.nurigo.sdk.message.model.Message;
+import net.nurigo.sdk.message.response.MultipleDetailMessageSentResponse;
+import net.nurigo.sdk.message.service.DefaultMessageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 누리고(솔라피) 문자 발송
+ * 여러 건을 한 번의 요청으로 보내는 다건 발송 API를 사용한다.
+ * 문자마다 목록 내 위치를 사용자 정의 필드에 담아 보내고, 실패 응답의 사용자 정의 필드로 실패한 문자를 찾는다.
+ */
+@Component
+@ConditionalOnProperty(name = "sms.provider", havingValue = "nurigo", matchIfMissing = true)
+public class NurigoSmsProvider implements SmsProvider {
+    private static final String INDEX_FIELD = "batchIndex";
+    private DefaultMessageService defaultMessageService;
+
+    @Value("${sms.apiKey}")
+    private String apiKey;
+    @Value("${sms.secretKey}")
+    private String secretKey;
+    @Value("${sms.apiUrl}")
+    private String apiUrl;
+
+    @PostConstruct
+    public void init() {
+        defaultMessageService = NurigoApp.INSTANCE.initialize(apiKey, secretKey, apiUrl);
+    }
+
+    @Override
+    public Set<Integer> sendBatch(List<SmsMessage> messages) throws Exception {
+        List<Message> nurigoMessages = IntStream.range(0, messages.size()).mapToObj(index -> {
+            SmsMessage smsMessage = messages.get(index);
+            Message message = new Message();
+            message.setFrom(smsMessage.from());
+            message.setTo(smsMessage.to());
+            message.setText(smsMessage.text());
+            message.setCustomFields(new HashMap<>(Map.of(INDEX_FIELD, String.valueOf(index))));
+            return message;
+        }).collect(Collectors.toList());
+
+        try {
+            MultipleDetailMessageSentResponse response = defaultMessageService.send(nurigoMessages);
+            return failedIndexes(messages, response.getFailedMessageList());
+        } catch (NurigoMessageNotReceivedException e) {
+            // 접수된 문자가 하나도 없는 경우
+            return failedIndexes(messages, e.getFailedMessageList());
+        }
+    }
+
+    private Set<Integer> failedIndexes(List<SmsMessage> messages, List<FailedMessage> failedMessages) {
+        if (failedMessages == null) {
+            return Set.of();
+        }
+        Set<Integer> failedIndexes = new HashSet<>();
+        for (FailedMessage failedMessage : failedMessages) {
+            Map<String, String> customFields = failedMessage.getCustomFields();
+            String index = customFields == null ? null : customFields.get(INDEX_FIELD);
+            if (index != null) {
+                failedIndexes.add(Integer.parseInt(index));
+                continue;
+            }
+            // 위치를 돌려받지 못한 실패 건은 같은 번호의 문자를 모두 실패로 처리 (발송 누락보다 중복 재시도를 택함)
+            for (int position = 0; position < messages.size(); position++) {
+                if (messages.get(position).to().equals(failedMessage.getTo())) {
+                    failedIndexes.add(position);
+                }
+            }
+        }
+        return failedIndexes;
+    }
+}
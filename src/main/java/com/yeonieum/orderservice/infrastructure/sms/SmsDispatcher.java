@@ -0,0 +1,185 @@
+package com.yeonieum.orderservice.infrastructure.sms;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 문자 발송 디스패처
+ * 발송 요청을 크기가 제한된 큐에 넣고 즉시 반환한다. 발송 스레드가 큐에서 묶음 단위로 꺼내 처리율 제한을 거친 뒤 다건 발송 API로 보낸다.
+ * 큐가 상한 비율을 넘으면 알림 리스너를 일시 정지하고, 하한 비율 아래로 내려가면 다시 시작한다.
+ * 발송 결과는 요청마다 반환한 future로 알려주므로 호출한 쪽에서 실패 건을 재시도 토픽으로 넘길 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SmsDispatcher {
+    private final SmsProvider smsProvider;
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final MeterRegistry meterRegistry;
+    private BlockingQueue<SmsRequest> queue;
+    private TokenBucket tokenBucket;
+    private ExecutorService senders;
+    private Timer batchTimer;
+    private DistributionSummary batchSizeSummary;
+    private volatile boolean listenersPaused;
+
+    @Value("${sms.dispatch.queue-capacity:2000}")
+    private int queueCapacity;
+
+    // 큐가 가득 찼을 때 발송 요청이 기다리는 최대 시간
+    @Value("${sms.dispatch.offer-timeout-millis:1000}")
+    private long offerTimeoutMillis;
+
+    @Value("${sms.dispatch.batch-size:100}")
+    private int batchSize;
+
+    @Value("${sms.dispatch.sender-count:2}")
+    private int senderCount;
+
+    // 발송 업체 할당량에 맞춘 초당 발송 건수와 순간 최대 건수
+    @Value("${sms.dispatch.rate-per-second:20}")
+    private double ratePerSecond;
+
+    @Value("${sms.dispatch.burst:100}")
+    private double burst;
+
+    @Value("${sms.dispatch.pause-ratio:0.8}")
+    private double pauseRatio;
+
+    @Value("${sms.dispatch.resume-ratio:0.4}")
+    private double resumeRatio;
+
+    @Value("${sms.dispatch.paused-listener-ids:order-notification-consumer,regular-order-notification-consumer}")
+    private List<String> pausedListenerIds;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        tokenBucket = new TokenBucket(ratePerSecond, burst);
+        batchTimer = Timer.builder("sms.dispatch.batch").register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("sms.dispatch.batch.size").register(meterRegistry);
+        Gauge.builder("sms.dispatch.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("sms.dispatch.listeners.paused", this, dispatcher -> dispatcher.listenersPaused ? 1 : 0).register(meterRegistry);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(senderCount, runnable -> {
+            Thread thread = new Thread(runnable, "sms-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int index = 0; index < senderCount; index++) {
+            senders.execute(this::sendLoop);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        senders.shutdownNow();
+    }
+
+    /**
+     * 발송 요청을 큐에 넣는다.
+     * 큐가 가득 찬 상태가 offer-timeout 동안 이어지면 실패한 future를 반환한다.
+     * @return 발송이 끝나면 완료되는 future (발송 실패 시 예외로 완료)
+     */
+    public CompletableFuture<Void> submit(SmsMessage message) {
+        SmsRequest request = new SmsRequest(message, new CompletableFuture<>());
+        try {
+            if (!queue.offer(request, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                meterRegistry.counter("sms.dispatch.rejected").increment();
+                request.result().completeExceptionally(new RejectedExecutionException("문자 발송 대기열이 가득 찼습니다."));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.result().completeExceptionally(e);
+        }
+        return request.result();
+    }
+
+    /**
+     * 큐 사용량에 따라 알림 리스너를 일시 정지하거나 다시 시작한다.
+     */
+    @Scheduled(fixedDelayString = "${sms.dispatch.backpressure-check-millis:200}")
+    public void adjustBackpressure() {
+        double usage = (double) queue.size() / queueCapacity;
+        if (!listenersPaused && usage >= pauseRatio) {
+            listenersPaused = true;
+            log.warn("문자 발송 대기열 사용량 {}%, 알림 리스너 일시 정지", Math.round(usage * 100));
+            pausedListenerIds.forEach(listenerId -> listenerContainer(listenerId).pause());
+        } else if (listenersPaused && usage <= resumeRatio) {
+            listenersPaused = false;
+            log.info("문자 발송 대기열 사용량 {}%, 알림 리스너 재시작", Math.round(usage * 100));
+            pausedListenerIds.forEach(listenerId -> listenerContainer(listenerId).resume());
+        }
+    }
+
+    private MessageListenerContainer listenerContainer(String listenerId) {
+        MessageListenerContainer container = kafkaListenerEndpointRegistry.getListenerContainer(listenerId);
+        if (container == null) {
+            throw new IllegalStateException("존재하지 않는 리스너입니다: " + listenerId);
+        }
+        return container;
+    }
+
+    private void sendLoop() {
+        List<SmsRequest> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                SmsRequest first = queue.take();
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                tokenBucket.acquire(batch.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(request -> request.result().completeExceptionally(e));
+                return;
+            }
+            sendBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void sendBatch(List<SmsRequest> batch) {
+        batchSizeSummary.record(batch.size());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Set<Integer> failedIndexes = smsProvider.sendBatch(batch.stream().map(SmsRequest::message).toList());
+            for (int index = 0; index < batch.size(); index++) {
+                SmsRequest request = batch.get(index);
+                if (failedIndexes.contains(index)) {
+                    meterRegistry.counter("sms.dispatch.failed").increment();
+                    request.result().completeExceptionally(new IllegalStateException("문자 발송 실패: " + request.message().to()));
+                } else {
+                    meterRegistry.counter("sms.dispatch.sent").increment();
+                    request.result().complete(null);
+                }
+            }
+        } catch (Exception e) {
+            log.error("문자 묶음 발송 실패: {}건", batch.size(), e);
+            meterRegistry.counter("sms.dispatch.failed").increment(batch.size());
+            batch.forEach(request -> request.result().completeExceptionally(e));
+        } finally {
+            sample.stop(batchTimer);
+        }
+    }
+
+    private record SmsRequest(SmsMessage message, CompletableFuture<Void> result) {
+    }
+}
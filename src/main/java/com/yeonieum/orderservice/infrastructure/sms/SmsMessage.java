@@ -0,0 +1,4 @@
+package com.yeonieum.orderservice.infrastructure.sms;
+
+public record SmsMessage(String from, String to, String text) {
+}
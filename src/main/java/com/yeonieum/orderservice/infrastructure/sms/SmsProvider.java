@@ -0,0 +1,19 @@
+package com.yeonieum.orderservice.infrastructure.sms;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 문자 발송 업체 연동
+ */
+public interface SmsProvider {
+
+    /**
+     * 문자를 한 번의 요청으로 묶어서 발송한다.
+     * @param messages 발송할 문자 목록
+     * @throws Exception 요청 자체가 실패한 경우 (묶음 전체 실패)
+     * @return 발송에 실패한 문자의 목록 내 위치 (모두 성공하면 빈 집합)
+     *         같은 번호로 여러 건이 묶일 수 있으므로 수신번호가 아닌 위치로 구분한다.
+     */
+    Set<Integer> sendBatch(List<SmsMessage> messages) throws Exception;
+}
@@ -0,0 +1,42 @@
+package com.yeonieum.orderservice.infrastructure.sms;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용 문자 발송 (sms.provider=stub)
+ * 실제로 발송하지 않고 설정한 지연 시간과 실패율만 흉내 낸다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sms.provider", havingValue = "stub")
+public class StubSmsProvider implements SmsProvider {
+
+    @Value("${sms.stub.latency-millis:50}")
+    private long latencyMillis;
+
+    // 문자별 실패 확률 (0.0 ~ 1.0)
+    @Value("${sms.stub.failure-rate:0.0}")
+    private double failureRate;
+
+    @Override
+    public Set<Integer> sendBatch(List<SmsMessage> messages) throws Exception {
+        Thread.sleep(latencyMillis);
+
+        Set<Integer> failedIndexes = new HashSet<>();
+        for (int index = 0; index < messages.size(); index++) {
+            if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+                failedIndexes.add(index);
+            }
+        }
+        log.debug("stub 문자 발송: {}건, 실패 {}건", messages.size(), failedIndexes.size());
+        return failedIndexes;
+    }
+}
@@ -0,0 +1,55 @@
+package com.yeonieum.orderservice.infrastructure.sms;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 토큰 버킷 처리율 제한기
+ * 초당 ratePerSecond개씩 토큰이 채워지고 최대 capacity개까지 쌓인다. 발송 전에 건수만큼 토큰을 가져간다.
+ * 토큰을 기다리는 동안 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock을 사용한다.
+ */
+public class TokenBucket {
+    private final double capacity;
+    private final double refillPerNano;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition refilled = lock.newCondition();
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double ratePerSecond, double capacity) {
+        this.capacity = capacity;
+        this.refillPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰이 permits개 모일 때까지 기다린다. permits가 capacity보다 크면 나누어 가져간다.
+     */
+    public void acquire(int permits) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            double remaining = permits;
+            while (remaining > 0) {
+                refill();
+                double taken = Math.min(remaining, Math.floor(tokens));
+                if (taken > 0) {
+                    tokens -= taken;
+                    remaining -= taken;
+                    continue;
+                }
+                long waitNanos = (long) Math.ceil((1 - tokens) / refillPerNano);
+                refilled.awaitNanos(Math.max(waitNanos, TimeUnit.MILLISECONDS.toNanos(1)));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,130 @@
+package com.yeonieum.orderservice.infrastructure.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 고객별 알림 이벤트 스트림
+ * 고객에게 보낼 이벤트를 길이가 제한된 Redis Stream(order-events:{customerId})에 추가하고, 같은 이벤트를 Redis 채널로 발행해
+ * 모든 인스턴스가 연결된 이미터에 바로 전달하도록 한다.
+ * 스트림 엔트리 ID가 SSE 이벤트 ID가 되므로, 다시 연결한 클라이언트는 Last-Event-ID 이후의 이벤트만 스트림에서 받을 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerEventStream {
+    public static final String CHANNEL_PREFIX = "order-events:";
+    private static final String STREAM_KEY_PREFIX = "order-events:stream:";
+    private static final String EVENT_FIELD = "event";
+    private static final String DATA_FIELD = "data";
+    private static final Pattern RECORD_ID_PATTERN = Pattern.compile("\\d+-\\d+");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 고객별로 보관하는 최대 이벤트 수 (근사 trim)
+    @Value("${sse.stream.max-length:1000}")
+    private long maxLength;
+
+    // 이벤트가 없는 고객의 스트림을 삭제하기까지의 시간
+    @Value("${sse.stream.ttl-hours:24}")
+    private long ttlHours;
+
+    /**
+     * 스트림과 채널로 주고받는 고객 이벤트
+     * @param id 스트림 엔트리 ID (SSE 이벤트 ID)
+     * @param event SSE 이벤트 이름
+     * @param data JSON 데이터
+     */
+    public record CustomerEvent(String id, String event, String data) {
+    }
+
+    /**
+     * 이벤트를 고객 스트림에 추가하고 채널로 발행
+     * @return 스트림에 추가된 이벤트
+     */
+    public CustomerEvent append(Long customerId, String event, Object data) throws JsonProcessingException {
+        String streamKey = streamKey(customerId);
+        String json = objectMapper.writeValueAsString(data);
+        RecordId recordId = stringRedisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(streamKey)
+                .ofMap(Map.of(EVENT_FIELD, event, DATA_FIELD, json)));
+        stringRedisTemplate.opsForStream().trim(streamKey, maxLength, true);
+        stringRedisTemplate.expire(streamKey, Duration.ofHours(ttlHours));
+
+        CustomerEvent customerEvent = new CustomerEvent(recordId.getValue(), event, json);
+        stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + customerId, objectMapper.writeValueAsString(customerEvent));
+        return customerEvent;
+    }
+
+    /**
+     * lastEventId 이후에 추가된 이벤트를 순서대로 조회
+     * lastEventId가 형식에 맞지 않거나, 그 사이 이벤트가 trim되어 빠짐없이 이어 줄 수 없으면 빈 Optional을 반환한다.
+     */
+    public Optional<List<CustomerEvent>> readAfter(Long customerId, String lastEventId) {
+        if (lastEventId == null || !RECORD_ID_PATTERN.matcher(lastEventId).matches()) {
+            return Optional.empty();
+        }
+        String streamKey = streamKey(customerId);
+        List<MapRecord<String, Object, Object>> oldest = stringRedisTemplate.opsForStream()
+                .range(streamKey, Range.unbounded(), Limit.limit().count(1));
+        if (oldest == null || oldest.isEmpty() || compare(oldest.get(0).getId().getValue(), lastEventId) > 0) {
+            return Optional.empty();
+        }
+
+        // XRANGE의 시작은 포함 조건이므로 lastEventId 자신은 건너뜀
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .range(streamKey, Range.rightUnbounded(Range.Bound.inclusive(lastEventId)), Limit.limit().count((int) maxLength + 1));
+        return Optional.of(records.stream()
+                .filter(record -> !record.getId().getValue().equals(lastEventId))
+                .map(this::toCustomerEvent)
+                .toList());
+    }
+
+    /**
+     * 고객 스트림의 마지막 이벤트 ID, 이벤트가 없으면 0-0
+     */
+    public String latestId(Long customerId) {
+        List<MapRecord<String, Object, Object>> latest = stringRedisTemplate.opsForStream()
+                .reverseRange(streamKey(customerId), Range.unbounded(), Limit.limit().count(1));
+        return latest == null || latest.isEmpty() ? "0-0" : latest.get(0).getId().getValue();
+    }
+
+    /**
+     * 채널로 받은 메시지를 이벤트로 변환
+     */
+    public CustomerEvent parse(byte[] body) throws IOException {
+        return objectMapper.readValue(body, CustomerEvent.class);
+    }
+
+    private CustomerEvent toCustomerEvent(MapRecord<String, Object, Object> record) {
+        Map<Object, Object> fields = record.getValue();
+        return new CustomerEvent(record.getId().getValue(), (String) fields.get(EVENT_FIELD), (String) fields.get(DATA_FIELD));
+    }
+
+    private String streamKey(Long customerId) {
+        return STREAM_KEY_PREFIX + customerId;
+    }
+
+    private static int compare(String recordId, String otherRecordId) {
+        String[] left = recordId.split("-");
+        String[] right = otherRecordId.split("-");
+        int compared = Long.compare(Long.parseLong(left[0]), Long.parseLong(right[0]));
+        return compared != 0 ? compared : Long.compare(Long.parseLong(left[1]), Long.parseLong(right[1]));
+    }
+}
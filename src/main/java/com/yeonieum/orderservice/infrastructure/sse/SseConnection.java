@@ -0,0 +1,38 @@
+package com.yeonieum.orderservice.infrastructure.sse;
+
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.function.Consumer;
+
+/**
+ * SSE 연결 한 건
+ * 이벤트는 연결마다 크기가 제한된 버퍼에 쌓이고, 클라이언트가 느려 버퍼가 가득 차면 가장 오래된 이벤트부터 버린다.
+ * push는 버퍼에 넣기만 하므로 호출한 스레드(Redis 리스너 등)가 소켓 쓰기를 기다리지 않는다.
+ */
+public class SseConnection {
+    private final Sinks.Many<ServerSentEvent<Object>> sink = Sinks.many().unicast().onBackpressureBuffer();
+    private final Flux<ServerSentEvent<Object>> events;
+
+    public SseConnection(int bufferSize, Consumer<ServerSentEvent<Object>> onDropped) {
+        this.events = sink.asFlux().onBackpressureBuffer(bufferSize, onDropped, BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    /**
+     * 이벤트를 연결 버퍼에 넣는다.
+     * @return 연결이 이미 끝나 넣지 못했으면 false
+     */
+    public synchronized boolean push(ServerSentEvent<Object> event) {
+        return sink.tryEmitNext(event).isSuccess();
+    }
+
+    public synchronized void close() {
+        sink.tryEmitComplete();
+    }
+
+    public Flux<ServerSentEvent<Object>> events() {
+        return events;
+    }
+}
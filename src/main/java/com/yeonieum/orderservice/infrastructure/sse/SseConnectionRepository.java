@@ -0,0 +1,74 @@
+package com.yeonieum.orderservice.infrastructure.sse;
+
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+@Repository
+public class SseConnectionRepository {
+    private final Map<Long, List<SseConnection>> connections = new ConcurrentHashMap<>();
+
+    /**
+     * 고객의 연결을 저장
+     * 고객의 연결 수가 상한을 넘으면 가장 오래된 연결부터 닫는다.
+     *
+     * @param customerId
+     * @param connection
+     * @param maxConnections 고객별 최대 연결 수
+     */
+    public void save(Long customerId, SseConnection connection, int maxConnections) {
+        List<SseConnection> evicted = new ArrayList<>();
+        connections.compute(customerId, (key, userConnections) -> {
+            List<SseConnection> savedConnections = userConnections != null ? userConnections : new CopyOnWriteArrayList<>();
+            savedConnections.add(connection);
+            while (savedConnections.size() > maxConnections) {
+                evicted.add(savedConnections.remove(0));
+            }
+            return savedConnections;
+        });
+        // 닫힌 연결의 정리 콜백이 같은 키를 다시 갱신하므로 compute 밖에서 닫음
+        evicted.forEach(SseConnection::close);
+    }
+
+    /**
+     * 주어진 아이디의 연결을 제거
+     *
+     * @param customerId - 사용자 아이디.
+     */
+    public void deleteById(Long customerId, SseConnection connection) {
+        // 제거와 빈 목록 정리를 원자적으로 처리해 동시에 저장된 연결을 잃지 않도록 함
+        connections.computeIfPresent(customerId, (key, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    /**
+     * 주어진 아이디의 연결을 가져옴.
+     *
+     * @param customerId - 사용자 아이디.
+     * @return 고객의 연결 목록
+     */
+    public List<SseConnection> get(Long customerId) {
+        return connections.getOrDefault(customerId, List.of());
+    }
+
+    /**
+     * 이 인스턴스의 모든 연결에 대해 실행
+     */
+    public void forEach(BiConsumer<Long, SseConnection> action) {
+        connections.forEach((customerId, userConnections) -> userConnections.forEach(connection -> action.accept(customerId, connection)));
+    }
+
+    /**
+     * 이 인스턴스의 전체 연결 수
+     */
+    public int count() {
+        return connections.values().stream().mapToInt(List::size).sum();
+    }
+}
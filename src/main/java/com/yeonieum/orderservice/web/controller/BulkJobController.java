@@ -0,0 +1,104 @@
+package com.yeonieum.orderservice.web.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.yeonieum.orderservice.domain.bulkjob.service.BulkJobService;
+import com.yeonieum.orderservice.domain.order.dto.request.OrderRequest;
+import com.yeonieum.orderservice.domain.order.policy.OrderStatusPolicy;
+import com.yeonieum.orderservice.domain.release.dto.ReleaseRequest;
+import com.yeonieum.orderservice.domain.release.policy.ReleaseStatusPolicy;
+import com.yeonieum.orderservice.global.auth.Role;
+import com.yeonieum.orderservice.global.enums.BulkJobType;
+import com.yeonieum.orderservice.global.responses.ApiResponse;
+import com.yeonieum.orderservice.global.responses.code.SuccessCode;
+import com.yeonieum.orderservice.global.usercontext.UserContextHolder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/bulk-job")
+public class BulkJobController {
+
+    private final BulkJobService bulkJobService;
+    private final OrderStatusPolicy orderStatusPolicy;
+    private final ReleaseStatusPolicy releaseStatusPolicy;
+
+    @Operation(summary = "주문상태 일괄 변경 작업 제출", description = "주문상태 일괄 변경을 비동기 작업으로 제출합니다. 진행 상태는 작업 조회 API와 SSE로 확인할 수 있습니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "작업 제출 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "작업 제출 실패")
+    })
+    @PostMapping("/order-status")
+    public ResponseEntity<ApiResponse> submitBulkOrderStatusJob(@RequestBody OrderRequest.OfBulkUpdateOrderStatus updateStatus) throws JsonProcessingException {
+        Long customer = Long.valueOf(UserContextHolder.getContext().getUniqueId());
+        String roleType = UserContextHolder.getContext().getRoleType();
+
+        if(!orderStatusPolicy.getOrderStatusPermission().get(updateStatus.getOrderStatusCode()).contains(roleType)) {
+            throw new RuntimeException("접근권한이 없습니다.");
+        }
+
+        return new ResponseEntity<>(ApiResponse.builder()
+                .result(bulkJobService.submitBulkJob(customer, roleType, BulkJobType.ORDER_STATUS, updateStatus, updateStatus.getOrderIds()))
+                .successCode(SuccessCode.INSERT_SUCCESS)
+                .build(), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "출고상태 일괄 변경 작업 제출", description = "출고상태 일괄 변경을 비동기 작업으로 제출합니다. 진행 상태는 작업 조회 API와 SSE로 확인할 수 있습니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "작업 제출 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "작업 제출 실패")
+    })
+    @PostMapping("/release-status")
+    public ResponseEntity<ApiResponse> submitBulkReleaseStatusJob(@RequestBody ReleaseRequest.OfBulkUpdateReleaseStatus updateStatus) throws JsonProcessingException {
+        Long customer = Long.valueOf(UserContextHolder.getContext().getUniqueId());
+        String roleType = UserContextHolder.getContext().getRoleType();
+
+        if(!releaseStatusPolicy.getReleaseStatusPermission().get(updateStatus.getReleaseStatusCode()).contains(roleType)) {
+            throw new RuntimeException("접근권한이 없습니다.");
+        }
+
+        return new ResponseEntity<>(ApiResponse.builder()
+                .result(bulkJobService.submitBulkJob(customer, roleType, BulkJobType.RELEASE_STATUS, updateStatus, updateStatus.getOrderIds()))
+                .successCode(SuccessCode.INSERT_SUCCESS)
+                .build(), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "합포장 작업 제출", description = "합포장 요청을 비동기 작업으로 제출합니다. 진행 상태는 작업 조회 API와 SSE로 확인할 수 있습니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "작업 제출 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "작업 제출 실패")
+    })
+    @PostMapping("/combined-packaging")
+    public ResponseEntity<ApiResponse> submitCombinedPackagingJob(@RequestBody ReleaseRequest.OfBulkUpdateReleaseStatus updateStatus) throws JsonProcessingException {
+        Long customer = Long.valueOf(UserContextHolder.getContext().getUniqueId());
+        String roleType = UserContextHolder.getContext().getRoleType();
+
+        if(!releaseStatusPolicy.getReleaseStatusPermission().get(updateStatus.getReleaseStatusCode()).contains(roleType)) {
+            throw new RuntimeException("접근권한이 없습니다.");
+        }
+
+        return new ResponseEntity<>(ApiResponse.builder()
+                .result(bulkJobService.submitBulkJob(customer, roleType, BulkJobType.COMBINED_PACKAGING, updateStatus, updateStatus.getOrderIds()))
+                .successCode(SuccessCode.INSERT_SUCCESS)
+                .build(), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "일괄 작업 조회", description = "제출한 일괄 작업의 진행률과 주문별 처리 결과를 조회합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "일괄 작업 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "일괄 작업 조회 실패")
+    })
+    @Role(role = {"ROLE_CUSTOMER"}, url = "/api/bulk-job/{bulkJobId}", method = "GET")
+    @GetMapping("/{bulkJobId}")
+    public ResponseEntity<ApiResponse> retrieveBulkJob(@PathVariable Long bulkJobId) {
+        Long customer = Long.valueOf(UserContextHolder.getContext().getUniqueId());
+        return new ResponseEntity<>(ApiResponse.builder()
+                .result(bulkJobService.retrieveBulkJob(customer, bulkJobId))
+                .successCode(SuccessCode.SELECT_SUCCESS)
+                .build(), HttpStatus.OK);
+    }
+}
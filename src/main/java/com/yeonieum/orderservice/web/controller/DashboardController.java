@@ -0,0 +1,39 @@
+package com.yeonieum.orderservice.web.controller;
+
+import com.yeonieum.orderservice.domain.dashboard.service.DashboardService;
+import com.yeonieum.orderservice.global.auth.Role;
+import com.yeonieum.orderservice.global.responses.ApiResponse;
+import com.yeonieum.orderservice.global.responses.code.SuccessCode;
+import com.yeonieum.orderservice.global.usercontext.UserContextHolder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @Operation(summary = "고객 대시보드 스냅샷 조회", description = "고객(seller)의 주문/출고/배송 상태별 카운팅 수를 한 번에 조회합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "대시보드 스냅샷 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "대시보드 스냅샷 조회 실패")
+    })
+    @Role(role = {"ROLE_CUSTOMER"}, url = "/api/dashboard/snapshot", method = "GET")
+    @GetMapping("/snapshot")
+    public ResponseEntity<ApiResponse> retrieveDashboardSnapshot(@RequestParam Long customerId) {
+        Long customer = Long.valueOf(UserContextHolder.getContext().getUniqueId());
+        return new ResponseEntity<>(ApiResponse.builder()
+                .result(dashboardService.retrieveSnapshot(customer))
+                .successCode(SuccessCode.SELECT_SUCCESS)
+                .build(), HttpStatus.OK);
+    }
+}
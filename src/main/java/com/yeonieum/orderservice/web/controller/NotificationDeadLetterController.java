@@ -0,0 +1,62 @@
+package com.yeonieum.orderservice.web.controller;
+
+import com.yeonieum.orderservice.domain.notification.service.NotificationDeadLetterService;
+import com.yeonieum.orderservice.global.auth.Role;
+import com.yeonieum.orderservice.global.enums.DeadLetterStatus;
+import com.yeonieum.orderservice.global.responses.ApiResponse;
+import com.yeonieum.orderservice.global.responses.code.SuccessCode;
+import com.yeonieum.orderservice.global.usercontext.UserContextHolder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/notification/dead-letters")
+public class NotificationDeadLetterController {
+    private static final String ADMIN_ROLE = "ROLE_ADMIN";
+
+    private final NotificationDeadLetterService notificationDeadLetterService;
+
+    @Operation(summary = "알림 dead letter 조회", description = "재시도를 모두 소진한 알림 이벤트를 조회합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "dead letter 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "dead letter 조회 실패")
+    })
+    @Role(role = {ADMIN_ROLE}, url = "/api/notification/dead-letters", method = "GET")
+    @GetMapping
+    public ResponseEntity<ApiResponse> retrieveDeadLetters(@RequestParam(required = false, defaultValue = "DEAD") DeadLetterStatus status,
+                                                           @RequestParam(required = false, defaultValue = "0") int page,
+                                                           @RequestParam(required = false, defaultValue = "20") int size) {
+        checkAdmin();
+        return new ResponseEntity<>(ApiResponse.builder()
+                .result(notificationDeadLetterService.retrieveDeadLetters(status, PageRequest.of(page, size)))
+                .successCode(SuccessCode.SELECT_SUCCESS)
+                .build(), HttpStatus.OK);
+    }
+
+    @Operation(summary = "알림 dead letter 재발행", description = "dead letter에 저장된 원본 메시지를 원래 알림 토픽으로 다시 발행합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "dead letter 재발행 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "dead letter 재발행 실패")
+    })
+    @Role(role = {ADMIN_ROLE}, url = "/api/notification/dead-letters/{notificationDeadLetterId}/replay", method = "POST")
+    @PostMapping("/{notificationDeadLetterId}/replay")
+    public ResponseEntity<ApiResponse> replayDeadLetter(@PathVariable Long notificationDeadLetterId) {
+        checkAdmin();
+        return new ResponseEntity<>(ApiResponse.builder()
+                .result(notificationDeadLetterService.replayDeadLetter(notificationDeadLetterId))
+                .successCode(SuccessCode.UPDATE_SUCCESS)
+                .build(), HttpStatus.OK);
+    }
+
+    private void checkAdmin() {
+        if(!ADMIN_ROLE.equals(UserContextHolder.getContext().getRoleType())) {
+            throw new RuntimeException("접근권한이 없습니다.");
+        }
+    }
+}
@@ -5,15 +5,23 @@ import com.yeonieum.orderservice.domain.notification.service.OrderNotificationSe
 import com.yeonieum.orderservice.domain.order.dto.request.OrderRequest;
 import com.yeonieum.orderservice.domain.order.dto.response.OrderResponse;
 import com.yeonieum.orderservice.domain.order.policy.OrderStatusPolicy;
+import com.yeonieum.orderservice.domain.order.service.OrderExportService;
 import com.yeonieum.orderservice.domain.order.service.OrderProcessService;
+import com.yeonieum.orderservice.domain.order.service.OrderStatusHistoryService;
 import com.yeonieum.orderservice.domain.order.service.OrderTrackingService;
+import com.yeonieum.orderservice.domain.statistics.analytics.StatisticsGroupBy;
+import com.yeonieum.orderservice.domain.statistics.analytics.StatisticsQuery;
 import com.yeonieum.orderservice.domain.statistics.service.StatisticsService;
 import com.yeonieum.orderservice.global.auth.Role;
+import com.yeonieum.orderservice.global.config.MvcAsyncTaskExecutor;
+import com.yeonieum.orderservice.global.enums.ExportFormat;
 import com.yeonieum.orderservice.global.enums.Gender;
 import com.yeonieum.orderservice.global.enums.OrderStatusCode;
 import com.yeonieum.orderservice.global.enums.OrderType;
 import com.yeonieum.orderservice.global.responses.ApiResponse;
+import com.yeonieum.orderservice.global.responses.BulkProcessResult;
 import com.yeonieum.orderservice.global.responses.code.SuccessCode;
+import com.yeonieum.orderservice.global.usercontext.UserContext;
 import com.yeonieum.orderservice.global.usercontext.UserContextHolder;
 import com.yeonieum.orderservice.infrastructure.messaging.dto.ShippedEventMessage;
 import com.yeonieum.orderservice.infrastructure.messaging.producer.OrderEventProducer;
@@ -23,9 +31,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -46,6 +57,8 @@ public class OrderDetailController {
     private final OrderEventProduceService orderEventProduceService;
     private final StatisticsService statisticsService;
     private final OrderEventProducer orderEventProducer;
+    private final OrderExportService orderExportService;
+    private final OrderStatusHistoryService orderStatusHistoryService;
 
     @Operation(summary = "고객용 주문 조회", description = "고객(seller)에게 접수된 주문리스트를 조회합니다. 주문상태에 따라 필터링이 가능합니다.")
     @ApiResponses({
@@ -76,6 +89,35 @@ public class OrderDetailController {
                 .build(), HttpStatus.OK);
     }
 
+    @Operation(summary = "고객용 주문 내보내기", description = "고객(seller)에게 접수된 주문을 CSV 또는 NDJSON 형식으로 스트리밍하여 내려받습니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "주문 내보내기 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류 발생")
+    })
+    @Role(role = {"ROLE_CUSTOMER"}, url = "/api/order/customer-service/export", method = "GET")
+    @GetMapping("/customer-service/export")
+    public ResponseEntity<StreamingResponseBody> exportCustomersOrder(@RequestParam Long customerId,
+                                                                      @RequestParam(required = false) OrderStatusCode orderStatusCode,
+                                                                      @RequestParam(required = false) LocalDate startDate,
+                                                                      @RequestParam(required = false) LocalDate endDate,
+                                                                      @RequestParam(required = false, defaultValue = "CSV") ExportFormat format) {
+        Long customer = Long.valueOf(UserContextHolder.getContext().getUniqueId());
+        // 스트리밍은 별도 스레드에서 수행되므로 Feign 호출에 필요한 사용자 컨텍스트를 넘겨준다.
+        UserContext userContext = UserContextHolder.getContext();
+        StreamingResponseBody body = outputStream -> {
+            try (UserContextHolder.Scope scope = UserContextHolder.open(userContext)) {
+                orderExportService.exportOrdersForCustomer(customer, orderStatusCode, startDate, endDate, format, outputStream);
+            }
+        };
+        // 오래 걸리는 내보내기가 SSE 쓰기 스레드를 점유하지 않도록 전용 실행기에서 스트리밍
+        MvcAsyncTaskExecutor.useExportExecutor();
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders." + format.getExtension() + "\"")
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(body);
+    }
+
     @Operation(summary = "주문상태별 총 주문 수 조회", description = "고객(seller)에게 접수된 주문중 주문상태별 주문접수 수(count)를 조회합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "주문조회 성공"),
@@ -127,6 +169,30 @@ public class OrderDetailController {
     }
 
 
+    @Operation(summary = "주문상태 변경 이력 조회", description = "주문 전체와 주문상품의 상태 변경 이력을 시간순으로 조회합니다. 각 이력에는 직전 상태에 머문 시간이 포함됩니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "주문상태 변경 이력 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류 발생")
+    })
+    @Role(role = {"ROLE_MEMBER", "ROLE_CUSTOMER"}, url = "/api/order/{orderDetailId}/status-history", method = "GET")
+    @GetMapping("/{orderDetailId}/status-history")
+    public ResponseEntity<ApiResponse> getOrderStatusHistory (@PathVariable String orderDetailId) {
+        String loginId;
+        String roleType = UserContextHolder.getContext().getRoleType();
+
+        if(roleType.equals("ROLE_MEMBER")) {
+            loginId = UserContextHolder.getContext().getUserId();
+        } else {
+            loginId = UserContextHolder.getContext().getUniqueId();
+        }
+
+        return new ResponseEntity<>(ApiResponse.builder()
+                .result(orderStatusHistoryService.retrieveStatusTimeline(roleType, loginId, orderDetailId))
+                .successCode(SuccessCode.SELECT_SUCCESS)
+                .build(), HttpStatus.OK);
+    }
+
+
     @Operation(summary = "주문상품 상태변경 요청", description = "회원과 고객이 주문상품상태 변경을 요청합니다.[주의: 주문전체 주문서에 대한 상태변경과 혼동하지 않도록 주의]")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "주문상태변경 성공"),
@@ -193,7 +259,10 @@ public class OrderDetailController {
                     -1L,
                     updateStatus.getOrderId(),
                     ORDER_TOPIC ,
-                    "CANCELED"
+                    "CANCELED",
+                    result.getStoreName(),
+                    result.getMainProductName(),
+                    result.getProductCount()
             );
 
             orderEventProducer.sendCancelMessage(
@@ -228,7 +297,10 @@ public class OrderDetailController {
                     resultPlaceOrder.getCustomerId(),
                     orderDetailId,
                     ORDER_TOPIC ,
-                    "PAYMENT_COMPLETED"
+                    "PAYMENT_COMPLETED",
+                    resultPlaceOrder.getStoreName(),
+                    resultPlaceOrder.getMainProductName(),
+                    resultPlaceOrder.getProductCount()
             );
         } else {
             throw new RuntimeException("주문 생성 실패");
@@ -240,13 +312,14 @@ public class OrderDetailController {
                 .build(), HttpStatus.OK);
     }
 
-    @Operation(summary = "주문상태 일괄 변경 요청", description = "고객이 상품의 주문상태를 일괄 변경 요청합니다.")
+    @Operation(summary = "주문상태 일괄 변경 요청", description = "고객이 상품의 주문상태를 일괄 변경 요청합니다. partialSuccess=true이면 chunk 단위로 커밋하고 주문별 처리 결과를 반환합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "주문 상태 일괄 변경 성공"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "주문 상태 일괄 변경 실패")
     })
     @PatchMapping("/bulk-status")
-    public ResponseEntity<ApiResponse> changeBulkOrderStatus(@RequestBody OrderRequest.OfBulkUpdateOrderStatus updateStatus) throws JsonProcessingException {
+    public ResponseEntity<ApiResponse> changeBulkOrderStatus(@RequestBody OrderRequest.OfBulkUpdateOrderStatus updateStatus,
+                                                             @RequestParam(defaultValue = "false") boolean partialSuccess) throws JsonProcessingException {
         Long customer = Long.valueOf(UserContextHolder.getContext().getUniqueId());
         String roleType = UserContextHolder.getContext().getRoleType();
 
@@ -254,20 +327,18 @@ public class OrderDetailController {
             throw new RuntimeException("접근권한이 없습니다.");
         }
 
-        List<OrderResponse.OfResultUpdateStatus> resultPlaceOrders = orderProcessService.changeBulkOrderStatus(customer, updateStatus);
-        for (OrderResponse.OfResultUpdateStatus resultPlaceOrder : resultPlaceOrders) {
-            if(updateStatus.getOrderStatusCode().equals(OrderStatusCode.PREPARING_PRODUCT)) {
-                orderEventProducer.sendApproveMessage(
-                        resultPlaceOrder.getProductOrderEntityList().stream().map(productOrderEntity ->
-                                ShippedEventMessage.convertedBy(resultPlaceOrder.getOrderDetailId(), productOrderEntity)).collect(Collectors.toList()));
-            }
-
-            if(updateStatus.getOrderStatusCode().equals(OrderStatusCode.CANCELED)) {
-                orderEventProducer.sendCancelMessage(
-                        resultPlaceOrder.getProductOrderEntityList().stream().map(productOrderEntity ->
-                                ShippedEventMessage.convertedBy(resultPlaceOrder.getOrderDetailId(), productOrderEntity)).collect(Collectors.toList()));
-            }
+        if (partialSuccess) {
+            BulkProcessResult<OrderResponse.OfResultUpdateStatus> bulkProcessResult = orderProcessService.changeBulkOrderStatusPartially(customer, updateStatus);
+            // 커밋된 주문에 대해서만 이벤트 발행
+            orderEventProduceService.produceBulkOrderStatusEvents(updateStatus.getOrderStatusCode(), bulkProcessResult.getSucceeded());
+            return new ResponseEntity<>(ApiResponse.builder()
+                    .result(bulkProcessResult.mapSucceeded(OrderResponse.OfResultUpdateStatus::getOrderDetailId))
+                    .successCode(SuccessCode.UPDATE_SUCCESS)
+                    .build(), HttpStatus.OK);
         }
+
+        List<OrderResponse.OfResultUpdateStatus> resultPlaceOrders = orderProcessService.changeBulkOrderStatus(customer, updateStatus);
+        orderEventProduceService.produceBulkOrderStatusEvents(updateStatus.getOrderStatusCode(), resultPlaceOrders);
         return new ResponseEntity<>(ApiResponse.builder()
                 .result(null)
                 .successCode(SuccessCode.UPDATE_SUCCESS)
@@ -322,4 +393,84 @@ public class OrderDetailController {
                 .successCode(SuccessCode.SELECT_SUCCESS)
                 .build(), HttpStatus.OK);
     }
+
+    @Operation(summary = "고객 판매 통계 집계 조회", description = "고객(seller)의 판매 통계를 조건으로 필터링하고 최대 두 기준으로 묶어 주문 수, 판매 수량, 매출을 집계합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "통계 집계 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "통계 집계 조회 실패")
+    })
+    @Role(role = {"ROLE_CUSTOMER"}, url = "/api/order/statistics/aggregate", method = "GET")
+    @GetMapping("/statistics/aggregate")
+    public ResponseEntity<ApiResponse> getStatisticsAggregation (@RequestParam Long customerId,
+                                                                 @RequestParam(required = false) List<StatisticsGroupBy> groupBy,
+                                                                 @RequestParam(required = false) LocalDate startDate,
+                                                                 @RequestParam(required = false) LocalDate endDate,
+                                                                 @RequestParam(required = false) Gender gender,
+                                                                 @RequestParam(required = false) Integer ageRange,
+                                                                 @RequestParam(required = false) OrderType orderType,
+                                                                 @RequestParam(required = false) Long productId) {
+        Long customer = Long.valueOf(UserContextHolder.getContext().getUniqueId());
+        StatisticsQuery query = StatisticsQuery.builder()
+                .groupBy(groupBy != null ? groupBy : List.of())
+                .startDate(startDate)
+                .endDate(endDate)
+                .gender(gender)
+                .ageRange(ageRange)
+                .orderType(orderType)
+                .productId(productId)
+                .build();
+
+        return new ResponseEntity<>(ApiResponse.builder()
+                .result(statisticsService.aggregateStatistics(customer, query))
+                .successCode(SuccessCode.SELECT_SUCCESS)
+                .build(), HttpStatus.OK);
+    }
+
+    @Operation(summary = "고객 재구매 회원 수 조회", description = "기간 내 서로 다른 날짜에 두 번 이상 구매한 회원 수를 조회합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "재구매 회원 수 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "재구매 회원 수 조회 실패")
+    })
+    @Role(role = {"ROLE_CUSTOMER"}, url = "/api/order/statistics/repeat-buyers", method = "GET")
+    @GetMapping("/statistics/repeat-buyers")
+    public ResponseEntity<ApiResponse> getRepeatBuyers (@RequestParam Long customerId,
+                                                        @RequestParam(required = false) LocalDate startDate,
+                                                        @RequestParam(required = false) LocalDate endDate) {
+        Long customer = Long.valueOf(UserContextHolder.getContext().getUniqueId());
+
+        return new ResponseEntity<>(ApiResponse.builder()
+                .result(statisticsService.countRepeatBuyers(customer, startDate, endDate))
+                .successCode(SuccessCode.SELECT_SUCCESS)
+                .build(), HttpStatus.OK);
+    }
+
+    @Operation(summary = "주문상태별 체류 시간 조회", description = "기간 내 고객 주문이 상태별로 머문 시간의 p50/p90/p99/최대값(초)을 조회합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "체류 시간 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "체류 시간 조회 실패")
+    })
+    @Role(role = {"ROLE_CUSTOMER"}, url = "/api/order/statistics/status-durations", method = "GET")
+    @GetMapping("/statistics/status-durations")
+    public ResponseEntity<ApiResponse> getStatusDurations (@RequestParam LocalDate startDate,
+                                                           @RequestParam LocalDate endDate) {
+        Long customer = Long.valueOf(UserContextHolder.getContext().getUniqueId());
+
+        return new ResponseEntity<>(ApiResponse.builder()
+                .result(orderStatusHistoryService.retrieveStatusDurations(customer, startDate, endDate))
+                .successCode(SuccessCode.SELECT_SUCCESS)
+                .build(), HttpStatus.OK);
+    }
+
+    @Operation(summary = "상품 랭킹 엔진 상태 조회", description = "메모리 랭킹 엔진의 근사 오차, 집계 기간, 마지막 재구성 시각을 조회합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "랭킹 엔진 상태 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "랭킹 엔진 상태 조회 실패")
+    })
+    @GetMapping("/ranking/engine-status")
+    public ResponseEntity<ApiResponse> getRankingEngineStatus () {
+        return new ResponseEntity<>(ApiResponse.builder()
+                .result(statisticsService.retrieveRankingEngineStatus())
+                .successCode(SuccessCode.SELECT_SUCCESS)
+                .build(), HttpStatus.OK);
+    }
 }
@@ -122,19 +122,27 @@ public class ReleaseController {
                 .build(), HttpStatus.OK);
     }
 
-    @Operation(summary = "출고상태 일괄 변경 요청", description = "고객이 상품의 출고상태를 일괄 변경 요청합니다.")
+    @Operation(summary = "출고상태 일괄 변경 요청", description = "고객이 상품의 출고상태를 일괄 변경 요청합니다. partialSuccess=true이면 chunk 단위로 커밋하고 주문별 처리 결과를 반환합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "출고 상태 일괄 변경 성공"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "출고 상태 일괄 변경 실패")
     })
     @PatchMapping("/bulk-status")
-    public ResponseEntity<ApiResponse> changeBulkReleaseStatus(@RequestBody ReleaseRequest.OfBulkUpdateReleaseStatus updateStatus) {
+    public ResponseEntity<ApiResponse> changeBulkReleaseStatus(@RequestBody ReleaseRequest.OfBulkUpdateReleaseStatus updateStatus,
+                                                               @RequestParam(defaultValue = "false") boolean partialSuccess) {
         String roleType = UserContextHolder.getContext().getRoleType();
         Long customer = Long.valueOf(UserContextHolder.getContext().getUniqueId());
         if(!releaseStatusPolicy.getReleaseStatusPermission().get(updateStatus.getReleaseStatusCode()).contains(roleType)) {
             throw new RuntimeException("접근권한이 없습니다.");
         }
 
+        if (partialSuccess) {
+            return new ResponseEntity<>(ApiResponse.builder()
+                    .result(releaseService.changeBulkReleaseStatusPartially(customer, updateStatus))
+                    .successCode(SuccessCode.UPDATE_SUCCESS)
+                    .build(), HttpStatus.OK);
+        }
+
         releaseService.changeBulkReleaseStatus(customer, updateStatus);
         return new ResponseEntity<>(ApiResponse.builder()
                 .result(null)
@@ -5,12 +5,13 @@ import com.yeonieum.orderservice.global.auth.Role;
 import com.yeonieum.orderservice.global.usercontext.UserContextHolder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
 
@@ -21,9 +22,10 @@ public class SseController {
     private final OrderNotificationServiceForCustomer notificationService;
 
     @Role(role = {"ROLE_CUSTOMER"}, url = "/api/order-notification/{customerId}/subscription", method = "GET")
-    @GetMapping(value = "/{customerId}/subscription", produces = MediaType.ALL_VALUE)
-    public ResponseEntity<SseEmitter> connect(@PathVariable Long customerId) throws IOException {
+    @GetMapping(value = "/{customerId}/subscription", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> connect(@PathVariable Long customerId,
+                                                 @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) throws IOException {
         Long customer = Long.valueOf(UserContextHolder.getContext().getUniqueId());
-        return ResponseEntity.ok(notificationService.subscribe(customer));
+        return notificationService.subscribe(customer, lastEventId);
     }
 }
@@ -14,14 +14,18 @@ public class UserContextFilter implements Filter {
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
         HttpServletRequest httpServletRequest = (HttpServletRequest) request;
 
-        UserContextHolder.getContext().builder()
-                        .authToken(httpServletRequest.getHeader(UserContext.AUTH_TOKEN))
-                        .transactionId(httpServletRequest.getHeader(UserContext.TRANSACTION_ID))
-                        .userId(httpServletRequest.getHeader(UserContext.USER_ID))
-                        .serviceId(httpServletRequest.getHeader(UserContext.SERVICE_ID))
-                        .uniqueId(httpServletRequest.getHeader(UserContext.UNIQUE_ID))
-                        .roleType(httpServletRequest.getHeader(UserContext.ROLE_TYPE))
-                        .build();
-        chain.doFilter(request, response);
+        UserContext userContext = UserContext.builder()
+                .authToken(httpServletRequest.getHeader(UserContext.AUTH_TOKEN))
+                .transactionId(httpServletRequest.getHeader(UserContext.TRANSACTION_ID))
+                .userId(httpServletRequest.getHeader(UserContext.USER_ID))
+                .serviceId(httpServletRequest.getHeader(UserContext.SERVICE_ID))
+                .uniqueId(httpServletRequest.getHeader(UserContext.UNIQUE_ID))
+                .roleType(httpServletRequest.getHeader(UserContext.ROLE_TYPE))
+                .build();
+
+        // 요청이 끝나면 사용자 정보를 해제해 재사용되는 스레드에 남지 않도록 함
+        try (UserContextHolder.Scope scope = UserContextHolder.open(userContext)) {
+            chain.doFilter(request, response);
+        }
     }
 }
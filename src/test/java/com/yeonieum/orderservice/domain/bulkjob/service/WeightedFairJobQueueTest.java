@@ -0,0 +1,85 @@
+package com.yeonieum.orderservice.domain.bulkjob.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WeightedFairJobQueueTest {
+    private static final long QUANTUM = 500;
+    private static final long CUSTOMER_A = 1L;
+    private static final long CUSTOMER_B = 2L;
+
+    @Test
+    void equalWeightsAlternateBetweenCustomers() throws InterruptedException {
+        WeightedFairJobQueue queue = new WeightedFairJobQueue(QUANTUM, customerId -> 1);
+        offer(queue, CUSTOMER_A, 3, 500);
+        offer(queue, CUSTOMER_B, 3, 500);
+
+        assertEquals(List.of(CUSTOMER_A, CUSTOMER_B, CUSTOMER_A, CUSTOMER_B, CUSTOMER_A, CUSTOMER_B), takeCustomers(queue, 6));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void customerWithHigherWeightGetsProportionalShare() throws InterruptedException {
+        Map<Long, Integer> weights = Map.of(CUSTOMER_A, 3, CUSTOMER_B, 1);
+        WeightedFairJobQueue queue = new WeightedFairJobQueue(QUANTUM, weights::get);
+        offer(queue, CUSTOMER_A, 20, 500);
+        offer(queue, CUSTOMER_B, 20, 500);
+
+        // 가중치 3:1 이므로 한 바퀴(4건)마다 A 3건, B 1건
+        List<Long> customers = takeCustomers(queue, 16);
+        assertEquals(12, customers.stream().filter(customerId -> customerId == CUSTOMER_A).count());
+        assertEquals(4, customers.stream().filter(customerId -> customerId == CUSTOMER_B).count());
+    }
+
+    @Test
+    void largeJobDoesNotBlockSmallJobsOfOtherCustomer() throws InterruptedException {
+        WeightedFairJobQueue queue = new WeightedFairJobQueue(QUANTUM, customerId -> 1);
+        offer(queue, CUSTOMER_A, 1, 5000);
+        offer(queue, CUSTOMER_B, 3, 100);
+
+        assertEquals(List.of(CUSTOMER_B, CUSTOMER_B, CUSTOMER_B, CUSTOMER_A), takeCustomers(queue, 4));
+    }
+
+    @Test
+    void jobsOfSameCustomerKeepSubmissionOrder() throws InterruptedException {
+        WeightedFairJobQueue queue = new WeightedFairJobQueue(QUANTUM, customerId -> 1);
+        queue.offer(new WeightedFairJobQueue.Ticket(10L, CUSTOMER_A, 700));
+        queue.offer(new WeightedFairJobQueue.Ticket(11L, CUSTOMER_A, 1));
+        queue.offer(new WeightedFairJobQueue.Ticket(12L, CUSTOMER_A, 300));
+
+        assertEquals(10L, queue.take().bulkJobId());
+        assertEquals(11L, queue.take().bulkJobId());
+        assertEquals(12L, queue.take().bulkJobId());
+    }
+
+    @Test
+    void idleCustomerDoesNotKeepAccumulatedDeficit() throws InterruptedException {
+        WeightedFairJobQueue queue = new WeightedFairJobQueue(QUANTUM, customerId -> 1);
+        // A는 비용 1 작업 하나만 처리하고 큐를 비움 (적립한 499는 버려야 함)
+        offer(queue, CUSTOMER_A, 1, 1);
+        assertEquals(CUSTOMER_A, queue.take().customerId());
+
+        offer(queue, CUSTOMER_B, 2, 500);
+        offer(queue, CUSTOMER_A, 2, 500);
+        assertEquals(List.of(CUSTOMER_B, CUSTOMER_A, CUSTOMER_B, CUSTOMER_A), takeCustomers(queue, 4));
+    }
+
+    private static void offer(WeightedFairJobQueue queue, long customerId, int count, int cost) {
+        for (int index = 0; index < count; index++) {
+            queue.offer(new WeightedFairJobQueue.Ticket(customerId * 1000 + index, customerId, cost));
+        }
+    }
+
+    private static List<Long> takeCustomers(WeightedFairJobQueue queue, int count) throws InterruptedException {
+        List<Long> customers = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            customers.add(queue.take().customerId());
+        }
+        return customers;
+    }
+}
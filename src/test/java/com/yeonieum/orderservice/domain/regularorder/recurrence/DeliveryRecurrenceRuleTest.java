@@ -0,0 +1,222 @@
+package com.yeonieum.orderservice.domain.regularorder.recurrence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yeonieum.orderservice.domain.regularorder.dto.request.RegularOrderRequest;
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplication;
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplicationDay;
+import com.yeonieum.orderservice.global.enums.DayOfWeek;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeliveryRecurrenceRuleTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+    private static final List<List<DayOfWeek>> DAY_SETS = List.of(
+            List.of(DayOfWeek.MONDAY),
+            List.of(DayOfWeek.SUNDAY),
+            List.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY),
+            List.of(DayOfWeek.FRIDAY, DayOfWeek.MONDAY),
+            List.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY, DayOfWeek.WEDNESDAY),
+            List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY));
+
+    @Test
+    void matchesLegacyDeliveryDates() {
+        LocalDate firstStartDate = LocalDate.of(2024, 1, 1);
+        for (List<DayOfWeek> dayOfWeeks : DAY_SETS) {
+            for (int cycleWeeks = 1; cycleWeeks <= 4; cycleWeeks++) {
+                for (int startOffset = 0; startOffset < 14; startOffset++) {
+                    LocalDate startDate = firstStartDate.plusDays(startOffset);
+                    for (int periodDays = 0; periodDays <= 120; periodDays += 5) {
+                        LocalDate endDate = startDate.plusDays(periodDays);
+                        RegularOrderRequest.DeliveryPeriod deliveryPeriod = deliveryPeriod(startDate, endDate, cycleWeeks, dayOfWeeks);
+                        DeliveryRecurrenceRule rule = DeliveryRecurrenceRule.of(deliveryPeriod);
+                        Set<LocalDate> legacyDates = legacyDeliveryDates(startDate, endDate, cycleWeeks, dayOfWeeks);
+
+                        assertEquals(List.copyOf(legacyDates), dates(rule.occurrencesBetween(startDate, endDate)));
+                        assertEquals(legacyDates.size(), rule.countOccurrences());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void occurrenceByRoundAgreesWithOccurrencesBetweenAndCount() {
+        LocalDate anchorDate = LocalDate.of(2024, 1, 1);
+        for (List<DayOfWeek> dayOfWeeks : DAY_SETS) {
+            for (int cycleWeeks = 1; cycleWeeks <= 3; cycleWeeks++) {
+                for (int periodDays = 0; periodDays <= 90; periodDays += 3) {
+                    DeliveryRecurrenceRule rule = new DeliveryRecurrenceRule(anchorDate, anchorDate.plusDays(periodDays), cycleWeeks, dayOfWeeks);
+                    List<DeliveryRecurrenceRule.Occurrence> occurrences = rule.occurrencesBetween(anchorDate, rule.getEndDate());
+
+                    assertEquals(rule.countOccurrences(), occurrences.size());
+                    for (int index = 0; index < occurrences.size(); index++) {
+                        DeliveryRecurrenceRule.Occurrence occurrence = occurrences.get(index);
+                        assertEquals(index + 1, occurrence.round());
+                        assertEquals(Optional.of(occurrence), rule.occurrence(occurrence.round()));
+                    }
+                    assertEquals(Optional.empty(), rule.occurrence(occurrences.size() + 1));
+                    assertEquals(Optional.empty(), rule.occurrence(0));
+                }
+            }
+        }
+    }
+
+    @Test
+    void multipleDaysEveryOtherWeek() {
+        // 2024-01-01 월요일 기준, 2주마다 월/수/금
+        DeliveryRecurrenceRule rule = new DeliveryRecurrenceRule(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), 2,
+                List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY));
+
+        assertEquals(List.of(
+                        LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 5),
+                        LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 17), LocalDate.of(2024, 1, 19),
+                        LocalDate.of(2024, 1, 29), LocalDate.of(2024, 1, 31)),
+                dates(rule.occurrencesBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))));
+        assertEquals(8, rule.countOccurrences());
+        assertEquals(Optional.of(new DeliveryRecurrenceRule.Occurrence(5, LocalDate.of(2024, 1, 17))), rule.occurrence(5));
+    }
+
+    @Test
+    void endDateInMiddleOfWeekCutsLastWeek() {
+        DeliveryRecurrenceRule rule = new DeliveryRecurrenceRule(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 30), 2,
+                List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY));
+
+        assertEquals(7, rule.countOccurrences());
+        assertEquals(Optional.of(new DeliveryRecurrenceRule.Occurrence(7, LocalDate.of(2024, 1, 29))), rule.occurrence(7));
+        assertEquals(Optional.empty(), rule.occurrence(8));
+        assertEquals(List.of(LocalDate.of(2024, 1, 29)),
+                dates(rule.occurrencesBetween(LocalDate.of(2024, 1, 20), LocalDate.of(2024, 2, 29))));
+    }
+
+    @Test
+    void endDateBeforeAnchorHasNoOccurrences() {
+        DeliveryRecurrenceRule rule = new DeliveryRecurrenceRule(LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 5), 1,
+                List.of(DayOfWeek.MONDAY));
+
+        assertEquals(0, rule.countOccurrences());
+        assertEquals(List.of(), rule.occurrencesBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)));
+        assertEquals(Optional.empty(), rule.occurrence(1));
+    }
+
+    @Test
+    void occurrencesBetweenSkipsEarlierWeeksWithoutChangingRounds() {
+        LocalDate anchorDate = LocalDate.of(2024, 1, 3);
+        for (List<DayOfWeek> dayOfWeeks : DAY_SETS) {
+            for (int cycleWeeks = 1; cycleWeeks <= 3; cycleWeeks++) {
+                DeliveryRecurrenceRule rule = new DeliveryRecurrenceRule(anchorDate, anchorDate.plusDays(150), cycleWeeks, dayOfWeeks);
+                List<DeliveryRecurrenceRule.Occurrence> all = rule.occurrencesBetween(anchorDate.minusDays(30), rule.getEndDate());
+
+                // 구간 시작이 배송 주의 중간이어도 그 주의 남은 배송일과 회차가 전체 목록과 같아야 함
+                for (int fromOffset = -10; fromOffset <= 160; fromOffset++) {
+                    for (int length = 0; length <= 20; length += 4) {
+                        LocalDate from = anchorDate.plusDays(fromOffset);
+                        LocalDate to = from.plusDays(length);
+                        List<DeliveryRecurrenceRule.Occurrence> expected = all.stream()
+                                .filter(occurrence -> !occurrence.date().isBefore(from) && !occurrence.date().isAfter(to))
+                                .toList();
+
+                        assertEquals(expected, rule.occurrencesBetween(from, to));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void legacyApplicationRestoresAnchorFromFirstDeliveryDate() {
+        LocalDate requestStartDate = LocalDate.of(2024, 3, 6);
+        LocalDate endDate = LocalDate.of(2024, 6, 30);
+        List<DayOfWeek> dayOfWeeks = List.of(DayOfWeek.WEDNESDAY, DayOfWeek.MONDAY);
+        Set<LocalDate> legacyDates = legacyDeliveryDates(requestStartDate, endDate, 2, dayOfWeeks);
+
+        // 규칙 저장 이전의 신청은 기준일이 없고 시작일이 첫 배송일로 바뀌어 저장됨
+        RegularDeliveryApplication application = application(legacyDates.iterator().next(), endDate, 2, dayOfWeeks, null);
+        DeliveryRecurrenceRule rule = DeliveryRecurrenceRule.of(application);
+
+        assertEquals(List.copyOf(legacyDates), dates(rule.occurrencesBetween(application.getStartDate(), endDate)));
+        assertEquals(legacyDates.size(), rule.countOccurrences());
+    }
+
+    @Test
+    void ruleBasedApplicationUsesStoredAnchor() {
+        LocalDate anchorDate = LocalDate.of(2024, 3, 13);
+        RegularDeliveryApplication application = application(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 30), 1,
+                List.of(DayOfWeek.WEDNESDAY), anchorDate);
+
+        DeliveryRecurrenceRule rule = DeliveryRecurrenceRule.of(application);
+
+        assertEquals(anchorDate, rule.getAnchorDate());
+        assertEquals(Optional.of(new DeliveryRecurrenceRule.Occurrence(1, anchorDate)), rule.occurrence(1));
+    }
+
+    @Test
+    void rejectsInvalidCycleOrEmptyDays() {
+        LocalDate anchorDate = LocalDate.of(2024, 1, 1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new DeliveryRecurrenceRule(anchorDate, anchorDate.plusDays(30), 0, List.of(DayOfWeek.MONDAY)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DeliveryRecurrenceRule(anchorDate, anchorDate.plusDays(30), 1, List.of()));
+    }
+
+    /**
+     * 반복 규칙 도입 전 RegularOrderService.calculateDeliveryDates 와 같은 계산
+     */
+    private static Set<LocalDate> legacyDeliveryDates(LocalDate startDate, LocalDate endDate, int cycleWeeks, List<DayOfWeek> dayOfWeeks) {
+        LocalDate nextDeliveryDate = startDate.with(TemporalAdjusters.next(java.time.DayOfWeek.valueOf(dayOfWeeks.get(0).getStoredDayValue()))).plusDays(7);
+        Set<LocalDate> deliveryDateSet = new TreeSet<>();
+        while (!nextDeliveryDate.isAfter(endDate)) {
+            for (DayOfWeek deliveryDay : dayOfWeeks) {
+                LocalDate deliveryDate = nextDeliveryDate.with(TemporalAdjusters.nextOrSame(java.time.DayOfWeek.valueOf(deliveryDay.getStoredDayValue())));
+                if (!deliveryDate.isAfter(endDate)) {
+                    deliveryDateSet.add(deliveryDate);
+                }
+            }
+            nextDeliveryDate = nextDeliveryDate.plusWeeks(cycleWeeks);
+        }
+        return deliveryDateSet;
+    }
+
+    private static RegularOrderRequest.DeliveryPeriod deliveryPeriod(LocalDate startDate, LocalDate endDate, int cycleWeeks,
+                                                                     List<DayOfWeek> dayOfWeeks) {
+        return OBJECT_MAPPER.convertValue(Map.of(
+                "startDate", startDate.toString(),
+                "endDate", endDate.toString(),
+                "deliveryCycle", cycleWeeks,
+                "deliveryDayOfWeeks", dayOfWeeks.stream().map(DayOfWeek::name).toList()), RegularOrderRequest.DeliveryPeriod.class);
+    }
+
+    private static RegularDeliveryApplication application(LocalDate startDate, LocalDate endDate, int cycleWeeks,
+                                                          List<DayOfWeek> dayOfWeeks, LocalDate anchorDate) {
+        List<RegularDeliveryApplicationDay> days = new ArrayList<>();
+        for (int index = 0; index < dayOfWeeks.size(); index++) {
+            days.add(RegularDeliveryApplicationDay.builder()
+                    .regularDeliveryApplicationDayId((long) index + 1)
+                    .dayCode(dayOfWeeks.get(index))
+                    .build());
+        }
+        return RegularDeliveryApplication.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .cycle(cycleWeeks)
+                .deliveryAnchorDate(anchorDate)
+                .regularDeliveryApplicationDayList(days)
+                .build();
+    }
+
+    private static List<LocalDate> dates(List<DeliveryRecurrenceRule.Occurrence> occurrences) {
+        return occurrences.stream().map(DeliveryRecurrenceRule.Occurrence::date).toList();
+    }
+}
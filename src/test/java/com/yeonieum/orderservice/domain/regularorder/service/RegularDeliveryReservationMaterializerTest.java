@@ -0,0 +1,147 @@
+package com.yeonieum.orderservice.domain.regularorder.service;
+
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplication;
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplicationDay;
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryApplicationProduct;
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryReservation;
+import com.yeonieum.orderservice.domain.regularorder.entity.RegularDeliveryStatus;
+import com.yeonieum.orderservice.domain.regularorder.repository.RegularDeliveryApplicationRepository;
+import com.yeonieum.orderservice.domain.regularorder.repository.RegularDeliveryReservationRepository;
+import com.yeonieum.orderservice.domain.regularorder.repository.RegularDeliveryStatusRepository;
+import com.yeonieum.orderservice.global.enums.DayOfWeek;
+import com.yeonieum.orderservice.global.enums.RegularDeliveryStatusCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RegularDeliveryReservationMaterializerTest {
+    private static final Long APPLICATION_ID = 1L;
+    private static final LocalDate ANCHOR_DATE = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2024, 3, 31);
+
+    @Mock
+    private RegularDeliveryApplicationRepository regularDeliveryApplicationRepository;
+    @Mock
+    private RegularDeliveryReservationRepository regularDeliveryReservationRepository;
+    @Mock
+    private RegularDeliveryStatusRepository regularDeliveryStatusRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @InjectMocks
+    private RegularDeliveryReservationMaterializer materializer;
+    @Captor
+    private ArgumentCaptor<List<RegularDeliveryReservation>> reservationsCaptor;
+
+    @Test
+    void skipsWhenAnotherInstanceClaimedFirst() {
+        RegularDeliveryApplication application = application(null);
+        LocalDate throughDate = LocalDate.of(2024, 1, 31);
+        when(regularDeliveryApplicationRepository.claimMaterialization(APPLICATION_ID, null, throughDate)).thenReturn(0);
+
+        materializer.materialize(application, throughDate);
+
+        assertNull(application.getMaterializedThroughDate());
+        verifyNoInteractions(regularDeliveryStatusRepository, regularDeliveryReservationRepository);
+    }
+
+    @Test
+    void concurrentMaterializationCreatesRoundsOnce() {
+        // 두 인스턴스가 같은 시점의 신청을 읽고 동시에 예약 행을 만들려는 상황
+        RegularDeliveryApplication loadedByFirst = application(null);
+        RegularDeliveryApplication loadedBySecond = application(null);
+        LocalDate throughDate = LocalDate.of(2024, 1, 31);
+        when(regularDeliveryApplicationRepository.claimMaterialization(APPLICATION_ID, null, throughDate)).thenReturn(1, 0);
+        when(regularDeliveryStatusRepository.findByStatusName(RegularDeliveryStatusCode.PENDING.getCode())).thenReturn(pendingStatus());
+
+        materializer.materialize(loadedByFirst, throughDate);
+        materializer.materialize(loadedBySecond, throughDate);
+
+        verify(regularDeliveryReservationRepository, times(1)).saveAll(reservationsCaptor.capture());
+        // 1월: 1, 3, 5, 15, 17, 19, 29, 31일 8회차 × 상품 2개
+        assertEquals(16, reservationsCaptor.getValue().size());
+        assertEquals(throughDate, loadedByFirst.getMaterializedThroughDate());
+        assertNull(loadedBySecond.getMaterializedThroughDate());
+    }
+
+    @Test
+    void resumesAfterMaterializedThroughDate() {
+        RegularDeliveryApplication application = application(LocalDate.of(2024, 1, 14));
+        LocalDate throughDate = LocalDate.of(2024, 1, 31);
+        when(regularDeliveryApplicationRepository.claimMaterialization(APPLICATION_ID, LocalDate.of(2024, 1, 14), throughDate)).thenReturn(1);
+        when(regularDeliveryStatusRepository.findByStatusName(RegularDeliveryStatusCode.PENDING.getCode())).thenReturn(pendingStatus());
+
+        materializer.materialize(application, throughDate);
+
+        verify(regularDeliveryReservationRepository).saveAll(reservationsCaptor.capture());
+        List<RegularDeliveryReservation> reservations = reservationsCaptor.getValue();
+        assertEquals(List.of(4, 4, 5, 5, 6, 6, 7, 7, 8, 8),
+                reservations.stream().map(RegularDeliveryReservation::getDeliveryRounds).toList());
+        assertEquals(LocalDate.of(2024, 1, 15), reservations.get(0).getStartDate());
+        assertEquals(LocalDate.of(2024, 1, 31), reservations.get(reservations.size() - 1).getStartDate());
+        assertEquals(List.of(10L, 20L, 10L, 20L, 10L, 20L, 10L, 20L, 10L, 20L),
+                reservations.stream().map(RegularDeliveryReservation::getProductId).toList());
+        assertEquals(throughDate, application.getMaterializedThroughDate());
+    }
+
+    @Test
+    void skipsWhenAlreadyMaterializedThroughTarget() {
+        RegularDeliveryApplication application = application(LocalDate.of(2024, 1, 31));
+
+        materializer.materialize(application, LocalDate.of(2024, 1, 31));
+
+        verify(regularDeliveryApplicationRepository, never()).claimMaterialization(any(), any(), any());
+        verify(regularDeliveryReservationRepository, never()).saveAll(anyList());
+    }
+
+    /**
+     * 2024-01-01 기준, 2주마다 월/수/금, 상품 2개인 진행 중 신청
+     */
+    private static RegularDeliveryApplication application(LocalDate materializedThroughDate) {
+        List<RegularDeliveryApplicationDay> days = new ArrayList<>();
+        List<DayOfWeek> dayOfWeeks = List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY);
+        for (int index = 0; index < dayOfWeeks.size(); index++) {
+            days.add(RegularDeliveryApplicationDay.builder()
+                    .regularDeliveryApplicationDayId((long) index + 1)
+                    .dayCode(dayOfWeeks.get(index))
+                    .build());
+        }
+        return RegularDeliveryApplication.builder()
+                .regularDeliveryApplicationId(APPLICATION_ID)
+                .memberId("member")
+                .cycle(2)
+                .startDate(ANCHOR_DATE)
+                .endDate(END_DATE)
+                .deliveryAnchorDate(ANCHOR_DATE)
+                .materializedThroughDate(materializedThroughDate)
+                .regularDeliveryStatus(pendingStatus())
+                .regularDeliveryApplicationDayList(days)
+                .regularDeliveryApplicationProductList(new ArrayList<>(List.of(
+                        RegularDeliveryApplicationProduct.builder().productId(10L).quantity(1).build(),
+                        RegularDeliveryApplicationProduct.builder().productId(20L).quantity(2).build())))
+                .build();
+    }
+
+    private static RegularDeliveryStatus pendingStatus() {
+        return RegularDeliveryStatus.builder().statusName(RegularDeliveryStatusCode.PENDING.getCode()).build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.yeonieum.orderservice.domain.statistics.analytics;
+
+import com.yeonieum.orderservice.global.enums.Gender;
+import com.yeonieum.orderservice.global.enums.OrderType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CustomerStatisticsColumnsTest {
+
+    @Test
+    void packedAttributesDecodeToOriginalValues() {
+        for (Gender gender : Gender.values()) {
+            for (OrderType orderType : OrderType.values()) {
+                for (int ageRange = 0; ageRange <= 100; ageRange += 10) {
+                    int packed = CustomerStatisticsColumns.ColumnSnapshot.packAttributes(gender, ageRange, orderType);
+                    CustomerStatisticsColumns.ColumnSnapshot snapshot = new CustomerStatisticsColumns.ColumnSnapshot(
+                            new int[1], new int[1], new int[1], new int[]{packed}, new int[1], new int[1], 1);
+
+                    assertEquals(gender.ordinal(), snapshot.gender(0));
+                    assertEquals(orderType.ordinal(), snapshot.orderType(0));
+                    assertEquals(ageRange, snapshot.ageRange(0));
+                }
+            }
+        }
+    }
+
+    @Test
+    void appendedRowsDecodeThroughDictionaries() {
+        CustomerStatisticsColumns columns = new CustomerStatisticsColumns();
+        LocalDate purchaseDate = LocalDate.of(2024, 5, 1);
+        // 초기 용량(256)을 넘겨 배열이 늘어나는 경우까지 확인
+        int rowCount = 1000;
+        for (int row = 0; row < rowCount; row++) {
+            columns.append("member-" + row % 7, (long) (row % 13), purchaseDate.plusDays(row % 30),
+                    Gender.values()[row % Gender.values().length], row % 9 * 10,
+                    OrderType.values()[row % OrderType.values().length], row % 5 + 1, row * 100);
+        }
+
+        CustomerStatisticsColumns.ColumnSnapshot snapshot = columns.snapshot();
+        assertEquals(rowCount, snapshot.size());
+        for (int row = 0; row < rowCount; row++) {
+            assertEquals("member-" + row % 7, columns.memberDictionary.decode(snapshot.memberCodes()[row]));
+            assertEquals((long) (row % 13), columns.productDictionary.decode(snapshot.productCodes()[row]));
+            assertEquals(purchaseDate.plusDays(row % 30), LocalDate.ofEpochDay(snapshot.epochDays()[row]));
+            assertEquals(row % Gender.values().length, snapshot.gender(row));
+            assertEquals(row % 9 * 10, snapshot.ageRange(row));
+            assertEquals(row % OrderType.values().length, snapshot.orderType(row));
+            assertEquals(row % 5 + 1, snapshot.quantities()[row]);
+            assertEquals(row * 100, snapshot.prices()[row]);
+        }
+    }
+
+    @Test
+    void snapshotIsNotAffectedByLaterAppends() {
+        CustomerStatisticsColumns columns = new CustomerStatisticsColumns();
+        columns.append("member-a", 1L, LocalDate.of(2024, 5, 1), Gender.MALE, 20, OrderType.General, 1, 1000);
+        CustomerStatisticsColumns.ColumnSnapshot snapshot = columns.snapshot();
+
+        for (int row = 0; row < 300; row++) {
+            columns.append("member-b", 2L, LocalDate.of(2024, 5, 2), Gender.FEMALE, 30, OrderType.Regular, 2, 2000);
+        }
+
+        assertEquals(1, snapshot.size());
+        assertEquals(0, snapshot.memberCodes()[0]);
+        assertEquals(1000, snapshot.prices()[0]);
+        assertEquals(301, columns.snapshot().size());
+    }
+}
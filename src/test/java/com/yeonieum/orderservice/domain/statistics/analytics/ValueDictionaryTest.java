@@ -0,0 +1,49 @@
+package com.yeonieum.orderservice.domain.statistics.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ValueDictionaryTest {
+
+    @Test
+    void encodesNewValuesWithSequentialCodes() {
+        ValueDictionary<String> dictionary = new ValueDictionary<>();
+
+        assertEquals(0, dictionary.encode("member-a"));
+        assertEquals(1, dictionary.encode("member-b"));
+        assertEquals(2, dictionary.encode("member-c"));
+    }
+
+    @Test
+    void encodesSameValueWithSameCode() {
+        ValueDictionary<Long> dictionary = new ValueDictionary<>();
+        int code = dictionary.encode(100L);
+        dictionary.encode(200L);
+
+        assertEquals(code, dictionary.encode(100L));
+        assertEquals(code, dictionary.lookup(100L));
+    }
+
+    @Test
+    void decodesCodeBackToValue() {
+        ValueDictionary<Long> dictionary = new ValueDictionary<>();
+        for (long productId = 1000; productId < 2000; productId++) {
+            dictionary.encode(productId);
+        }
+
+        for (long productId = 1000; productId < 2000; productId++) {
+            assertEquals(productId, dictionary.decode(dictionary.lookup(productId)));
+        }
+    }
+
+    @Test
+    void lookupOfUnknownValueReturnsMinusOne() {
+        ValueDictionary<String> dictionary = new ValueDictionary<>();
+        dictionary.encode("member-a");
+
+        assertEquals(-1, dictionary.lookup("member-z"));
+        // 조회만으로는 사전에 추가되지 않음
+        assertEquals(1, dictionary.encode("member-z"));
+    }
+}
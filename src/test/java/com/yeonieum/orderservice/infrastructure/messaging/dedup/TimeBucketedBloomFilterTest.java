@@ -0,0 +1,72 @@
+package com.yeonieum.orderservice.infrastructure.messaging.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeBucketedBloomFilterTest {
+
+    @Test
+    void storedKeysAreAlwaysFound() {
+        TimeBucketedBloomFilter bloomFilter = new TimeBucketedBloomFilter(10_000, 0.01, 24);
+        for (int index = 0; index < 10_000; index++) {
+            bloomFilter.put(100L, "event-" + index + ":ORDER");
+        }
+
+        for (int index = 0; index < 10_000; index++) {
+            assertTrue(bloomFilter.bucketsMightContain(100L, "event-" + index + ":ORDER").contains(100L));
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        TimeBucketedBloomFilter bloomFilter = new TimeBucketedBloomFilter(10_000, 0.01, 24);
+        for (int index = 0; index < 10_000; index++) {
+            bloomFilter.put(100L, "event-" + index + ":ORDER");
+        }
+
+        int falsePositives = 0;
+        for (int index = 0; index < 10_000; index++) {
+            if (!bloomFilter.bucketsMightContain(100L, "other-" + index + ":ORDER").isEmpty()) {
+                falsePositives++;
+            }
+        }
+        // 목표 오탐률 1%, 여유를 두고 3% 미만
+        assertTrue(falsePositives < 300, "false positives " + falsePositives);
+    }
+
+    @Test
+    void candidatesAreReturnedNewestBucketFirst() {
+        TimeBucketedBloomFilter bloomFilter = new TimeBucketedBloomFilter(1_000, 0.01, 24);
+        bloomFilter.put(10L, "event-1:ORDER");
+        bloomFilter.put(12L, "event-1:ORDER");
+        bloomFilter.put(11L, "event-2:ORDER");
+
+        assertEquals(List.of(12L, 10L), bloomFilter.bucketsMightContain(12L, "event-1:ORDER"));
+        assertEquals(List.of(11L), bloomFilter.bucketsMightContain(12L, "event-2:ORDER"));
+    }
+
+    @Test
+    void bucketsOlderThanRetentionAreEvicted() {
+        TimeBucketedBloomFilter bloomFilter = new TimeBucketedBloomFilter(1_000, 0.01, 3);
+        bloomFilter.put(10L, "event-1:ORDER");
+        bloomFilter.put(11L, "event-2:ORDER");
+
+        // 보관 구간 3개: 현재 12이면 10~12 유지, 현재 13이면 10은 버려짐
+        assertEquals(List.of(10L), bloomFilter.bucketsMightContain(12L, "event-1:ORDER"));
+        assertEquals(List.of(), bloomFilter.bucketsMightContain(13L, "event-1:ORDER"));
+        assertEquals(List.of(11L), bloomFilter.bucketsMightContain(13L, "event-2:ORDER"));
+    }
+
+    @Test
+    void putIntoNewBucketEvictsExpiredBuckets() {
+        TimeBucketedBloomFilter bloomFilter = new TimeBucketedBloomFilter(1_000, 0.01, 2);
+        bloomFilter.put(10L, "event-1:ORDER");
+        bloomFilter.put(20L, "event-2:ORDER");
+
+        assertEquals(List.of(), bloomFilter.bucketsMightContain(10L, "event-1:ORDER"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.yeonieum.orderservice.infrastructure.sms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    @Test
+    void burstUpToCapacityDoesNotWait() throws InterruptedException {
+        TokenBucket tokenBucket = new TokenBucket(10, 50);
+
+        long elapsedMillis = measureMillis(() -> tokenBucket.acquire(50));
+
+        assertTrue(elapsedMillis < 50, "elapsed " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void waitsForRefillAtConfiguredRate() throws InterruptedException {
+        TokenBucket tokenBucket = new TokenBucket(100, 10);
+        tokenBucket.acquire(10);
+
+        // 비어 있는 버킷에서 20개를 가져가려면 초당 100개 기준 약 200ms 필요
+        long elapsedMillis = measureMillis(() -> tokenBucket.acquire(20));
+
+        assertTrue(elapsedMillis >= 180, "elapsed " + elapsedMillis + "ms");
+        assertTrue(elapsedMillis < 1000, "elapsed " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void permitsLargerThanCapacityAreTakenInParts() throws InterruptedException {
+        TokenBucket tokenBucket = new TokenBucket(100, 10);
+
+        // 처음 10개는 바로, 나머지 15개는 약 150ms 동안 채워진 뒤 가져감
+        long elapsedMillis = measureMillis(() -> tokenBucket.acquire(25));
+
+        assertTrue(elapsedMillis >= 130, "elapsed " + elapsedMillis + "ms");
+        assertTrue(elapsedMillis < 1000, "elapsed " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void tokensDoNotAccumulateBeyondCapacity() throws InterruptedException {
+        TokenBucket tokenBucket = new TokenBucket(1000, 5);
+        Thread.sleep(100);
+
+        // 100ms 동안 100개가 채워질 시간이지만 최대 5개까지만 쌓이므로 나머지 5개는 기다려야 함
+        long elapsedMillis = measureMillis(() -> tokenBucket.acquire(10));
+
+        assertTrue(elapsedMillis >= 3, "elapsed " + elapsedMillis + "ms");
+    }
+
+    private static long measureMillis(Acquisition acquisition) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        acquisition.run();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    @FunctionalInterface
+    private interface Acquisition {
+        void run() throws InterruptedException;
+    }
+}